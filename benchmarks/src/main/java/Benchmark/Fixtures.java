@@ -0,0 +1,134 @@
+package Benchmark;
+
+import COD.API.CODStatsManager;
+import COD.API.MWManager;
+import COD.API.Parsing.MWAPIParser;
+import COD.PlayerStats.MWPlayerStats;
+import Command.Structure.EmbedHelper;
+import Command.Structure.PieChart;
+import Runescape.Hiscores.HiscoresApiResponse;
+import Runescape.Hiscores.HiscoresCsv;
+import Runescape.Hiscores.OSRSHiscores;
+import Runescape.Hiscores.RS3Hiscores;
+import Runescape.Stats.OSRSPlayerStats;
+import Runescape.Stats.PlayerStats;
+import Runescape.Stats.RS3PlayerStats;
+import org.json.JSONObject;
+
+import java.awt.*;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+
+/**
+ * Player stats & chart data for the benchmarks, built from checked in hiscores/COD API responses (no network).
+ * The stats are parsed by the hiscores/COD parsers, in the same way as the responses of a lookup.
+ */
+public class Fixtures {
+    public static final String
+            OSRS_STATS = "/Fixtures/osrs_stats.csv",
+            RS3_STATS = "/Fixtures/rs3_stats.csv",
+            MW_STATS = "/Fixtures/mw_stats.json";
+    private static final String
+            NAME = "Benchmark",
+            URL = "https://secure.runescape.com/";
+
+    /**
+     * Read the given hiscores API response fixture
+     *
+     * @param path Resource path to fixture
+     * @return Hiscores CSV
+     */
+    private static HiscoresCsv readCsv(String path) {
+        return HiscoresCsv.parse(readFixture(path));
+    }
+
+    /**
+     * Read the body of the given API response fixture
+     *
+     * @param path Resource path to fixture - e.g {@link #OSRS_STATS}
+     * @return Response body
+     */
+    public static String readFixture(String path) {
+        try(InputStream stream = Fixtures.class.getResourceAsStream(path)) {
+            if(stream == null) {
+                throw new IllegalStateException("Missing fixture: " + path);
+            }
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while((read = stream.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+            return new String(body.toByteArray(), StandardCharsets.UTF_8);
+        }
+        catch(IOException e) {
+            throw new IllegalStateException("Unable to read fixture: " + path, e);
+        }
+    }
+
+    /**
+     * Create OSRS player stats from the OSRS hiscores fixture
+     *
+     * @return OSRS player stats
+     */
+    public static OSRSPlayerStats getOSRSPlayerStats() {
+        return OSRSHiscores.parseCsvStats(getApiResponse(OSRS_STATS), new HashSet<>());
+    }
+
+    /**
+     * Create RS3 player stats from the RS3 hiscores fixture
+     *
+     * @return RS3 player stats
+     */
+    public static RS3PlayerStats getRS3PlayerStats() {
+        return RS3Hiscores.parseCsvStats(getApiResponse(RS3_STATS));
+    }
+
+    /**
+     * Create Modern Warfare player stats from the MW API fixture
+     *
+     * @return MW player stats
+     */
+    public static MWPlayerStats getMWPlayerStats() {
+        return new MWAPIParser(MWManager.getInstance()).parseStatsResponse(
+                NAME,
+                CODStatsManager.PLATFORM.BATTLE,
+                new JSONObject(readFixture(MW_STATS))
+        );
+    }
+
+    /**
+     * Create a normal account hiscores API response from the given hiscores API response fixture
+     *
+     * @param path Resource path to fixture
+     * @return Hiscores API response
+     */
+    private static HiscoresApiResponse getApiResponse(String path) {
+        return new HiscoresApiResponse(NAME, URL, PlayerStats.ACCOUNT.NORMAL, readCsv(path));
+    }
+
+    /**
+     * Create pie chart sections for the given number of items with fixed quantities & colours
+     *
+     * @param sections Number of sections
+     * @return Pie chart sections
+     */
+    public static PieChart.Section[] getPieChartSections(int sections) {
+        final Color[] colours = new Color[]{
+                new Color(EmbedHelper.BLUE),
+                new Color(EmbedHelper.GREEN),
+                new Color(EmbedHelper.PURPLE),
+                new Color(EmbedHelper.YELLOW),
+                new Color(EmbedHelper.RED),
+                new Color(EmbedHelper.ORANGE)
+        };
+        final PieChart.Section[] chartSections = new PieChart.Section[sections];
+        for(int i = 0; i < sections; i++) {
+            chartSections[i] = new PieChart.Section("Section " + (i + 1), (i + 1) * 10L, colours[i % colours.length]);
+        }
+        return chartSections;
+    }
+}
@@ -0,0 +1,62 @@
+package Benchmark;
+
+import Runescape.Hiscores.HiscoresCsv;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse a hiscores API response, this is done for every account type checked in a hiscores lookup.
+ * The single pass parse is compared against splitting the response in to Strings and parsing each value.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HiscoresCsvBenchmark {
+
+    @Param({Fixtures.OSRS_STATS, Fixtures.RS3_STATS})
+    public String fixture;
+
+    private String body;
+
+    /**
+     * Read the hiscores API response to parse
+     */
+    @Setup
+    public void setup() {
+        this.body = Fixtures.readFixture(fixture);
+    }
+
+    /**
+     * Parse the response in a single pass & read every value
+     *
+     * @return Sum of values
+     */
+    @Benchmark
+    public long parse() {
+        final HiscoresCsv csv = HiscoresCsv.parse(body);
+        long sum = 0;
+        for(int i = 0; i < csv.size(); i++) {
+            sum += csv.getLong(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Split the response in to Strings & parse every value (how the response was previously parsed)
+     *
+     * @return Sum of values
+     */
+    @Benchmark
+    public long split() {
+        final String[] values = body.replace("\n", ",").split(",");
+        long sum = 0;
+        for(String value : values) {
+            sum += Long.parseLong(value);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,77 @@
+package Benchmark;
+
+import Bot.FontManager;
+import Command.Commands.Lookup.RunescapeLookupCommand.ARGUMENT;
+import Runescape.ImageBuilding.OSRSHiscoresImageBuilder;
+import Runescape.ImageBuilding.RS3HiscoresImageBuilder;
+import Runescape.Stats.OSRSPlayerStats;
+import Runescape.Stats.RS3PlayerStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render the OSRS & RS3 hiscores images from the hiscores fixtures.
+ * The builders are created without hiscores/emotes as neither is used to render an image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HiscoresImageBenchmark {
+
+    /*
+     * Space separated hiscores arguments to render the OSRS image with - e.g "SKILL_XP MAX".
+     * BOSSES renders the boss only image.
+     */
+    @Param({"", "SKILL_XP VIRTUAL", "BOSSES"})
+    public String args;
+
+    private OSRSHiscoresImageBuilder osrsBuilder;
+    private RS3HiscoresImageBuilder rs3Builder;
+    private OSRSPlayerStats osrsStats;
+    private RS3PlayerStats rs3Stats;
+    private HashSet<ARGUMENT> osrsArgs;
+
+    /**
+     * Load the fonts, builders & fixture stats
+     */
+    @Setup
+    public void setup() {
+        FontManager.initialiseFonts();
+        this.osrsBuilder = new OSRSHiscoresImageBuilder(null, null, null);
+        this.rs3Builder = new RS3HiscoresImageBuilder(null, null, null);
+        this.osrsStats = Fixtures.getOSRSPlayerStats();
+        this.rs3Stats = Fixtures.getRS3PlayerStats();
+        this.osrsArgs = new HashSet<>();
+        for(String arg : args.split(" ")) {
+            if(!arg.isEmpty()) {
+                osrsArgs.add(ARGUMENT.valueOf(arg));
+            }
+        }
+    }
+
+    /**
+     * Render the OSRS hiscores image
+     *
+     * @return OSRS hiscores image
+     */
+    @Benchmark
+    public BufferedImage osrsHiscoresImage() {
+        return osrsBuilder.buildHiscoresImage(osrsStats, osrsArgs);
+    }
+
+    /**
+     * Render the RS3 hiscores image
+     *
+     * @return RS3 hiscores image
+     */
+    @Benchmark
+    public BufferedImage rs3HiscoresImage() {
+        return rs3Builder.buildHiscoresImage(rs3Stats, new HashSet<>());
+    }
+}
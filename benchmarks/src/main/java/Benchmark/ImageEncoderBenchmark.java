@@ -0,0 +1,53 @@
+package Benchmark;
+
+import Bot.FontManager;
+import Command.Structure.ImageEncoder;
+import Command.Structure.ImageLoadingMessage;
+import Runescape.ImageBuilding.OSRSHiscoresImageBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode a rendered OSRS hiscores image to be uploaded, this is done for every image the bot sends
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ImageEncoderBenchmark {
+
+    @Param({"true", "false"})
+    public boolean palette;
+
+    private BufferedImage image;
+
+    /**
+     * Render the image to encode & configure the encoder
+     */
+    @Setup
+    public void setup() {
+        FontManager.initialiseFonts();
+        this.image = new OSRSHiscoresImageBuilder(null, null, null).buildHiscoresImage(
+                Fixtures.getOSRSPlayerStats(),
+                new HashSet<>()
+        );
+        final ImageEncoder encoder = ImageEncoder.getInstance();
+        encoder.setLogging(false);
+        encoder.setPalette(palette);
+    }
+
+    /**
+     * Encode the image as a PNG
+     *
+     * @return PNG bytes
+     */
+    @Benchmark
+    public byte[] encodePng() {
+        return ImageLoadingMessage.imageToByteArray(image);
+    }
+}
@@ -0,0 +1,50 @@
+package Benchmark;
+
+import Bot.FontManager;
+import Command.Structure.PieChart;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render a pie chart (as used in the match history breakdowns) with its key
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PieChartBenchmark {
+
+    @Param({"5", "20"})
+    public int sections;
+
+    @Param({"false", "true"})
+    public boolean donut;
+
+    private PieChart.Section[] chartSections;
+    private Font font;
+
+    /**
+     * Load the font & chart sections
+     */
+    @Setup
+    public void setup() {
+        FontManager.initialiseFonts();
+        this.font = FontManager.MODERN_WARFARE_FONT;
+        this.chartSections = Fixtures.getPieChartSections(sections);
+    }
+
+    /**
+     * Render the chart & key as one image
+     *
+     * @return Pie chart image
+     */
+    @Benchmark
+    public BufferedImage pieChart() {
+        return new PieChart(chartSections, font, donut).getFullImage(true);
+    }
+}
@@ -0,0 +1,45 @@
+package COD;
+
+import Benchmark.Fixtures;
+import Bot.FontManager;
+import COD.PlayerStats.MWPlayerStats;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render the Modern Warfare combat record image from the MW API fixture.
+ * The image is rendered through {@link CombatRecordImageBuilder#drawCombatRecord(MWPlayerStats)} so that the
+ * encoded image cache is bypassed. The builder is created without emotes as they are not used to render an image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CombatRecordImageBenchmark {
+    private CombatRecordImageBuilder builder;
+    private MWPlayerStats stats;
+
+    /**
+     * Load the fonts, builder & fixture stats
+     */
+    @Setup
+    public void setup() {
+        FontManager.initialiseFonts();
+        this.builder = new CombatRecordImageBuilder(null, null, "MW", FontManager.MODERN_WARFARE_FONT);
+        this.stats = Fixtures.getMWPlayerStats();
+    }
+
+    /**
+     * Render the combat record image
+     *
+     * @return Combat record image
+     */
+    @Benchmark
+    public BufferedImage combatRecordImage() {
+        return builder.drawCombatRecord(stats);
+    }
+}
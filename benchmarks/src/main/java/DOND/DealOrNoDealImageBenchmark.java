@@ -0,0 +1,65 @@
+package DOND;
+
+import Bot.FontManager;
+import Bot.ResourceHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render the Deal or No Deal game image after opening briefcases in a new game.
+ * The game image is retained between updates & only the briefcases/rewards changed since the previous update are
+ * redrawn, so a new game is dealt (with the same rewards) & the briefcases opened before each render.
+ * The game is dealt through {@link DealOrNoDeal#dealBriefcases(Random)} as starting a game requires a channel.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class DealOrNoDealImageBenchmark {
+    private static final long SEED = 26;
+
+    /*
+     * Number of briefcases opened since the previous render - e.g 6 for the first round.
+     * 0 renders the unchanged image of a new game, 26 redraws every briefcase & reward.
+     */
+    @Param({"0", "6", "26"})
+    public int opened;
+
+    private DealOrNoDeal game;
+
+    /**
+     * Load the fonts & game assets
+     */
+    @Setup(Level.Trial)
+    public void loadAssets() {
+        FontManager.initialiseFonts();
+        DealOrNoDeal.registerAssets(new ResourceHandler());
+        this.game = new DealOrNoDeal(null, null, null);
+    }
+
+    /**
+     * Deal a new game & open the briefcases to render
+     */
+    @Setup(Level.Invocation)
+    public void openBriefcases() {
+        game.dealBriefcases(new Random(SEED));
+        for(int i = 1; i <= opened; i++) {
+            game.getCase(i).openCase();
+        }
+    }
+
+    /**
+     * Render the game image
+     *
+     * @return Game image
+     */
+    @Benchmark
+    public BufferedImage gameImage() {
+        return game.buildGameImage();
+    }
+}
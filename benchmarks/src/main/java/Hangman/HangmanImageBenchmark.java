@@ -0,0 +1,49 @@
+package Hangman;
+
+import Bot.ResourceHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render the Hangman image of a game in progress on each of the Shrek gallows stages.
+ * The image is rendered through {@link Hangman#renderImage(BufferedImage, String)} as the game itself requires a
+ * channel to play in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HangmanImageBenchmark {
+
+    // Gallows stage image to render on, the images grow more detailed with each stage
+    @Param({"board.png", "head_body_leg_2_arm_2.png"})
+    public String stage;
+
+    // Current guess to display beneath the gallows
+    @Param({"_a_a__ ____", "banana split"})
+    public String guess;
+
+    private BufferedImage gallows;
+
+    /**
+     * Load the gallows stage image
+     */
+    @Setup
+    public void setup() {
+        this.gallows = new ResourceHandler().getImageResource("/Hangman/Shrek/" + stage);
+    }
+
+    /**
+     * Render the Hangman image
+     *
+     * @return Hangman image
+     */
+    @Benchmark
+    public BufferedImage hangmanImage() {
+        return Hangman.renderImage(gallows, guess);
+    }
+}
@@ -0,0 +1,105 @@
+package Riot.LOL.Blitz;
+
+import Bot.FontManager;
+import Bot.ResourceHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Render the Blitz champion build image from a fixed Darius top lane build.
+ * The build is created from the checked in champion/item/rune images rather than fetched from Blitz & Data Dragon,
+ * and rendered through {@link BlitzImageBuilder#renderImage(BuildData)} so that the encoded image cache is bypassed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BlitzImageBenchmark {
+    private BlitzImageBuilder builder;
+    private BuildData buildData;
+
+    /**
+     * Load the fonts, builder & build data
+     */
+    @Setup
+    public void setup() {
+        FontManager.initialiseFonts();
+        this.builder = new BlitzImageBuilder();
+        this.buildData = new BuildData(
+                "11.24",
+                "11.24",
+                getChampion(),
+                "TOP",
+                new SummonerSpell[]{
+                        new SummonerSpell("Flash", "SummonerFlash"),
+                        new SummonerSpell("Ghost", "SummonerHaste")
+                },
+                new Item[]{
+                        new Item("Doran's Shield", "1054"),
+                        new Item("Health Potion", "2003")
+                },
+                new Item[]{
+                        new Item("Goredrinker", "6630"),
+                        new Item("Plated Steelcaps", "3047"),
+                        new Item("Sterak's Gage", "3053")
+                },
+                new Item[]{
+                        new Item("Goredrinker", "6630"),
+                        new Item("Plated Steelcaps", "3047"),
+                        new Item("Sterak's Gage", "3053"),
+                        new Item("Dead Man's Plate", "3742"),
+                        new Item("Thornmail", "3075"),
+                        new Item("Randuin's Omen", "3143")
+                },
+                new int[]{0, 2, 1, 0, 0, 3, 0, 1, 0, 1, 3, 1, 1, 2, 2, 3, 2, 2},
+                new Rune[]{
+                        new Rune(8010, "Conqueror", "Conqueror.png", true),
+                        new Rune(9111, "Triumph", "Triumph.png", false),
+                        new Rune(9105, "Legend: Tenacity", "LegendTenacity.png", false),
+                        new Rune(8299, "Last Stand", "CoupDeGrace.png", false),
+                        new Rune(8446, "Demolish", "Demolish.png", true),
+                        new Rune(8444, "Second Wind", "SecondWind.png", false),
+                        new Rune(5008, "Adaptive Force", "StatModsAdaptiveForceIcon.png", false),
+                        new Rune(5008, "Adaptive Force", "StatModsAdaptiveForceIcon.png", false),
+                        new Rune(5002, "Armor", "StatModsArmorIcon.png", false)
+                },
+                0.5213,
+                18734
+        );
+    }
+
+    /**
+     * Create Darius with the checked in ability images
+     *
+     * @return Darius
+     */
+    private static Champion getChampion() {
+        final ResourceHandler handler = new ResourceHandler();
+        final String[] buttons = new String[]{"Q", "W", "E", "R"};
+        final String[] abilityImages = new String[]{
+                "DariusCleave", "DariusNoxianTacticsONH", "DariusAxeGrabCone", "DariusExecute"
+        };
+        final Ability[] abilities = new Ability[buttons.length];
+        for(int i = 0; i < abilities.length; i++) {
+            abilities[i] = new Ability(
+                    handler.getImageResource(Ability.ORDER_PATH + buttons[i] + ".png"),
+                    handler.getImageResource(Ability.BASE_PATH + abilityImages[i] + ".png")
+            );
+        }
+        return new Champion("Darius", "122", "Darius", abilities);
+    }
+
+    /**
+     * Render the build image
+     *
+     * @return Build image
+     */
+    @Benchmark
+    public BufferedImage buildImage() {
+        return builder.renderImage(buildData);
+    }
+}
@@ -1,5 +1,6 @@
 package Audio;
 
+import Command.Structure.CommandExecutor;
 import com.sedmelluq.discord.lavaplayer.player.AudioPlayer;
 import com.sedmelluq.discord.lavaplayer.player.event.AudioEventAdapter;
 import com.sedmelluq.discord.lavaplayer.tools.FriendlyException;
@@ -66,10 +67,14 @@ public class TrackEndListener extends AudioEventAdapter {
             player.removeListener(this);
 
             if(leave) {
-                new Thread(() -> guild.getAudioManager().closeAudioConnection()).start();
+                CommandExecutor.getInstance().executeOrRun(
+                        guild,
+                        CommandExecutor.POOL.IO,
+                        () -> guild.getAudioManager().closeAudioConnection()
+                );
             }
             if(method != null) {
-                new Thread(method::processFinish).start();
+                CommandExecutor.getInstance().executeOrRun(guild, CommandExecutor.POOL.IO, method::processFinish);
             }
         }
         catch(Exception e) {
@@ -0,0 +1,247 @@
+package Bot;
+
+import Command.Structure.DiscordCommand;
+import net.dv8tion.jda.api.entities.Message;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Index of commands built once at registration, used to find the command for a message without
+ * compiling & testing the trigger of every registered command.
+ * Commands are split in to three tiers:
+ * Literal - Default matches & a trigger with no regex characters, looked up by the full query in a map
+ * Regex - Default matches & a regex trigger, precompiled and only tried when the query starts with the literal prefix
+ * Fallback - Commands which override matches, their matches method is called as before
+ * The command returned is always the first registered command which matches, the same as checking each in order.
+ */
+public class CommandIndex {
+    private static final String REGEX_CHARACTERS = "\\^$.|?*+()[]{}";
+    private final HashMap<String, IndexedCommand> literalCommands;
+    private final ArrayList<IndexedCommand> orderedCommands;
+
+    /**
+     * Build the index from the given list of commands
+     *
+     * @param commands Commands in registration order
+     */
+    public CommandIndex(List<DiscordCommand> commands) {
+        this.literalCommands = new HashMap<>();
+        this.orderedCommands = new ArrayList<>();
+
+        for(int i = 0; i < commands.size(); i++) {
+            DiscordCommand command = commands.get(i);
+            IndexedCommand indexedCommand = new IndexedCommand(command, i);
+
+            // Only keep the earliest command for a literal trigger, later duplicates could never be reached
+            if(indexedCommand.getTier() == TIER.LITERAL) {
+                literalCommands.putIfAbsent(indexedCommand.getLiteral(), indexedCommand);
+                continue;
+            }
+            orderedCommands.add(indexedCommand);
+        }
+    }
+
+    /**
+     * Find the first registered command which matches the given query
+     *
+     * @param query   Lower case message content
+     * @param message Message object
+     * @return Matching command or null
+     */
+    public DiscordCommand getCommand(String query, Message message) {
+        IndexedCommand literalMatch = literalCommands.get(query);
+        int limit = literalMatch == null ? Integer.MAX_VALUE : literalMatch.getOrder();
+
+        // Regex & fallback commands registered before the literal match take priority
+        for(IndexedCommand indexedCommand : orderedCommands) {
+            if(indexedCommand.getOrder() > limit) {
+                break;
+            }
+            if(indexedCommand.matches(query, message)) {
+                return indexedCommand.getCommand();
+            }
+        }
+        return literalMatch == null ? null : literalMatch.getCommand();
+    }
+
+    /**
+     * Check whether the given command overrides the default matches method
+     *
+     * @param command Command to check
+     * @return Command overrides matches
+     */
+    private static boolean overridesMatches(DiscordCommand command) {
+        try {
+            return command
+                    .getClass()
+                    .getMethod("matches", String.class, Message.class)
+                    .getDeclaringClass() != DiscordCommand.class;
+        }
+        catch(NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Check whether the given trigger contains any regex characters
+     *
+     * @param trigger Trigger to check
+     * @return Trigger contains regex characters
+     */
+    private static boolean isRegex(String trigger) {
+        for(char c : trigger.toCharArray()) {
+            if(REGEX_CHARACTERS.indexOf(c) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the literal prefix of the given regex trigger - any query matching the regex must start with this prefix.
+     * E.g "g.e" -> "g", "mwdata [weapon name/category]" -> "mwdata ".
+     *
+     * @param regex Regex trigger
+     * @return Literal prefix (may be empty)
+     */
+    private static String getLiteralPrefix(String regex) {
+
+        // Alternation may allow the query to start with anything
+        if(regex.indexOf('|') != -1) {
+            return "";
+        }
+        int i = 0;
+        while(i < regex.length() && REGEX_CHARACTERS.indexOf(regex.charAt(i)) == -1) {
+            i++;
+        }
+        if(i == regex.length()) {
+            return regex;
+        }
+
+        // Quantifier makes the preceding character optional/repeated
+        char next = regex.charAt(i);
+        if((next == '?' || next == '*' || next == '{') && i > 0) {
+            i--;
+        }
+        return regex.substring(0, i);
+    }
+
+    private enum TIER {
+        LITERAL,
+        REGEX,
+        FALLBACK
+    }
+
+    /**
+     * Command wrapped with its registration order & precomputed matching data
+     */
+    private static class IndexedCommand {
+        private final DiscordCommand command;
+        private final int order;
+        private final TIER tier;
+        private final String literal;
+        private final Pattern pattern;
+
+        /**
+         * Create the indexed command
+         *
+         * @param command Command to index
+         * @param order   Registration order of command
+         */
+        public IndexedCommand(DiscordCommand command, int order) {
+            this.command = command;
+            this.order = order;
+            String trigger = command.getTrigger().toLowerCase();
+
+            if(overridesMatches(command)) {
+                this.tier = TIER.FALLBACK;
+                this.literal = null;
+                this.pattern = null;
+            }
+            else if(isRegex(trigger)) {
+                this.pattern = compile(trigger);
+                this.tier = pattern == null ? TIER.FALLBACK : TIER.REGEX;
+                this.literal = pattern == null ? null : getLiteralPrefix(trigger);
+            }
+            else {
+                this.tier = TIER.LITERAL;
+                this.literal = trigger;
+                this.pattern = null;
+            }
+        }
+
+        /**
+         * Compile the given regex trigger
+         *
+         * @param trigger Regex trigger
+         * @return Compiled pattern or null if the trigger is not valid regex
+         */
+        private static Pattern compile(String trigger) {
+            try {
+                return Pattern.compile(trigger);
+            }
+            catch(PatternSyntaxException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Check whether the command matches the given query.
+         * Literal commands are not checked here as they are found by map lookup.
+         *
+         * @param query   Lower case message content
+         * @param message Message object
+         * @return Query matches command
+         */
+        public boolean matches(String query, Message message) {
+            switch(tier) {
+                case REGEX:
+                    return query.startsWith(literal) && pattern.matcher(query).matches();
+                case FALLBACK:
+                    return command.matches(query, message);
+                default:
+                    return query.equals(literal);
+            }
+        }
+
+        /**
+         * Get the literal trigger (literal tier) or literal prefix (regex tier)
+         *
+         * @return Literal
+         */
+        public String getLiteral() {
+            return literal;
+        }
+
+        /**
+         * Get the tier of the command
+         *
+         * @return Command tier
+         */
+        public TIER getTier() {
+            return tier;
+        }
+
+        /**
+         * Get the registration order of the command
+         *
+         * @return Registration order
+         */
+        public int getOrder() {
+            return order;
+        }
+
+        /**
+         * Get the command
+         *
+         * @return Command
+         */
+        public DiscordCommand getCommand() {
+            return command;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package Bot;
 
+import COD.API.CODManager;
+import COD.API.CWManager;
+import COD.API.MWManager;
 import Command.Commands.*;
 import Command.Commands.Audio.*;
 import Command.Commands.COD.CWCountdownCommand;
@@ -11,10 +14,12 @@ import Command.Commands.Link.*;
 import Command.Commands.Lookup.*;
 import Command.Commands.Passive.*;
 import Command.Commands.JSON.*;
+import Command.Commands.Runescape.OSRSClanCommand;
 import Command.Commands.Runescape.OSRSPollCommand;
 import Command.Commands.Runescape.TrailblazerCommand;
 import Command.Commands.Variable.*;
 import Command.Structure.*;
+import Runescape.Hiscores.XpTracker;
 import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
@@ -27,6 +32,7 @@ import java.util.ArrayList;
 public class DiscordCommandManager {
     private final ArrayList<DiscordCommand> commands, viewableCommands;
     private final ArrayList<OnReadyDiscordCommand> onReadyCommands;
+    private final CommandIndex commandIndex;
     public EmoteHelper emoteHelper;
 
     /**
@@ -38,6 +44,16 @@ public class DiscordCommandManager {
         this.viewableCommands = new ArrayList<>();
         this.onReadyCommands = new ArrayList<>();
         addCommands();
+        this.commandIndex = new CommandIndex(commands);
+
+        // The MW/CW managers are built by the commands, their common asset images are decoded in the background
+        if(CODManager.WARM_UP_ASSETS) {
+            MWManager.getInstance().warmUp();
+            CWManager.getInstance().warmUp();
+        }
+
+        // Snapshot the XP of the tracked OSRS players in the background
+        XpTracker.getInstance().scheduleSnapshots();
     }
 
     /**
@@ -53,19 +69,13 @@ public class DiscordCommandManager {
     }
 
     /**
-     * Check a given query against the matches method of each command
+     * Find the first registered command which matches the given message using the command index
      *
      * @param message Message from chat
      * @return Command if found or null
      */
     private DiscordCommand getCommand(Message message) {
-        String query = message.getContentRaw().toLowerCase();
-        for(DiscordCommand c : commands) {
-            if(c.matches(query, message)) {
-                return c;
-            }
-        }
-        return null;
+        return commandIndex.getCommand(message.getContentRaw().toLowerCase(), message);
     }
 
     /**
@@ -148,6 +158,7 @@ public class DiscordCommandManager {
         addCommand(new FBICommand());
         addCommand(new MillionaireCommand());
         addCommand(new TrailblazerCommand());
+        addCommand(new OSRSClanCommand());
         addCommand(new MWHistoryCommand());
         addCommand(new CWHistoryCommand());
         addCommand(new DealOrNoDealCommand());
@@ -0,0 +1,265 @@
+package Bot;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cache of decoded image resources, keyed by resource path.
+ * Images are weighted by their decoded size (width * height * 4 bytes) and the least recently used images are evicted
+ * once the memory budget is exceeded. Images may optionally be held by soft references, allowing the garbage
+ * collector to reclaim them under memory pressure before they are evicted.
+ * Cached images are shared between callers and must not be drawn on, use {@link #copy(BufferedImage)} first.
+ */
+public class ImageCache {
+    public static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024; // 256MB
+    private static ImageCache instance = null;
+    private final LinkedHashMap<String, CachedImage> images;
+    private long maxBytes, bytes, hits, misses, evictions;
+    private boolean softReferences;
+
+    /**
+     * Create the image cache with the default memory budget
+     */
+    private ImageCache() {
+        this.images = new LinkedHashMap<>(64, 0.75f, true);
+        this.maxBytes = DEFAULT_MAX_BYTES;
+        this.softReferences = false;
+    }
+
+    /**
+     * Get an instance of the image cache
+     *
+     * @return Instance
+     */
+    public static synchronized ImageCache getInstance() {
+        if(instance == null) {
+            instance = new ImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the cached image for the given path, loading and caching it if it is not cached.
+     * The returned image is shared and must not be modified.
+     *
+     * @param path   Resource path of image
+     * @param loader Function to load the image from the path
+     * @return Cached image or null (unable to load)
+     */
+    @Nullable
+    public BufferedImage get(String path, Function<String, BufferedImage> loader) {
+        synchronized(this) {
+            final CachedImage cached = images.get(path);
+            if(cached != null) {
+                final BufferedImage image = cached.getImage();
+                if(image != null) {
+                    hits++;
+                    return image;
+                }
+
+                // Soft reference was cleared
+                remove(path);
+            }
+            misses++;
+        }
+
+        // Load outside of the lock, another thread may load the same image but the result is the same
+        final BufferedImage image = loader.apply(path);
+        if(image != null) {
+            put(path, image);
+        }
+        return image;
+    }
+
+    /**
+     * Get the cached image for the given path without loading it if it is not cached.
+     * The returned image is shared and must not be modified.
+     *
+     * @param path Resource path of image
+     * @return Cached image or null (not cached)
+     */
+    @Nullable
+    public synchronized BufferedImage getIfPresent(String path) {
+        final CachedImage cached = images.get(path);
+        final BufferedImage image = cached == null ? null : cached.getImage();
+        if(image != null) {
+            hits++;
+        }
+        return image;
+    }
+
+    /**
+     * Cache the given image, evicting the least recently used images if the memory budget is exceeded.
+     * Images larger than the budget are not cached.
+     *
+     * @param path  Resource path of image
+     * @param image Image to cache
+     */
+    private synchronized void put(String path, BufferedImage image) {
+        final long weight = getWeight(image);
+        if(weight > maxBytes) {
+            return;
+        }
+        remove(path);
+        images.put(path, new CachedImage(image, weight, softReferences));
+        bytes += weight;
+        evict();
+    }
+
+    /**
+     * Remove the image of the given path from the cache
+     *
+     * @param path Resource path of image
+     */
+    private void remove(String path) {
+        final CachedImage removed = images.remove(path);
+        if(removed != null) {
+            bytes -= removed.getWeight();
+        }
+    }
+
+    /**
+     * Evict the least recently used images until the cache is within the memory budget
+     */
+    private void evict() {
+        final Iterator<Map.Entry<String, CachedImage>> iterator = images.entrySet().iterator();
+        while(bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().getValue().getWeight();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Set the memory budget of the cache, evicting images if the cache exceeds the new budget
+     *
+     * @param maxBytes Maximum decoded bytes of cached images (0 to disable caching)
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        evict();
+    }
+
+    /**
+     * Set whether newly cached images should be held by soft references
+     *
+     * @param softReferences Hold images by soft references
+     */
+    public synchronized void setSoftReferences(boolean softReferences) {
+        this.softReferences = softReferences;
+    }
+
+    /**
+     * Remove all images from the cache
+     */
+    public synchronized void clear() {
+        images.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Get the number of image requests served from the cache
+     *
+     * @return Cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of image requests which required the image to be loaded
+     *
+     * @return Cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of images evicted to stay within the memory budget
+     *
+     * @return Cache evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Get the decoded bytes of the currently cached images
+     *
+     * @return Cached bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Get the weight of the given image in the cache (its decoded size)
+     *
+     * @param image Image to weigh
+     * @return Image weight in bytes
+     */
+    private static long getWeight(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * 4;
+    }
+
+    /**
+     * Create a copy of the given image which may be drawn on.
+     * The copy has the same colour model (and therefore type) as the given image.
+     *
+     * @param image Image to copy
+     * @return Copy of image
+     */
+    public static BufferedImage copy(BufferedImage image) {
+        final ColorModel colorModel = image.getColorModel();
+        return new BufferedImage(colorModel, image.copyData(null), colorModel.isAlphaPremultiplied(), null);
+    }
+
+    /**
+     * Cached image, held by either a strong or soft reference
+     */
+    private static class CachedImage {
+        private final BufferedImage image;
+        private final SoftReference<BufferedImage> softImage;
+        private final long weight;
+
+        /**
+         * Create the cached image
+         *
+         * @param image  Image to cache
+         * @param weight Weight of image in bytes
+         * @param soft   Hold the image by a soft reference
+         */
+        public CachedImage(BufferedImage image, long weight, boolean soft) {
+            this.image = soft ? null : image;
+            this.softImage = soft ? new SoftReference<>(image) : null;
+            this.weight = weight;
+        }
+
+        /**
+         * Get the cached image
+         *
+         * @return Image or null (soft reference has been cleared)
+         */
+        @Nullable
+        public BufferedImage getImage() {
+            return softImage == null ? image : softImage.get();
+        }
+
+        /**
+         * Get the weight of the image in bytes
+         *
+         * @return Image weight
+         */
+        public long getWeight() {
+            return weight;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package Bot;
 
+import Command.Structure.InteractionRouter;
 import Network.Secret;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.events.ReadyEvent;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
 import net.dv8tion.jda.api.events.guild.member.GuildMemberRoleAddEvent;
+import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
 import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
+import net.dv8tion.jda.api.events.message.guild.react.GuildMessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.guild.react.GuildMessageReactionRemoveEvent;
 import net.dv8tion.jda.api.events.message.priv.PrivateMessageReceivedEvent;
 import net.dv8tion.jda.api.hooks.ListenerAdapter;
 import org.jetbrains.annotations.NotNull;
@@ -35,6 +39,36 @@ public class Listener extends ListenerAdapter {
         commandManager.handleCommand(event);
     }
 
+    /**
+     * Button has been clicked, pass it to the interaction router to find the listener of the message
+     *
+     * @param event Button click event
+     */
+    @Override
+    public void onButtonClick(@Nonnull ButtonClickEvent event) {
+        InteractionRouter.getInstance().onButtonClick(event);
+    }
+
+    /**
+     * Reaction has been added to a message, pass it to the interaction router to find the listener of the message
+     *
+     * @param event Reaction added event
+     */
+    @Override
+    public void onGuildMessageReactionAdd(@Nonnull GuildMessageReactionAddEvent event) {
+        InteractionRouter.getInstance().onReactionAdd(event);
+    }
+
+    /**
+     * Reaction has been removed from a message, pass it to the interaction router to find the listener of the message
+     *
+     * @param event Reaction removed event
+     */
+    @Override
+    public void onGuildMessageReactionRemove(@Nonnull GuildMessageReactionRemoveEvent event) {
+        InteractionRouter.getInstance().onReactionRemove(event);
+    }
+
     /**
      * Welcome a new member when they join and add them to the kill list
      *
@@ -38,12 +38,50 @@ public class ResourceHandler {
     }
 
     /**
-     * Get an image resource
+     * Get an image resource which may be drawn on by the caller.
+     * The decoded image is not cached, use for images which are loaded once and held by the caller - e.g templates.
+     * If the image has already been cached by another caller, the cached image is copied rather than decoded.
+     * Use {@link #getImageResourceCopy(String)} for images which are loaded per request.
      *
      * @param path Path to file relative to resource image e.g - /COD/CW/Templates/Countdown/1.png
-     * @return Input stream of file
+     * @return Image or null
      */
     public BufferedImage getImageResource(String path) {
+        final BufferedImage cached = ImageCache.getInstance().getIfPresent(path);
+        return cached == null ? readImageResource(path) : ImageCache.copy(cached);
+    }
+
+    /**
+     * Get a copy of a cached image resource, decoding & caching the image only if it is not cached.
+     * The copy may be drawn on by the caller, use for images which are loaded per request.
+     * Use {@link #getSharedImageResource(String)} if the image will only be drawn on to other images.
+     *
+     * @param path Path to file relative to resource image e.g - /COD/CW/Templates/Countdown/1.png
+     * @return Image or null
+     */
+    public BufferedImage getImageResourceCopy(String path) {
+        final BufferedImage image = getSharedImageResource(path);
+        return image == null ? null : ImageCache.copy(image);
+    }
+
+    /**
+     * Get a cached image resource, decoding it only if it is not cached.
+     * The image is shared by all callers and must be treated as read only - it must not be drawn on.
+     *
+     * @param path Path to file relative to resource image e.g - /COD/CW/Templates/Countdown/1.png
+     * @return Shared image or null
+     */
+    public BufferedImage getSharedImageResource(String path) {
+        return ImageCache.getInstance().get(path, this::readImageResource);
+    }
+
+    /**
+     * Decode an image resource
+     *
+     * @param path Path to file relative to resource image e.g - /COD/CW/Templates/Countdown/1.png
+     * @return Image or null
+     */
+    private BufferedImage readImageResource(String path) {
         try {
             System.out.println("Reading image: " + path);
             return ImageIO.read(getResourceFileAsStream(path));
@@ -2,10 +2,11 @@ package COD.API;
 
 import Bot.ResourceHandler;
 import COD.Assets.*;
+import Command.Structure.CommandExecutor;
 import org.json.JSONObject;
 
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.HashMap;
 
 import static COD.Assets.Attachment.*;
@@ -14,6 +15,7 @@ import static COD.Assets.Attachment.*;
  * Manage resources, weapons, maps, and modes for COD
  */
 public abstract class CODManager {
+    public static boolean WARM_UP_ASSETS = true; // Decode the commonly used asset images at startup (see warmUp())
     final ResourceHandler resourceHandler;
     final String basePath;
     private final String gameName, gameId;
@@ -21,8 +23,8 @@ public abstract class CODManager {
     private final HashMap<String, Map> maps;
     private final HashMap<String, Mode> modes;
     private final HashMap<String, Perk> perks;
-    private final HashMap<Weapon.CATEGORY, BufferedImage> missingWeaponImages = new HashMap<>();
-    private final BufferedImage missingPerkImage, missingModeImage;
+    private final HashMap<Weapon.CATEGORY, AssetImage> missingWeaponImages = new HashMap<>();
+    private final AssetImage missingPerkImage, missingModeImage;
     private final Font font;
 
     /**
@@ -43,8 +45,52 @@ public abstract class CODManager {
         this.maps = readMaps();
         this.modes = readModes();
         this.perks = readPerks();
-        this.missingPerkImage = resourceHandler.getImageResource(basePath + "Perks/missing.png");
-        this.missingModeImage = resourceHandler.getImageResource(basePath + "Modes/missing.png");
+        this.missingPerkImage = new AssetImage(basePath + "Perks/missing.png");
+        this.missingModeImage = new AssetImage(basePath + "Modes/missing.png");
+    }
+
+    /**
+     * Decode the images of the commonly used assets (maps, modes, perks, & missing images) on the IO pool.
+     * Asset images are otherwise decoded when they are first required.
+     * The time taken & heap used afterwards are logged, to compare against the startup cost of decoding every image.
+     */
+    public void warmUp() {
+
+        // Copy on the calling thread as unknown maps/modes are added to the maps when requested
+        final ArrayList<CODAsset> assets = new ArrayList<>();
+        assets.addAll(maps.values());
+        assets.addAll(modes.values());
+        assets.addAll(perks.values());
+
+        final ArrayList<AssetImage> missingImages = new ArrayList<>(missingWeaponImages.values());
+        missingImages.add(missingPerkImage);
+        missingImages.add(missingModeImage);
+
+        CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, () -> {
+            final long start = System.currentTimeMillis();
+            for(CODAsset asset : assets) {
+                asset.getImage();
+            }
+            for(AssetImage image : missingImages) {
+                image.get();
+            }
+            final Runtime runtime = Runtime.getRuntime();
+            System.out.println(
+                    gameName + " warm up: " + (assets.size() + missingImages.size()) + " images in "
+                            + (System.currentTimeMillis() - start) + "ms, heap used: "
+                            + ((runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024)) + "MB"
+            );
+        });
+    }
+
+    /**
+     * Create an image of an asset which is decoded when it is first required
+     *
+     * @param path Path to image relative to the game folder - e.g "Maps/mp_euphrates.png"
+     * @return Asset image
+     */
+    AssetImage getAssetImage(String path) {
+        return new AssetImage(basePath + path);
     }
 
     /**
@@ -90,9 +136,9 @@ public abstract class CODManager {
                 String gameName = weaponData.getString("real_name");
                 String path = basePath + "Weapons/" + categoryName + "/";
                 if(!missingWeaponImages.containsKey(category)) {
-                    missingWeaponImages.put(category, resourceHandler.getImageResource(path + "missing.png"));
+                    missingWeaponImages.put(category, new AssetImage(path + "missing.png"));
                 }
-                BufferedImage image = resourceHandler.getImageResource(path + weaponName + ".png");
+                AssetImage image = new AssetImage(path + weaponName + ".png");
                 String imageURL = weaponData.getString("image_url");
                 Weapon weapon;
                 if(category == Weapon.CATEGORY.TACTICALS) {
@@ -122,7 +168,7 @@ public abstract class CODManager {
         }
         missingWeaponImages.put(
                 Weapon.CATEGORY.UNKNOWN,
-                resourceHandler.getImageResource(basePath + "Weapons/unknown_category.png")
+                getAssetImage("Weapons/unknown_category.png")
         );
         return weapons;
     }
@@ -153,7 +199,7 @@ public abstract class CODManager {
                     new Variant(
                             variantId,
                             variant.getString("real_name"),
-                            resourceHandler.getImageResource(imagePath)
+                            new AssetImage(imagePath)
                     )
             );
         }
@@ -207,7 +253,7 @@ public abstract class CODManager {
                             CATEGORY.valueOf(attachment.getString("category").toUpperCase()),
                             blockedCategory,
                             attributes,
-                            resourceHandler.getImageResource(imagePath)
+                            new AssetImage(imagePath)
                     )
             );
         }
@@ -230,7 +276,7 @@ public abstract class CODManager {
             Map map = new Map(
                     name,
                     mapData.getString("real_name"),
-                    resourceHandler.getImageResource(imagePath + ".png"),
+                    new AssetImage(imagePath + ".png"),
                     mapData.has(imageKey) ? mapData.getString(imageKey) : null
             );
             maps.put(name, map);
@@ -249,7 +295,7 @@ public abstract class CODManager {
         String imagePath = basePath + "Modes/";
         for(String name : modeList.keySet()) {
             JSONObject modeData = modeList.getJSONObject(name);
-            BufferedImage modeIcon = resourceHandler.getImageResource(imagePath + name + ".png");
+            AssetImage modeIcon = new AssetImage(imagePath + name + ".png");
             modes.put(
                     name,
                     new Mode(
@@ -283,7 +329,7 @@ public abstract class CODManager {
                                 perkName,
                                 perk.getString("real_name"),
                                 category,
-                                resourceHandler.getImageResource(basePath + "Perks/" + perkName + ".png")
+                                getAssetImage("Perks/" + perkName + ".png")
                         )
                 );
             }
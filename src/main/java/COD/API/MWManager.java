@@ -61,9 +61,7 @@ public class MWManager extends CODManager {
                             killstreakData.has("extra_stat")
                                     ? killstreakData.getString("extra_stat")
                                     : null,
-                            resourceHandler.getImageResource(
-                                    basePath + "Killstreaks/" + name + ".png"
-                            )
+                            getAssetImage("Killstreaks/" + name + ".png")
                     )
             );
         }
@@ -87,7 +85,7 @@ public class MWManager extends CODManager {
                             name,
                             commendationData.getString("title"),
                             commendationData.getString("desc"),
-                            resourceHandler.getImageResource(basePath + "Accolades/" + name + ".png")
+                            getAssetImage("Accolades/" + name + ".png")
                     )
             );
         }
@@ -113,7 +111,7 @@ public class MWManager extends CODManager {
                             superData.has("misc1_name")
                                     ? superData.getString("misc1_name")
                                     : null,
-                            resourceHandler.getImageResource(basePath + "Supers/" + name + ".png")
+                            getAssetImage("Supers/" + name + ".png")
                     )
             );
         }
@@ -49,7 +49,7 @@ public class MWStatsManager extends CODStatsManager<MWManager, MWPlayerAssetStat
             return new PlayerStatsResponse<>("Cables are a bit wonky at the moment, try again later.");
         }
 
-        return new PlayerStatsResponse<>(apiParser.parseStatsResponse(name, platform, data));
+        return new PlayerStatsResponse<>(apiParser.parseStatsResponse(name, platform, data), null, json);
     }
 
     /**
@@ -83,7 +83,8 @@ public class MWStatsManager extends CODStatsManager<MWManager, MWPlayerAssetStat
                 ),
                 "API down, stats retrieved from "
                         + EmbedHelper.embedURL(DOMAIN, profileUrl)
-                        + " instead.\n**Some will be missing** because they're lazy."
+                        + " instead.\n**Some will be missing** because they're lazy.",
+                playerStats.toString()
         );
     }
 }
@@ -10,7 +10,7 @@ import org.jetbrains.annotations.Nullable;
  */
 public class PlayerStatsResponse<E extends PlayerAssetStats, T extends CODPlayerStats<E>> {
     private final T stats;
-    private final String message;
+    private final String message, source;
     private final boolean success;
 
     /**
@@ -29,7 +29,18 @@ public class PlayerStatsResponse<E extends PlayerAssetStats, T extends CODPlayer
      * @param successMessage Optional message from the API
      */
     public PlayerStatsResponse(@NotNull T stats, @Nullable String successMessage) {
-        this(stats, successMessage, true);
+        this(stats, successMessage, null);
+    }
+
+    /**
+     * Create a successful player stats response with an optional message, and the response the stats were parsed from.
+     *
+     * @param stats          Player stats
+     * @param successMessage Optional message from the API
+     * @param source         Optional response the stats were parsed from - e.g the API JSON
+     */
+    public PlayerStatsResponse(@NotNull T stats, @Nullable String successMessage, @Nullable String source) {
+        this(stats, successMessage, source, true);
     }
 
     /**
@@ -38,7 +49,7 @@ public class PlayerStatsResponse<E extends PlayerAssetStats, T extends CODPlayer
      * @param failMessage Message indicating why the player stats were unable to be retrieved
      */
     public PlayerStatsResponse(@NotNull String failMessage) {
-        this(null, failMessage, false);
+        this(null, failMessage, null, false);
     }
 
     /**
@@ -46,11 +57,13 @@ public class PlayerStatsResponse<E extends PlayerAssetStats, T extends CODPlayer
      *
      * @param stats   Optional player stats
      * @param message Optional API message
+     * @param source  Optional response the stats were parsed from
      * @param success Response success
      */
-    private PlayerStatsResponse(@Nullable T stats, @Nullable String message, boolean success) {
+    private PlayerStatsResponse(@Nullable T stats, @Nullable String message, @Nullable String source, boolean success) {
         this.stats = stats;
         this.message = message;
+        this.source = source;
         this.success = success;
     }
 
@@ -92,4 +105,24 @@ public class PlayerStatsResponse<E extends PlayerAssetStats, T extends CODPlayer
     public String getMessage() {
         return message;
     }
+
+    /**
+     * Check if the response the stats were parsed from is available
+     *
+     * @return Source is available
+     */
+    public boolean hasSource() {
+        return source != null;
+    }
+
+    /**
+     * Get the response the stats were parsed from - e.g the API JSON.
+     * Stats parsed from the same source are identical.
+     *
+     * @return Stats source
+     */
+    @Nullable
+    public String getSource() {
+        return source;
+    }
 }
@@ -0,0 +1,56 @@
+package COD.Assets;
+
+import Bot.ResourceHandler;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Image of a COD asset.
+ * The image is decoded on first access through the shared image cache (and may be decoded again if it is evicted),
+ * so that the asset metadata can be read without decoding every asset image.
+ * Images are shared and must not be drawn on.
+ */
+public class AssetImage {
+    private static final ResourceHandler RESOURCE_HANDLER = new ResourceHandler();
+    private final String path;
+    private volatile boolean missing;
+
+    /**
+     * Create an asset image
+     *
+     * @param path Path to the image resource - e.g "/COD/MW/Maps/mp_euphrates.png"
+     */
+    public AssetImage(String path) {
+        this.path = path;
+        this.missing = false;
+    }
+
+    /**
+     * Get the image, decoding it if it isn't cached
+     *
+     * @return Asset image or null (image resource doesn't exist)
+     */
+    @Nullable
+    public BufferedImage get() {
+        if(missing) {
+            return null;
+        }
+        final BufferedImage image = RESOURCE_HANDLER.getSharedImageResource(path);
+
+        // Don't attempt to read a missing image again
+        if(image == null) {
+            missing = true;
+        }
+        return image;
+    }
+
+    /**
+     * Get the path to the image resource
+     *
+     * @return Image path
+     */
+    public String getPath() {
+        return path;
+    }
+}
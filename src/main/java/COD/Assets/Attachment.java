@@ -2,7 +2,6 @@ package COD.Assets;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.awt.image.BufferedImage;
 
 /**
  * Hold weapon attachment information
@@ -80,7 +79,7 @@ public class Attachment extends CODAsset implements Comparable<Attachment> {
      * @param attributes      Attachment attributes - Increases/Decreases to weapon stats
      * @param image           Attachment image
      */
-    public Attachment(String codename, String name, CATEGORY category, CATEGORY blockedCategory, Attributes attributes, BufferedImage image) {
+    public Attachment(String codename, String name, CATEGORY category, CATEGORY blockedCategory, Attributes attributes, AssetImage image) {
         super(codename, name, image);
         this.category = category;
         this.blockedCategory = blockedCategory;
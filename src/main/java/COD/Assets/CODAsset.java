@@ -1,5 +1,7 @@
 package COD.Assets;
 
+import org.jetbrains.annotations.Nullable;
+
 import java.awt.image.BufferedImage;
 
 /**
@@ -7,16 +9,16 @@ import java.awt.image.BufferedImage;
  */
 public class CODAsset {
     private final String codename, name;
-    private final BufferedImage image;
+    private final AssetImage image;
 
     /**
      * Create a COD asset
      *
      * @param codename Asset codename - as named in files
      * @param name     Asset name - as named in-game
-     * @param image    Asset image
+     * @param image    Asset image (decoded on first access)
      */
-    public CODAsset(String codename, String name, BufferedImage image) {
+    public CODAsset(String codename, String name, @Nullable AssetImage image) {
         this.codename = codename;
         this.name = name;
         this.image = image;
@@ -25,10 +27,11 @@ public class CODAsset {
     /**
      * Get the asset image
      *
-     * @return Asset image
+     * @return Asset image (shared, must not be drawn on)
      */
+    @Nullable
     public BufferedImage getImage() {
-        return image;
+        return image == null ? null : image.get();
     }
 
     /**
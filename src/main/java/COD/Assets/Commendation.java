@@ -1,7 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
-
 /**
  * Hold commendation information
  */
@@ -16,7 +14,7 @@ public class Commendation extends CODAsset {
      * @param desc     Description of commendation e.g "No deaths from behind"
      * @param image    Image of commendation
      */
-    public Commendation(String codename, String name, String desc, BufferedImage image) {
+    public Commendation(String codename, String name, String desc, AssetImage image) {
         super(codename, name, image);
         this.desc = desc;
     }
@@ -1,6 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
 import java.util.Objects;
 
 public class FieldUpgrade extends CODAsset {
@@ -15,7 +14,7 @@ public class FieldUpgrade extends CODAsset {
      * @param propertyName Property name e.g "Projectiles Destroyed"
      * @param image        Image of the field upgrade
      */
-    public FieldUpgrade(String codename, String name, String propertyName, BufferedImage image) {
+    public FieldUpgrade(String codename, String name, String propertyName, AssetImage image) {
         super(codename, name, image);
         this.propertyName = propertyName;
     }
@@ -1,7 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
-
 /**
  * Hold killstreak information
  */
@@ -16,7 +14,7 @@ public class Killstreak extends CODAsset {
      * @param statName Name of provided stat e.g kills/assists/..
      * @param image    Killstreak image
      */
-    public Killstreak(String codename, String name, String statName, BufferedImage image) {
+    public Killstreak(String codename, String name, String statName, AssetImage image) {
         super(codename, name, image);
         this.statName = statName;
     }
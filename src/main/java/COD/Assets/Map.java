@@ -2,7 +2,6 @@ package COD.Assets;
 
 import org.jetbrains.annotations.Nullable;
 
-import java.awt.image.BufferedImage;
 
 /**
  * Hold map name and image info
@@ -18,7 +17,7 @@ public class Map extends CODAsset {
      * @param image    Map loading screen image
      * @param imageUrl URL to map loading screen image
      */
-    public Map(String codename, String name, @Nullable BufferedImage image, @Nullable String imageUrl) {
+    public Map(String codename, String name, @Nullable AssetImage image, @Nullable String imageUrl) {
         super(codename, name, image);
         this.imageUrl = imageUrl;
     }
@@ -1,6 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
 
 /**
  * Hold mode info
@@ -16,7 +15,7 @@ public class Mode extends CODAsset {
      * @param image    Mode icon image
      * @param imageURL Mode icon URL
      */
-    public Mode(String codename, String name, BufferedImage image, String imageURL) {
+    public Mode(String codename, String name, AssetImage image, String imageURL) {
         super(codename, name, image);
         this.imageURL = imageURL;
     }
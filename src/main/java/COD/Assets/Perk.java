@@ -1,6 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
 import java.util.Objects;
 
 /**
@@ -24,7 +23,7 @@ public class Perk extends CODAsset {
      * @param category Perk category
      * @param image    Perk image
      */
-    public Perk(String codename, String name, CATEGORY category, BufferedImage image) {
+    public Perk(String codename, String name, CATEGORY category, AssetImage image) {
         super(codename, name, image);
         this.category = category;
     }
@@ -1,6 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
 import java.util.HashMap;
 
 /**
@@ -18,7 +17,7 @@ public class TacticalWeapon extends Weapon {
      * @param property Unique property of tactical weapon e.g "Hits"
      * @param image    Weapon image
      */
-    public TacticalWeapon(String codename, String name, String imageURL, String property, BufferedImage image) {
+    public TacticalWeapon(String codename, String name, String imageURL, String property, AssetImage image) {
         super(codename, name, CATEGORY.TACTICALS, imageURL, image, new HashMap<>(), new HashMap<>());
         this.property = property;
     }
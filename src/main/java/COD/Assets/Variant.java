@@ -9,7 +9,7 @@ import java.util.Objects;
 public class Variant {
     private final String name;
     private final int id;
-    private final BufferedImage image;
+    private final AssetImage image;
 
     /**
      * Create a weapon variant
@@ -18,7 +18,7 @@ public class Variant {
      * @param name  Weapon variant name - e.g "Espionage"
      * @param image Weapon variant image
      */
-    public Variant(int id, String name, BufferedImage image) {
+    public Variant(int id, String name, AssetImage image) {
         this.id = id;
         this.name = name;
         this.image = image;
@@ -27,10 +27,10 @@ public class Variant {
     /**
      * Get the image of the variant
      *
-     * @return Variant image
+     * @return Variant image (shared, must not be drawn on)
      */
     public BufferedImage getImage() {
-        return image;
+        return image.get();
     }
 
     /**
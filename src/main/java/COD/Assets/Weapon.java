@@ -1,6 +1,5 @@
 package COD.Assets;
 
-import java.awt.image.BufferedImage;
 import java.util.HashMap;
 import java.util.Objects;
 
@@ -239,7 +238,7 @@ public class Weapon extends CODAsset {
      * @param attachments Map of attachments available for the weapon. Weapon codename -> attachment
      * @param variants    Map of variants available for the weapon. Variant id -> variant
      */
-    public Weapon(String codename, String name, CATEGORY category, String imageURL, BufferedImage image, HashMap<String, Attachment> attachments, HashMap<Integer, Variant> variants) {
+    public Weapon(String codename, String name, CATEGORY category, String imageURL, AssetImage image, HashMap<String, Attachment> attachments, HashMap<Integer, Variant> variants) {
         super(codename, name, image);
         this.category = category;
         this.type = TYPE.discernType(category);
@@ -255,7 +254,7 @@ public class Weapon extends CODAsset {
      * @param category Weapon category
      * @param image    Weapon image
      */
-    public Weapon(String codename, CATEGORY category, BufferedImage image) {
+    public Weapon(String codename, CATEGORY category, AssetImage image) {
         this(codename, "MISSING: " + codename, category, null, image, new HashMap<>(), new HashMap<>());
     }
 
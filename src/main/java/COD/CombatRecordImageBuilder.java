@@ -16,6 +16,7 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.*;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static COD.API.CODAPI.API_FAILURE_MESSAGE;
 
@@ -99,7 +100,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             int x = 277;
             image = getWeaponImage(weapon.getType());
             Graphics g = image.getGraphics();
-            g.setFont(getGameFont().deriveFont(50f));
+            g.setFont(getGameFont(50f));
             FontMetrics fm = g.getFontMetrics();
 
             BufferedImage weaponImage = weapon.getImage();
@@ -144,13 +145,13 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                     int titleX = 267;
 
                     String name = tacticalWeapon.getProperty().toUpperCase();
-                    g.setFont(getGameFont().deriveFont(28f));
+                    g.setFont(getGameFont(28f));
                     fm = g.getFontMetrics();
                     g.drawString(name, titleX - fm.stringWidth(name), 580);
                     name += "/USE";
                     g.drawString(name, titleX - fm.stringWidth(name), 680);
 
-                    g.setFont(getGameFont().deriveFont(20f));
+                    g.setFont(getGameFont(20f));
                     fm = g.getFontMetrics();
                     String sub = "TOTAL NUMBER";
                     g.drawString(sub, titleX - fm.stringWidth(sub), 605);
@@ -159,7 +160,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                 }
             }
 
-            g.setFont(getGameFont().deriveFont(28f));
+            g.setFont(getGameFont(28f));
             g.setColor(Color.WHITE);
             g.drawString(
                     weapon.getType().getTitle(),
@@ -188,7 +189,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             BufferedImage superImage = fieldUpgrade.getImage();
 
             Graphics g = image.getGraphics();
-            g.setFont(getGameFont().deriveFont(40f));
+            g.setFont(getGameFont(40f));
             FontMetrics fm = g.getFontMetrics();
 
             g.drawImage(
@@ -205,28 +206,28 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             );
 
             int x = 277;
-            g.setFont(getGameFont().deriveFont(50f));
+            g.setFont(getGameFont(50f));
             g.drawString(fieldUpgradeStats.formatUses(), x, 500);
 
             int y = 570;
             int titleX = 267;
 
             if(fieldUpgradeStats.hasKills()) {
-                g.setFont(getGameFont().deriveFont(28f));
+                g.setFont(getGameFont(28f));
                 fm = g.getFontMetrics();
                 String name = "KILLS";
                 g.drawString(name, titleX - fm.stringWidth(name), y);
                 name = "KILL/USE";
                 g.drawString(name, titleX - fm.stringWidth(name), y + 80);
 
-                g.setFont(getGameFont().deriveFont(20f));
+                g.setFont(getGameFont(20f));
                 fm = g.getFontMetrics();
                 String sub = "TOTAL NUMBER";
                 g.drawString(sub, titleX - fm.stringWidth(sub), y + 25);
                 sub = "RATIO";
                 g.drawString(sub, titleX - fm.stringWidth(sub), y + 105);
 
-                g.setFont(getGameFont().deriveFont(50f));
+                g.setFont(getGameFont(50f));
                 g.setColor(Color.WHITE);
                 g.drawString(fieldUpgradeStats.formatKills(), x, y + 15);
                 g.drawString(fieldUpgradeStats.getKillUseRatio(), x, y + 95);
@@ -234,17 +235,17 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             }
 
             if(fieldUpgrade.hasProperty()) {
-                g.setFont(getGameFont().deriveFont(28f));
+                g.setFont(getGameFont(28f));
                 fm = g.getFontMetrics();
                 String name = fieldUpgrade.getPropertyName().toUpperCase();
                 g.drawString(name, titleX - fm.stringWidth(name), y);
 
-                g.setFont(getGameFont().deriveFont(20f));
+                g.setFont(getGameFont(20f));
                 fm = g.getFontMetrics();
                 String sub = "TOTAL NUMBER";
                 g.drawString(sub, titleX - fm.stringWidth(sub), y + 25);
 
-                g.setFont(getGameFont().deriveFont(50f));
+                g.setFont(getGameFont(50f));
                 g.drawString(String.valueOf(fieldUpgradeStats.getPropertyStat()), x, y + 15);
             }
 
@@ -268,7 +269,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         try {
             image = copyImage(winLossSection);
             Graphics g = image.getGraphics();
-            g.setFont(getGameFont().deriveFont(50f));
+            g.setFont(getGameFont(50f));
             int x = 288;
             int y = 160;
             g.drawString(basicStats.getFormattedWins(), x, y);
@@ -301,7 +302,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             Graphics g = image.getGraphics();
             int x = 100;
             for(int i = 0; i < Math.min(5, playerCommendationStats.size()); i++) {
-                g.setFont(getGameFont().deriveFont(COMMENDATION_NAME_SIZE));
+                g.setFont(getGameFont(COMMENDATION_NAME_SIZE));
                 CommendationStats commendationStats = playerCommendationStats.get(i);
                 Commendation commendation = commendationStats.getAsset();
 
@@ -314,7 +315,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                 String[] descSplit = commendation.getDesc().split(" ");
                 String desc = "";
                 int y = 350;
-                g.setFont(getGameFont().deriveFont(COMMENDATION_DESCRIPTION_SIZE));
+                g.setFont(getGameFont(COMMENDATION_DESCRIPTION_SIZE));
                 for(String word : descSplit) {
                     String attempt = desc + " " + word;
                     if(g.getFontMetrics().stringWidth(attempt) > 180) {
@@ -326,7 +327,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                     desc = attempt;
                 }
                 g.drawString(desc, x - (g.getFontMetrics().stringWidth(desc)) / 2, y);
-                g.setFont(getGameFont().deriveFont(COMMENDATION_QUANTITY_SIZE));
+                g.setFont(getGameFont(COMMENDATION_QUANTITY_SIZE));
                 g.drawString(
                         commendationStats.formatQuantity(),
                         x - (g.getFontMetrics().stringWidth(commendationStats.formatQuantity())) / 2,
@@ -356,7 +357,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         Graphics g = image.getGraphics();
 
         // Draw the commendation name at the top of the image
-        g.setFont(getGameFont().deriveFont(COMMENDATION_NAME_SIZE));
+        g.setFont(getGameFont(COMMENDATION_NAME_SIZE));
         g.drawString(
                 commendation.getName(),
                 centreHorizontal - (g.getFontMetrics().stringWidth(commendation.getName()) / 2),
@@ -374,7 +375,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         );
 
         // Draw the commendation description right below the image
-        g.setFont(getGameFont().deriveFont(COMMENDATION_DESCRIPTION_SIZE));
+        g.setFont(getGameFont(COMMENDATION_DESCRIPTION_SIZE));
         final int descY = imageY + commendationImage.getHeight() + g.getFontMetrics().getHeight();
         g.drawString(
                 commendation.getDesc(),
@@ -383,7 +384,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         );
 
         // Draw the commendation quantity in the centre of the area below the description
-        g.setFont(getGameFont().deriveFont(COMMENDATION_QUANTITY_SIZE));
+        g.setFont(getGameFont(COMMENDATION_QUANTITY_SIZE));
         g.drawString(
                 stats.formatQuantity(),
                 centreHorizontal - (g.getFontMetrics().stringWidth(stats.formatQuantity()) / 2),
@@ -404,7 +405,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         try {
             image = copyImage(killDeathSection);
             Graphics g = image.getGraphics();
-            g.setFont(getGameFont().deriveFont(50f));
+            g.setFont(getGameFont(50f));
             g.drawString(String.valueOf(basicStats.getFormattedKillDeath()), 282, 180);
             g.drawString(String.valueOf(basicStats.getLongestKillStreak()), 282, 462);
             g.dispose();
@@ -446,7 +447,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
 
             for(KillstreakStats killstreakStats : topKillstreakStats) {
                 Killstreak killstreak = killstreakStats.getAsset();
-                g.setFont(getGameFont().deriveFont(35f));
+                g.setFont(getGameFont(35f));
                 BufferedImage icon = killstreakStats.getAsset().getImage();
                 int y = (200 + (maxHeight / 2) - (icon.getHeight() / 2));
 
@@ -457,7 +458,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                         155
                 );
 
-                g.setFont(getGameFont().deriveFont(32f));
+                g.setFont(getGameFont(32f));
                 String quantity = killstreakStats.formatUses();
                 int space = ((image.getHeight() - (maxHeight + 200))) / 4;
 
@@ -499,7 +500,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
     private BufferedImage drawKillstreak(KillstreakStats stats) {
         BufferedImage image = copyImage(killstreakSection);
         Graphics g = image.getGraphics();
-        g.setFont(getGameFont().deriveFont(50f));
+        g.setFont(getGameFont(50f));
 
         final Killstreak killstreak = stats.getAsset();
         final int centreHorizontal = image.getWidth() / 2;
@@ -524,7 +525,7 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         );
 
         // Draw the killstreak stats below the image
-        g.setFont(getGameFont().deriveFont(40f));
+        g.setFont(getGameFont(40f));
         final FontMetrics fm = g.getFontMetrics();
 
         ArrayList<String> statsSummary = new ArrayList<>(Collections.singletonList(stats.formatUses()));
@@ -566,10 +567,10 @@ public class CombatRecordImageBuilder extends ImageBuilder {
      * @param nameQuery Player name to search for
      * @param platform  Player platform
      * @param loading   Loading message
-     * @return Player stats or null (if unable to retrieve)
+     * @return Player stats response or null (if unable to retrieve stats)
      */
     @Nullable
-    private MWPlayerStats initialisePlayerStats(String nameQuery, PLATFORM platform, ImageLoadingMessage loading) {
+    private PlayerStatsResponse<MWPlayerAssetStats, MWPlayerStats> initialisePlayerStats(String nameQuery, PLATFORM platform, ImageLoadingMessage loading) {
         loading.showLoading();
         MWStatsManager statsManager = new MWStatsManager();
         PlayerStatsResponse<MWPlayerAssetStats, MWPlayerStats> response = statsManager.fetchPlayerStats(nameQuery, platform);
@@ -603,7 +604,35 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         else {
             loading.completeStage();
         }
-        return response.getStats();
+        return response;
+    }
+
+    /**
+     * Render & encode an image of the given player stats.
+     * If the response the stats were parsed from is available, the image is cached by the response & given content,
+     * and an image of identical stats is not rendered again.
+     *
+     * @param response    Player stats response
+     * @param type        Type of image - e.g "mw-combat-record"
+     * @param content     Any content of the image not in the stats response - e.g the name of the displayed asset
+     * @param renderer    Renders the image
+     * @param uploadLimit Upload size limit in bytes of the channel the image is sent to
+     * @return Encoded image or null
+     */
+    @Nullable
+    private ImageEncoder.EncodedImage buildImage(PlayerStatsResponse<MWPlayerAssetStats, MWPlayerStats> response, String type, String[] content, Supplier<BufferedImage> renderer, long uploadLimit) {
+        if(!response.hasSource()) {
+            final BufferedImage image = renderer.get();
+            return image == null ? null : ImageEncoder.getInstance().encode(image, uploadLimit);
+        }
+        final EncodedImageCache.ContentKey key = new EncodedImageCache.ContentKey(type)
+                .add(response.getSource())
+                .add(response.getStats().getName());
+
+        for(String value : content) {
+            key.add(value);
+        }
+        return EncodedImageCache.getInstance().get(key, uploadLimit, renderer);
     }
 
     /**
@@ -621,12 +650,17 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                 context.getMessageChannel()
         );
 
-        MWPlayerStats playerStats = initialisePlayerStats(nameQuery, platform, loadingMessage);
+        PlayerStatsResponse<MWPlayerAssetStats, MWPlayerStats> response = initialisePlayerStats(
+                nameQuery,
+                platform,
+                loadingMessage
+        );
 
-        if(playerStats == null) {
+        if(response == null) {
             return;
         }
 
+        MWPlayerStats playerStats = response.getStats();
         ArrayList<AssetStats<? extends CODAsset>> statsList = playerStats.getAssetStats().getAssetStatsByName(assetName);
 
         // More than one result - display as pageable embed
@@ -660,19 +694,19 @@ public class CombatRecordImageBuilder extends ImageBuilder {
         }
 
         AssetStats<? extends CODAsset> stats = statsList.get(0);
-        BufferedImage image;
+        Supplier<BufferedImage> renderer;
 
         if(stats instanceof FieldUpgradeStats) {
-            image = drawSuper((FieldUpgradeStats) stats);
+            renderer = () -> drawSuper((FieldUpgradeStats) stats);
         }
         else if(stats instanceof CommendationStats) {
-            image = drawCommendation((CommendationStats) stats);
+            renderer = () -> drawCommendation((CommendationStats) stats);
         }
         else if(stats instanceof KillstreakStats) {
-            image = drawKillstreak((KillstreakStats) stats);
+            renderer = () -> drawKillstreak((KillstreakStats) stats);
         }
         else if(stats instanceof WeaponStats) {
-            image = drawWeapon((WeaponStats) stats);
+            renderer = () -> drawWeapon((WeaponStats) stats);
         }
         else {
             loadingMessage.failLoading(
@@ -680,8 +714,15 @@ public class CombatRecordImageBuilder extends ImageBuilder {
             );
             return;
         }
+        final ImageEncoder.EncodedImage image = buildImage(
+                response,
+                "mw-asset-stats",
+                new String[]{stats.getClass().getName(), stats.getAsset().getCodename()},
+                renderer,
+                loadingMessage.getUploadLimit()
+        );
         loadingMessage.completeStage();
-        loadingMessage.completeLoading(image);
+        loadingMessage.completeLoading(image, null);
     }
 
     /**
@@ -720,68 +761,90 @@ public class CombatRecordImageBuilder extends ImageBuilder {
                 channel
         );
 
-        MWPlayerStats playerStats = initialisePlayerStats(nameQuery, platform, loadingMessage);
+        PlayerStatsResponse<MWPlayerAssetStats, MWPlayerStats> response = initialisePlayerStats(
+                nameQuery,
+                platform,
+                loadingMessage
+        );
 
-        if(playerStats == null) {
+        if(response == null) {
             return;
         }
 
         try {
-            BufferedImage main = copyImage(background);
-            Graphics g = main.getGraphics();
+            final ImageEncoder.EncodedImage image = buildImage(
+                    response,
+                    "mw-combat-record",
+                    new String[0],
+                    () -> drawCombatRecord(response.getStats()),
+                    loadingMessage.getUploadLimit()
+            );
+            loadingMessage.completeStage();
+            loadingMessage.completeLoading(image, null);
+        }
+        catch(Exception e) {
+            e.printStackTrace();
+        }
+    }
 
-            MWPlayerAssetStats assetStats = playerStats.getAssetStats();
-            PlayerBasicStats basicStats = playerStats.getBasicStats();
-            PlayerWeaponStats weaponStats = assetStats.getWeaponStats();
-            PlayerEquipmentStats equipmentStats = assetStats.getEquipmentStats();
+    /**
+     * Draw the player's combat record.
+     * Display favourite weapons, killstreaks, etc.
+     *
+     * @param playerStats Player stats
+     * @return Combat record image
+     */
+    BufferedImage drawCombatRecord(MWPlayerStats playerStats) {
+        BufferedImage main = copyImage(background);
+        Graphics g = main.getGraphics();
 
-            g.drawImage(
-                    drawWeapon(
-                            (WeaponStats) PlayerAssetStats.getFavouriteAsset(weaponStats.getPrimaryWeaponStats())
-                    ),
-                    17, 119, null
-            );
-            g.drawImage(
-                    drawWeapon(
-                            (WeaponStats) PlayerAssetStats.getFavouriteAsset(weaponStats.getSecondaryWeaponStats())
-                    ), 542, 119, null
-            );
-            g.drawImage(
-                    drawWeapon(
-                            (WeaponStats) PlayerAssetStats.getFavouriteAsset(equipmentStats.getLethalStats())
-                    ), 1067, 119, null
-            );
+        MWPlayerAssetStats assetStats = playerStats.getAssetStats();
+        PlayerBasicStats basicStats = playerStats.getBasicStats();
+        PlayerWeaponStats weaponStats = assetStats.getWeaponStats();
+        PlayerEquipmentStats equipmentStats = assetStats.getEquipmentStats();
 
-            // Tracker doesn't provided tactical stats
-            ArrayList<TacticalStats> tacticalStats = equipmentStats.getTacticalStats();
-            if(!tacticalStats.isEmpty()) {
-                g.drawImage(
-                        drawWeapon(
-                                (WeaponStats) PlayerAssetStats.getFavouriteAsset(tacticalStats)
-                        ), 1592, 119, null
-                );
-            }
+        g.drawImage(
+                drawWeapon(
+                        (WeaponStats) PlayerAssetStats.getFavouriteAsset(weaponStats.getPrimaryWeaponStats())
+                ),
+                17, 119, null
+        );
+        g.drawImage(
+                drawWeapon(
+                        (WeaponStats) PlayerAssetStats.getFavouriteAsset(weaponStats.getSecondaryWeaponStats())
+                ), 542, 119, null
+        );
+        g.drawImage(
+                drawWeapon(
+                        (WeaponStats) PlayerAssetStats.getFavouriteAsset(equipmentStats.getLethalStats())
+                ), 1067, 119, null
+        );
 
+        // Tracker doesn't provided tactical stats
+        ArrayList<TacticalStats> tacticalStats = equipmentStats.getTacticalStats();
+        if(!tacticalStats.isEmpty()) {
             g.drawImage(
-                    drawSuper(
-                            (FieldUpgradeStats) PlayerAssetStats.getFavouriteAsset(assetStats.getFieldUpgradeStats())
-                    ), 1067, 1030, null
+                    drawWeapon(
+                            (WeaponStats) PlayerAssetStats.getFavouriteAsset(tacticalStats)
+                    ), 1592, 119, null
             );
-
-            g.drawImage(drawKillDeath(basicStats), 1592, 1030, null);
-            g.drawImage(drawWinLoss(basicStats), 1592, 1609, null);
-            g.drawImage(drawCommendations(assetStats.getCommendationStats()), 17, 1290, null);
-            g.drawImage(drawKillstreaks(assetStats.getKillstreakStats()), 17, 1869, null);
-            g.setFont(getGameFont().deriveFont(100f));
-            g.setColor(Color.BLACK);
-            String name = playerStats.getName().toUpperCase();
-            g.drawString(name, (main.getWidth() / 2) - (g.getFontMetrics().stringWidth(name) / 2), 100);
-            g.dispose();
-            loadingMessage.completeStage();
-            loadingMessage.completeLoading(main);
-        }
-        catch(Exception e) {
-            e.printStackTrace();
         }
+
+        g.drawImage(
+                drawSuper(
+                        (FieldUpgradeStats) PlayerAssetStats.getFavouriteAsset(assetStats.getFieldUpgradeStats())
+                ), 1067, 1030, null
+        );
+
+        g.drawImage(drawKillDeath(basicStats), 1592, 1030, null);
+        g.drawImage(drawWinLoss(basicStats), 1592, 1609, null);
+        g.drawImage(drawCommendations(assetStats.getCommendationStats()), 17, 1290, null);
+        g.drawImage(drawKillstreaks(assetStats.getKillstreakStats()), 17, 1869, null);
+        g.setFont(getGameFont(100f));
+        g.setColor(Color.BLACK);
+        String name = playerStats.getName().toUpperCase();
+        g.drawString(name, (main.getWidth() / 2) - (g.getFontMetrics().stringWidth(name) / 2), 100);
+        g.dispose();
+        return main;
     }
 }
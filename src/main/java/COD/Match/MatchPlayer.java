@@ -3,6 +3,7 @@ package COD.Match;
 import COD.API.CODStatsManager.PLATFORM;
 import COD.Assets.Ratio;
 import Command.Structure.EmbedHelper;
+import Command.Structure.ImageEncoder;
 
 import java.text.DecimalFormat;
 
@@ -17,7 +18,7 @@ public class MatchPlayer {
     private final int longestStreak, damageDealt, damageReceived, xp;
     private final double distanceTravelled, percentTimeMoving;
     private final Loadout[] loadouts;
-    private byte[] loadoutImage;
+    private ImageEncoder.EncodedImage loadoutImage;
     public static String UNAVAILABLE = "-";
 
     /**
@@ -285,7 +286,7 @@ public class MatchPlayer {
      *
      * @param loadoutImage Loadout image
      */
-    public void setLoadoutImage(byte[] loadoutImage) {
+    public void setLoadoutImage(ImageEncoder.EncodedImage loadoutImage) {
         this.loadoutImage = loadoutImage;
     }
 
@@ -294,10 +295,19 @@ public class MatchPlayer {
      *
      * @return Loadout image
      */
-    public byte[] getLoadoutImage() {
+    public ImageEncoder.EncodedImage getLoadoutImage() {
         return loadoutImage;
     }
 
+    /**
+     * Check if the player has an image for the loadout
+     *
+     * @return Player has loadout image
+     */
+    public boolean hasLoadoutImage() {
+        return loadoutImage != null;
+    }
+
     /**
      * Get the player's name
      *
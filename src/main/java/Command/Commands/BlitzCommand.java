@@ -1,8 +1,10 @@
 package Command.Commands;
 
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.DiscordCommand;
 import Command.Structure.EmbedHelper;
+import Command.Structure.ImageEncoder;
 import Riot.LOL.Blitz.Blitz;
 import Riot.LOL.Blitz.BlitzImageBuilder;
 import Riot.LOL.Blitz.BuildData;
@@ -56,7 +58,7 @@ public class BlitzCommand extends DiscordCommand {
             return;
         }
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             BuildData championBuildData = blitz.getBuildData(champion, role);
 
             if(championBuildData == null) {
@@ -64,19 +66,23 @@ public class BlitzCommand extends DiscordCommand {
                 return;
             }
 
-            byte[] image = blitzImageBuilder.buildImage(championBuildData);
+            ImageEncoder.EncodedImage image = blitzImageBuilder.buildImage(
+                    championBuildData,
+                    EmbedHelper.getUploadLimit(channel)
+            );
 
             if(image == null) {
                 channel.sendMessage("No.").queue();
                 return;
             }
 
+            final String filename = image.getFilename("image");
             channel.sendMessage(getEmbedBuilder()
-                    .setImage("attachment://image.png")
+                    .setImage("attachment://" + filename)
                     .setColor(EmbedHelper.ORANGE)
                     .setDescription(championBuildData.getDescription())
-                    .build()).addFile(image, "image.png").queue();
-        }).start();
+                    .build()).addFile(image.getBytes(), filename).queue();
+        });
     }
 
     /**
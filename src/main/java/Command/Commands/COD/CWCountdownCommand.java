@@ -99,7 +99,7 @@ public class CWCountdownCommand extends DiscordCommand {
     private byte[] buildImage(Countdown countdown) {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
-            BufferedImage countdownImage = handler.getImageResource(
+            BufferedImage countdownImage = handler.getImageResourceCopy(
                     "/COD/CW/Templates/Countdown/" + bgImages[new Random().nextInt(bgImages.length)]
             );
             Graphics g = countdownImage.getGraphics();
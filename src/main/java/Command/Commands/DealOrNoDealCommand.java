@@ -51,7 +51,7 @@ public class DealOrNoDealCommand extends OnReadyDiscordCommand {
         }
 
         String action = message.split(" ")[0];
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.CPU, () -> {
             switch(action) {
                 case "start":
                     startGame(contestant, channel);
@@ -71,7 +71,7 @@ public class DealOrNoDealCommand extends OnReadyDiscordCommand {
                 default:
                     channel.sendMessage(getHelpNameCoded()).queue();
             }
-        }).start();
+        });
     }
 
     /**
@@ -146,7 +146,7 @@ public class DealOrNoDealCommand extends OnReadyDiscordCommand {
 
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
-        jda.addEventListener(new ButtonListener() {
+        InteractionRouter.getInstance().addGlobalButtonListener(new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 long messageId = event.getMessageIdLong();
@@ -2,6 +2,7 @@ package Command.Commands.ExecuteOrder;
 
 import Audio.DiscordAudioPlayer;
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.DiscordCommand;
 import Command.Structure.EmbedHelper;
 import Command.Structure.EmbedLoadingMessage.Status;
@@ -83,10 +84,10 @@ public class ExecuteOrder66Command extends DiscordCommand {
                     executor.getTrack(),
                     context.getMember(),
                     channel,
-                    () -> new Thread(() -> {
+                    () -> CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
                         purgeTargets(context);
                         executor = null;
-                    }).start()
+                    })
             );
         });
     }
@@ -25,7 +25,7 @@ public class FacebookCommand extends DiscordCommand {
         MessageChannel channel = context.getMessageChannel();
         EmoteHelper emoteHelper = context.getEmoteHelper();
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             FacebookPost facebookPost = scraper.fetchFacebookPost(url, context.getGuild());
 
             if(facebookPost == null) {
@@ -55,7 +55,7 @@ public class FacebookCommand extends DiscordCommand {
             else {
                 channel.sendMessage(builder.build()).queue();
             }
-        }).start();
+        });
     }
 
     @Override
@@ -1,6 +1,7 @@
 package Command.Commands;
 
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.CyclicalPageableEmbed;
 import Command.Structure.DiscordCommand;
 import Command.Structure.EmbedHelper;
@@ -49,7 +50,7 @@ public class GIFCommand extends DiscordCommand {
             channel.sendMessage(getHelpNameCoded()).queue();
             return;
         }
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             ArrayList<GIF> queryGifs = gifs.get(query);
             if(queryGifs == null) {
                 channel.sendTyping().queue();
@@ -63,7 +64,7 @@ public class GIFCommand extends DiscordCommand {
                 return;
             }
             showGifs(context, query, queryGifs);
-        }).start();
+        });
     }
 
     /**
@@ -43,7 +43,7 @@ public class GrandExchangeCommand extends OnReadyDiscordCommand {
             return;
         }
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             int id = toInteger(query);
             if(id == 0) {
                 Item[] items = grandExchange.getItemManager().getItemsByName(query);
@@ -64,7 +64,7 @@ public class GrandExchangeCommand extends OnReadyDiscordCommand {
                 }
                 showItemPriceEmbed(item, channel);
             }
-        }).start();
+        });
     }
 
     /**
@@ -162,13 +162,17 @@ public class GrandExchangeCommand extends OnReadyDiscordCommand {
                 .setColor(EmbedHelper.GREEN)
                 .build();
 
-        channel.sendMessage(itemEmbed).queue(message -> new Thread(() -> {
-            if(isValidImage(itemImage.getHighDetailImageUrl())) {
-                return;
-            }
-            EmbedBuilder builder = new EmbedBuilder(message.getEmbeds().get(0));
-            message.editMessage(builder.setImage(itemImage.getInventoryImageUrl()).build()).queue();
-        }).start());
+        channel.sendMessage(itemEmbed).queue(message -> CommandExecutor.getInstance().executeOrRun(
+                message.getGuild(),
+                CommandExecutor.POOL.IO,
+                () -> {
+                    if(isValidImage(itemImage.getHighDetailImageUrl())) {
+                        return;
+                    }
+                    EmbedBuilder builder = new EmbedBuilder(message.getEmbeds().get(0));
+                    message.editMessage(builder.setImage(itemImage.getInventoryImageUrl()).build()).queue();
+                }
+        ));
     }
 
     /**
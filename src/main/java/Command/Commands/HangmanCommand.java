@@ -2,6 +2,7 @@ package Command.Commands;
 
 import Bot.ResourceHandler;
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.DiscordCommand;
 import Hangman.*;
 import net.dv8tion.jda.api.entities.Member;
@@ -117,7 +118,7 @@ public class HangmanCommand extends DiscordCommand {
         final Hangman finalGame = game;
         context.getMessage().delete().queue();
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             switch(op) {
                 case START:
                     startGame(finalGame, message, channel, player);
@@ -152,7 +153,7 @@ public class HangmanCommand extends DiscordCommand {
                     );
                     break;
             }
-        }).start();
+        });
     }
 
     /**
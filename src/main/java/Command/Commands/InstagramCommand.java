@@ -35,7 +35,7 @@ public class InstagramCommand extends OnReadyDiscordCommand {
 
     @Override
     public void execute(CommandContext context) {
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             Message message = context.getMessage();
             JDA jda = context.getJDA();
 
@@ -93,7 +93,7 @@ public class InstagramCommand extends OnReadyDiscordCommand {
                 ArrayList<Post> recentPosts = instagram.getRecentLocationPosts(location);
                 deleteMessage.queue(deleted -> showLocationPosts(context, location, recentPosts));
             }
-        }).start();
+        });
     }
 
     /**
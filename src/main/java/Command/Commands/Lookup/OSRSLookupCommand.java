@@ -3,6 +3,7 @@ package Command.Commands.Lookup;
 import Bot.DiscordUser;
 import Command.Structure.*;
 import Runescape.Hiscores.OSRSHiscores;
+import Runescape.Hiscores.XpTracker;
 import Runescape.ImageBuilding.OSRSHiscoresImageBuilder;
 import Runescape.Stats.OSRSPlayerStats;
 import Runescape.Stats.PlayerStats;
@@ -39,12 +40,21 @@ public class OSRSLookupCommand extends RunescapeLookupCommand<OSRSPlayerStats, O
 
     @Override
     public String getSavedName(long id) {
-        return DiscordUser.getSavedName(id, DiscordUser.OSRS);
+        final String name = DiscordUser.getSavedName(id, DiscordUser.OSRS);
+
+        // Names saved before the tracker existed are tracked once they are next used
+        if(name != null) {
+            XpTracker.getInstance().track(name);
+        }
+        return name;
     }
 
     @Override
     public void saveName(String name, MessageChannel channel, User user) {
         DiscordUser.saveName(name, DiscordUser.OSRS, channel, user);
+
+        // Track the XP of saved players locally
+        XpTracker.getInstance().track(name);
     }
 
     @Override
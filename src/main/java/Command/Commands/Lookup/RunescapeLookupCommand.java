@@ -19,6 +19,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 /**
  * Look up a Runescape player and build an image with their stats
@@ -327,6 +328,15 @@ public abstract class RunescapeLookupCommand<S extends PlayerStats, H extends Hi
         return query;
     }
 
+    @Override
+    public String getLookupArguments() {
+        return accountType.name() + " " + activatedArguments
+                .stream()
+                .map(ARGUMENT::name)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
         this.imageBuilder = initialiseImageBuilder(hiscores, jda, emoteHelper);
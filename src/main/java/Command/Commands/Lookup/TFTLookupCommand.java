@@ -57,7 +57,7 @@ public class TFTLookupCommand extends SummonerLookupCommand {
      * @return Image displaying summoner TFT stats
      */
     private BufferedImage buildStatsImage(TFTRankedQueue queue) {
-        BufferedImage man = new ResourceHandler().getImageResource(ResourceHandler.LEAGUE_BASE_PATH + "man.png");
+        BufferedImage man = new ResourceHandler().getImageResourceCopy(ResourceHandler.LEAGUE_BASE_PATH + "man.png");
         BufferedImage helmet = new BufferedImage(
                 200,
                 260,
@@ -115,7 +115,7 @@ public class TFTLookupCommand extends SummonerLookupCommand {
      * @return Image displaying summoner details
      */
     private BufferedImage buildTitleImage(SummonerOverview overview) {
-        BufferedImage title = new ResourceHandler().getImageResource(ResourceHandler.LEAGUE_BASE_PATH + "name.png");
+        BufferedImage title = new ResourceHandler().getImageResourceCopy(ResourceHandler.LEAGUE_BASE_PATH + "name.png");
         Graphics g = title.getGraphics();
         g.drawImage(
                 overview.getProfileIcon(),
@@ -49,7 +49,7 @@ public class MinecraftServerCommand extends DiscordCommand {
 
     @Override
     public void execute(CommandContext context) {
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             MessageChannel channel = context.getMessageChannel();
             channel.sendTyping().queue();
 
@@ -66,7 +66,7 @@ public class MinecraftServerCommand extends DiscordCommand {
             minecraftServer.refreshServerData();
 
             displayServerDetails(context, minecraftServer);
-        }).start();
+        });
     }
 
     /**
@@ -1,6 +1,7 @@
 package Command.Commands;
 
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.DiscordCommand;
 import Command.Structure.EmbedHelper;
 import NASA.APOD;
@@ -90,7 +91,7 @@ public class NASACommand extends DiscordCommand {
      * @param apod APOD to store
      */
     private void storeApod(APOD apod) {
-        new Thread(() -> {
+        CommandExecutor.getInstance().executeOrRun(CommandExecutor.POOL.IO, () -> {
             String body = new JSONObject()
                     .put("date", NZ_FORMAT.format(apod.getDate()))
                     .put("explanation", apod.getExplanation())
@@ -99,7 +100,7 @@ public class NASACommand extends DiscordCommand {
                     .put("image", apod.getImage())
                     .toString();
             new NetworkRequest("nasa", true).post(body);
-        }).start();
+        });
     }
 
     /**
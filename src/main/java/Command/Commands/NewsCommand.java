@@ -86,7 +86,7 @@ public class NewsCommand extends OnReadyDiscordCommand {
     @Override
     public void execute(CommandContext context) {
         Message message = context.getMessage();
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             final String url = context.getMessageContent();
             NewsOutlet newsOutlet = getNewsOutletFromUrl(url);
 
@@ -104,7 +104,7 @@ public class NewsCommand extends OnReadyDiscordCommand {
             }
 
             message.delete().queue(deleted -> displayArticle(context, article, newsOutlet));
-        }).start();
+        });
     }
 
     /**
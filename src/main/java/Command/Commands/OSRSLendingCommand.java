@@ -574,7 +574,7 @@ public class OSRSLendingCommand extends OnReadyDiscordCommand {
 
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
-        jda.addEventListener(new ButtonListener() {
+        InteractionRouter.getInstance().addGlobalButtonListener(new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 long messageId = event.getMessageIdLong();
@@ -53,7 +53,7 @@ public class BrewTrackerCommand extends OnReadyDiscordCommand {
 
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
-        jda.addEventListener(new ButtonListener() {
+        InteractionRouter.getInstance().addGlobalButtonListener(new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 BrewsMessage brewsMessage = brewMessages.get(event.getMessageChannel().getIdLong());
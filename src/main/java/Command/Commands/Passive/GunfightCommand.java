@@ -62,7 +62,7 @@ public class GunfightCommand extends OnReadyDiscordCommand {
 
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
-        jda.addEventListener(new ButtonListener() {
+        InteractionRouter.getInstance().addGlobalButtonListener(new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 Member member = event.getMember();
@@ -95,7 +95,7 @@ public class PhotographyCommand extends OnReadyDiscordCommand {
      */
     private void savePhoto(Message message, Attachment attachment, MessageChannel channel) {
         boolean video = attachment.isVideo();
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(message.getGuild(), channel, CommandExecutor.POOL.IO, () -> {
             if(!attachment.isImage() && !video) {
                 channel.sendMessage("I'm not saving that.\n" + getHelpNameCoded()).queue();
                 return;
@@ -126,7 +126,7 @@ public class PhotographyCommand extends OnReadyDiscordCommand {
                     ).queue();
                 }
             });
-        }).start();
+        });
     }
 
     /**
@@ -162,16 +162,16 @@ public class PhotographyCommand extends OnReadyDiscordCommand {
     }
 
     /**
-     * Register the emote listener for saving/deleting photos
+     * Register the global emote listener for saving/deleting photos
      *
-     * @param jda         JDA for registering listener
+     * @param jda         JDA
      * @param emoteHelper Emote helper
      */
     @Override
     public void onReady(JDA jda, EmoteHelper emoteHelper) {
         Emote saveEmote = emoteHelper.getSavePhoto();
         Emote deleteEmote = emoteHelper.getDeletePhoto();
-        jda.addEventListener(new EmoteListener() {
+        InteractionRouter.getInstance().addGlobalEmoteListener(new EmoteListener() {
             @Override
             public void handleReaction(MessageReaction reaction, User user, Guild guild) {
                 Emote emote = reaction.getReactionEmote().getEmote();
@@ -1,6 +1,7 @@
 package Command.Commands;
 
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.EmoteHelper;
 import Command.Structure.OnReadyDiscordCommand;
 import Plex.PlexServer;
@@ -52,7 +53,7 @@ public class PlexCommand extends OnReadyDiscordCommand {
 
         channel.sendTyping().queue();
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
 
             long timePassed = System.currentTimeMillis() - plex.getLastRefreshed();
 
@@ -120,7 +121,7 @@ public class PlexCommand extends OnReadyDiscordCommand {
 
             // Search for movies matching the given query
             plex.searchLibrary(query, context);
-        }).start();
+        });
     }
 
     @Override
@@ -3,7 +3,6 @@ package Command.Commands;
 import Command.Structure.CommandContext;
 import Command.Structure.DiscordCommand;
 import Poll.Poll;
-import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.Member;
 import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageChannel;
@@ -28,7 +27,6 @@ public class PollCommand extends DiscordCommand {
         MessageChannel channel = context.getMessageChannel();
         Member pollMaster = context.getMember();
         long channelId = channel.getIdLong();
-        JDA jda = context.getJDA();
 
         if(message.isEmpty()) {
             channel.sendMessage(getHelpNameCoded()).queue();
@@ -74,7 +72,7 @@ public class PollCommand extends DiscordCommand {
             return;
         }
         try {
-            Poll poll = new Poll(channel, questions, title, jda, context.getEmoteHelper());
+            Poll poll = new Poll(channel, questions, title, context.getEmoteHelper());
             polls.put(channelId, poll);
             poll.start();
         }
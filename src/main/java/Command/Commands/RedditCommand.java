@@ -40,7 +40,7 @@ public class RedditCommand extends OnReadyDiscordCommand {
 
     @Override
     public void execute(CommandContext context) {
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             final String url = context.getMessageContent();
             final URL_TYPE type = Reddit.getUrlType(url);
 
@@ -50,7 +50,7 @@ public class RedditCommand extends OnReadyDiscordCommand {
             else {
                 handlePostUrl(context, url);
             }
-        }).start();
+        });
     }
 
     /**
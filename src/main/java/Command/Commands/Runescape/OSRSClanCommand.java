@@ -0,0 +1,307 @@
+package Command.Commands.Runescape;
+
+import Bot.DiscordUser;
+import Command.Commands.Lookup.RunescapeLookupCommand;
+import Command.Structure.*;
+import Runescape.Hiscores.HiscoresStatsResponse;
+import Runescape.Hiscores.OSRSHiscores;
+import Runescape.OSRS.Boss.BossStats;
+import Runescape.Stats.OSRSPlayerStats;
+import Runescape.Stats.PlayerStats;
+import Runescape.Stats.Skill;
+import net.dv8tion.jda.api.EmbedBuilder;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Message;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Look up the OSRS stats of a list of players (or everyone in the guild with a saved osrslookup name)
+ * and display them in a table ranked by total XP.
+ * Players are looked up in parallel (bounded by the given parallelism and the hiscores rate limit),
+ * the table is updated as the stats arrive.
+ */
+public class OSRSClanCommand extends DiscordCommand {
+    public static final int
+            DEFAULT_PARALLELISM = 8,
+            MAX_NAMES = 100;
+    private static final long REFRESH_INTERVAL = 2000; // Minimum time in ms between edits of the table
+    private static final String TRIGGER = "osrsclan";
+    private final OSRSHiscores hiscores;
+    private final int parallelism;
+
+    /**
+     * Create the command using the default parallelism
+     */
+    public OSRSClanCommand() {
+        this(DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * Create the command
+     *
+     * @param parallelism Maximum number of players to look up at once
+     */
+    public OSRSClanCommand(int parallelism) {
+        super(
+                TRIGGER,
+                "Compare the OSRS stats of a list of players!",
+                TRIGGER + "\n" + TRIGGER + " [name], [name], ..."
+                        + "\n\nNo names will use everyone in the server with a saved osrslookup name"
+        );
+        this.hiscores = new OSRSHiscores();
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public void execute(CommandContext context) {
+        final String query = context.getLowerCaseMessage().replaceFirst(TRIGGER, "").trim();
+
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
+            context.getMessageChannel().sendTyping().queue();
+            final List<String> names = query.isEmpty() ? getSavedNames(context) : parseNames(query);
+
+            if(names.isEmpty()) {
+                context.getMessageChannel().sendMessage(
+                        query.isEmpty()
+                                ? "Nobody here has a saved osrslookup name, try: ```osrslookup save [your name]```"
+                                : getHelpNameCoded()
+                ).queue();
+                return;
+            }
+
+            if(names.size() > MAX_NAMES) {
+                context.getMessageChannel().sendMessage(
+                        "I can only look up " + MAX_NAMES + " players at a time cunt"
+                ).queue();
+                return;
+            }
+
+            lookupPlayers(context, names);
+        });
+    }
+
+    /**
+     * Parse a comma separated list of player names, duplicate names are removed
+     *
+     * @param query Comma separated list of names - e.g "dave, bob"
+     * @return List of names
+     */
+    private List<String> parseNames(String query) {
+        return Arrays.stream(query.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the saved osrslookup names of the members of the guild.
+     * Names are saved per user, so a request is made per member (bounded by the lookup parallelism).
+     *
+     * @param context Command context
+     * @return List of saved names
+     */
+    private List<String> getSavedNames(CommandContext context) {
+        final List<Member> members = context.getMembers()
+                .stream()
+                .filter(member -> !member.getUser().isBot())
+                .collect(Collectors.toList());
+
+        final Set<String> names = Collections.newSetFromMap(new ConcurrentHashMap<>());
+        runBounded(members, member -> {
+            final String name = DiscordUser.getSavedName(member.getIdLong(), DiscordUser.OSRS);
+            if(name != null) {
+                names.add(name.toLowerCase());
+            }
+        });
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Look up the stats of the given players and display them in a table.
+     * The table is sent immediately and updated as the stats arrive.
+     *
+     * @param context Command context
+     * @param names   Names of players to look up
+     */
+    private void lookupPlayers(CommandContext context, List<String> names) {
+        final AtomicInteger completed = new AtomicInteger(), missing = new AtomicInteger(), failed = new AtomicInteger();
+        final HashSet<RunescapeLookupCommand.ARGUMENT> args = new HashSet<>();
+        final long[] lastRefresh = new long[]{0};
+
+        PageableTableEmbed<OSRSPlayerStats> table = new PageableTableEmbed<OSRSPlayerStats>(
+                context,
+                new ArrayList<>(),
+                EmbedHelper.OSRS_LOGO,
+                "OSRS Clan Lookup",
+                null,
+                "Type: " + getHelpName(),
+                new String[]{"Name", "Total Level", "Boss KC"},
+                5,
+                EmbedHelper.RUNESCAPE_ORANGE
+        ) {
+            @Override
+            public EmbedBuilder getEmbedBuilder(String pageDetails) {
+                return super.getEmbedBuilder(pageDetails).setDescription(getProgress());
+            }
+
+            @Override
+            public String getNoItemsDescription() {
+                return completed.get() < names.size() || failed.get() > 0
+                        ? getProgress()
+                        : "None of those players exist!";
+            }
+
+            @Override
+            public int getNoItemsColour() {
+                return completed.get() < names.size() ? getColour() : EmbedHelper.RED;
+            }
+
+            /**
+             * Get a description of the lookup progress
+             *
+             * @return Lookup progress - e.g "Checked 10/50 players... (2 not found, 1 failed)"
+             */
+            private String getProgress() {
+                final int done = completed.get();
+                String progress = done < names.size()
+                        ? "Checked " + done + "/" + names.size() + " players..."
+                        : "Checked " + names.size() + " players!";
+
+                final ArrayList<String> problems = new ArrayList<>();
+                if(missing.get() > 0) {
+                    problems.add(missing.get() + " not found");
+                }
+
+                // The hiscores timed out/failed, the players may exist
+                if(failed.get() > 0) {
+                    problems.add(failed.get() + " failed");
+                }
+                if(!problems.isEmpty()) {
+                    progress += " (" + String.join(", ", problems) + ")";
+                }
+                return progress;
+            }
+
+            @Override
+            public String[] getRowValues(int index, OSRSPlayerStats stats, boolean defaultSort) {
+                final int rank = defaultSort ? index + 1 : getItems().size() - index;
+                return new String[]{
+                        "`#" + rank + "` " + EmbedHelper.embedURL(stats.getName(), stats.getUrl()),
+                        stats.getTotalLevel().getLevel() + " (" + Skill.formatNumber(stats.getTotalXp()) + " XP)",
+                        Skill.formatNumber(getTotalBossKills(stats))
+                };
+            }
+
+            @Override
+            public void sortItems(List<OSRSPlayerStats> items, boolean defaultSort) {
+                items.sort((o1, o2) -> defaultSort
+                        ? Long.compare(o2.getTotalXp(), o1.getTotalXp())
+                        : Long.compare(o1.getTotalXp(), o2.getTotalXp()));
+            }
+        };
+
+        table.showMessage();
+
+        runBounded(names, name -> {
+            final HiscoresStatsResponse<OSRSPlayerStats> response = hiscores.getHiscoresStatsResponse(
+                    name,
+                    PlayerStats.ACCOUNT.NORMAL,
+                    args
+            );
+            final OSRSPlayerStats stats = response.getStats();
+
+            synchronized(lastRefresh) {
+                completed.incrementAndGet();
+                if(stats != null) {
+                    table.addItem(stats);
+                }
+                else if(response.requestFailed()) {
+                    failed.incrementAndGet();
+                }
+                else {
+                    missing.incrementAndGet();
+                }
+
+                // Limit edits to avoid the Discord rate limit, the final refresh is done after all lookups complete
+                final long now = System.currentTimeMillis();
+                if(now - lastRefresh[0] >= REFRESH_INTERVAL && completed.get() < names.size()) {
+                    lastRefresh[0] = now;
+                    table.refreshMessage();
+                }
+            }
+        });
+
+        table.refreshMessage();
+    }
+
+    /**
+     * Get the total boss kills of the given player (only ranked bosses are included in the hiscores)
+     *
+     * @param stats Player stats
+     * @return Total boss kills
+     */
+    private static long getTotalBossKills(OSRSPlayerStats stats) {
+        long kills = 0;
+        for(BossStats bossStats : stats.getBossStats()) {
+            kills += Math.max(0, bossStats.getKills());
+        }
+        return kills;
+    }
+
+    /**
+     * Run the given task for each of the given inputs with no more than the parallelism of the command
+     * running at once, and wait for them all to complete.
+     * The calling thread takes part in running the tasks, so the inputs are always processed even if
+     * the worker pool is too busy to run the other workers.
+     *
+     * @param inputs Inputs to process
+     * @param task   Task to run for each input
+     * @param <T>    Input type
+     */
+    private <T> void runBounded(List<T> inputs, Consumer<T> task) {
+        final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>(inputs);
+        final CountDownLatch remaining = new CountDownLatch(inputs.size());
+
+        final Runnable worker = () -> {
+            T input;
+            while((input = queue.poll()) != null) {
+                try {
+                    task.accept(input);
+                }
+                catch(Exception e) {
+                    e.printStackTrace();
+                }
+                finally {
+                    remaining.countDown();
+                }
+            }
+        };
+
+        // The calling thread is the final worker
+        final int helpers = Math.min(parallelism, inputs.size()) - 1;
+        for(int i = 0; i < helpers; i++) {
+            CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, worker);
+        }
+        worker.run();
+
+        try {
+            remaining.await();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean matches(String query, Message message) {
+        return query.equals(TRIGGER) || query.startsWith(TRIGGER + " ");
+    }
+}
@@ -91,7 +91,7 @@ public class TrailblazerCommand extends DiscordCommand {
         }
 
         String finalName = name;
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             switch(arg) {
                 case "view":
                     showPlayerData(finalName, member, channel);
@@ -99,7 +99,7 @@ public class TrailblazerCommand extends DiscordCommand {
                 case "store":
                     processAttachedFile(message, member, finalName, channel);
             }
-        }).start();
+        });
     }
 
     /**
@@ -1,6 +1,7 @@
 package Command.Commands;
 
 import Command.Structure.CommandContext;
+import Command.Structure.CommandExecutor;
 import Command.Structure.DiscordCommand;
 import Command.Structure.EmbedHelper;
 import Network.NetworkRequest;
@@ -28,7 +29,7 @@ public class StoryTimeCommand extends DiscordCommand {
         }
         final String text = message.replace("storytime ", "");
 
-        new Thread(() -> channel.sendMessage(buildRequestEmbed(text)).queue(requestReceived -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> channel.sendMessage(buildRequestEmbed(text)).queue(requestReceived -> {
             String json = new NetworkRequest("https://api.shortlyread.com/stories/write-for-me/", false)
                     .post(getBody(text))
                     .body;
@@ -43,7 +44,7 @@ public class StoryTimeCommand extends DiscordCommand {
                 return;
             }
             requestReceived.editMessage(buildCompleteEmbed("**" + text + "**" + response.getString("text"))).queue();
-        })).start();
+        }));
     }
 
     /**
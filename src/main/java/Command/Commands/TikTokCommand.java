@@ -48,7 +48,7 @@ public class TikTokCommand extends OnReadyDiscordCommand {
         final AuditableRestAction<Void> deleteAction = requestMessage.delete();
         final Member member = context.getMember();
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             String url = context.getMessageContent();
 
             // Shortened URL requires an extra request to resolve the original URL
@@ -93,7 +93,7 @@ public class TikTokCommand extends OnReadyDiscordCommand {
 
                 deleteAction.queue(unused -> getCreatorMessageAction(channel, creator, member).queue());
             }
-        }).start();
+        });
     }
 
     /**
@@ -36,7 +36,7 @@ public class UrbanDictionaryCommand extends OnReadyDiscordCommand {
             return;
         }
 
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             channel.sendTyping().queue();
             if(word.equalsIgnoreCase("random")) {
                 Definition definition = urbanDictionary.getRandomDefinition();
@@ -57,7 +57,7 @@ public class UrbanDictionaryCommand extends OnReadyDiscordCommand {
                 return;
             }
             showDefinitions(context, definitions, word);
-        }).start();
+        });
     }
 
     /**
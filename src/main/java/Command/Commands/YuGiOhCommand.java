@@ -36,7 +36,7 @@ public class YuGiOhCommand extends OnReadyDiscordCommand {
         String cardName = context.getLowerCaseMessage().replace("yugi", "").trim();
         MessageChannel channel = context.getMessageChannel();
         channel.sendTyping().queue();
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             boolean random = cardName.isEmpty();
             Card card = random ? cardManager.getRandomCard() : cardManager.getCard(cardName);
 
@@ -62,7 +62,7 @@ public class YuGiOhCommand extends OnReadyDiscordCommand {
             else {
                 sendMessage.queue();
             }
-        }).start();
+        });
     }
 
     /**
@@ -162,7 +162,7 @@ public class YuGiOhCommand extends OnReadyDiscordCommand {
         this.upvote = emoteHelper.getUpvote().getAsMention();
         this.downvote = emoteHelper.getDownvote().getAsMention();
         this.switchImage = Button.primary(switchImageId, Emoji.fromEmote(emoteHelper.getNextImage()));
-        jda.addEventListener(new ButtonListener() {
+        InteractionRouter.getInstance().addGlobalButtonListener(new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 long messageId = event.getMessageIdLong();
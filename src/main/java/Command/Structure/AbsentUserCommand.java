@@ -41,7 +41,7 @@ public abstract class AbsentUserCommand extends DiscordCommand {
         if(targetMember != null && targetMember.getOnlineStatus() != OnlineStatus.OFFLINE) {
             return;
         }
-        new Thread(() -> onAbsent(context)).start();
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> onAbsent(context));
     }
 
     /**
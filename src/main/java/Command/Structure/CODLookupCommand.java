@@ -83,6 +83,11 @@ public abstract class CODLookupCommand extends LookupCommand {
         return query;
     }
 
+    @Override
+    public String getLookupArguments() {
+        return platform.name();
+    }
+
     @Override
     public boolean matches(String query, Message message) {
         String[] args = query.split(" ");
@@ -0,0 +1,285 @@
+package Command.Structure;
+
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.MessageChannel;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Central executor for command work which shouldn't block the JDA event thread.
+ * Tasks are run on bounded worker pools (one for I/O bound work, one for CPU bound work e.g image rendering),
+ * queued per guild and taken from each guild in turn so that one busy guild can't starve the others.
+ * When a pool is saturated the task is rejected and the channel (if provided) is notified, or run on the calling
+ * thread if it must not be dropped.
+ */
+public class CommandExecutor {
+    public static final String REJECTED_MESSAGE = "I'm too busy right now, try again in a bit!";
+    private static final long NO_GUILD = -1;
+    private static CommandExecutor instance = null;
+    private final HashMap<POOL, FairWorkerPool> pools;
+
+    public enum POOL {
+        IO,
+        CPU
+    }
+
+    /**
+     * Create the worker pools
+     */
+    private CommandExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        this.pools = new HashMap<>();
+        pools.put(POOL.IO, new FairWorkerPool("io", 16, 200, 40));
+        pools.put(POOL.CPU, new FairWorkerPool("cpu", Math.max(2, processors), 50, 10));
+    }
+
+    /**
+     * Get an instance of the command executor
+     *
+     * @return Instance
+     */
+    public static synchronized CommandExecutor getInstance() {
+        if(instance == null) {
+            instance = new CommandExecutor();
+        }
+        return instance;
+    }
+
+    /**
+     * Execute the given task on behalf of the guild & channel of the given command context.
+     *
+     * @param context Command context
+     * @param pool    Pool to run the task on
+     * @param task    Task to run
+     * @return Task was accepted
+     */
+    public boolean execute(CommandContext context, POOL pool, Runnable task) {
+        return execute(context.getGuild(), context.getMessageChannel(), pool, task);
+    }
+
+    /**
+     * Execute the given task on behalf of the given guild.
+     * If the pool is saturated, the task is rejected and a message is sent to the given channel.
+     *
+     * @param guild   Guild the task is for (may be null)
+     * @param channel Channel to notify if the task is rejected (may be null)
+     * @param pool    Pool to run the task on
+     * @param task    Task to run
+     * @return Task was accepted
+     */
+    public boolean execute(Guild guild, MessageChannel channel, POOL pool, Runnable task) {
+        boolean accepted = pools.get(pool).submit(guild == null ? NO_GUILD : guild.getIdLong(), task);
+        if(!accepted && channel != null) {
+            channel.sendMessage(REJECTED_MESSAGE).queue();
+        }
+        return accepted;
+    }
+
+    /**
+     * Execute the given task with no guild or channel to notify (e.g background work)
+     *
+     * @param pool Pool to run the task on
+     * @param task Task to run
+     * @return Task was accepted
+     */
+    public boolean execute(POOL pool, Runnable task) {
+        return execute(null, null, pool, task);
+    }
+
+    /**
+     * Execute the given task on behalf of the given guild, running it on the calling thread if the pool is saturated.
+     * Use for work which changes state and must not be dropped - e.g updating a player's bank.
+     *
+     * @param guild Guild the task is for (may be null)
+     * @param pool  Pool to run the task on
+     * @param task  Task to run
+     */
+    public void executeOrRun(Guild guild, POOL pool, Runnable task) {
+        if(!execute(guild, null, pool, task)) {
+            task.run();
+        }
+    }
+
+    /**
+     * Execute the given task with no guild, running it on the calling thread if the pool is saturated
+     *
+     * @param pool Pool to run the task on
+     * @param task Task to run
+     */
+    public void executeOrRun(POOL pool, Runnable task) {
+        executeOrRun(null, pool, task);
+    }
+
+    /**
+     * Get the number of tasks waiting to be run in the given pool
+     *
+     * @param pool Pool to check
+     * @return Number of queued tasks
+     */
+    public int getQueueDepth(POOL pool) {
+        return pools.get(pool).getQueueDepth();
+    }
+
+    /**
+     * Get the number of tasks currently being run in the given pool
+     *
+     * @param pool Pool to check
+     * @return Number of active tasks
+     */
+    public int getActiveCount(POOL pool) {
+        return pools.get(pool).getActiveCount();
+    }
+
+    /**
+     * Get the number of tasks which have been rejected by the given pool
+     *
+     * @param pool Pool to check
+     * @return Number of rejected tasks
+     */
+    public int getRejectedCount(POOL pool) {
+        return pools.get(pool).getRejectedCount();
+    }
+
+    /**
+     * Fixed size pool of worker threads taking tasks from bounded per guild queues in round robin order
+     */
+    private static class FairWorkerPool {
+        private final HashMap<Long, ArrayDeque<Runnable>> guildQueues;
+        private final ArrayDeque<Long> guildOrder;
+        private final AtomicInteger active, rejected;
+        private final int maxQueued, maxQueuedPerGuild;
+        private int queued;
+
+        /**
+         * Create the pool & start the worker threads
+         *
+         * @param name              Name of pool (used in thread names)
+         * @param threads           Number of worker threads
+         * @param maxQueued         Maximum number of queued tasks across all guilds
+         * @param maxQueuedPerGuild Maximum number of queued tasks for a single guild
+         */
+        public FairWorkerPool(String name, int threads, int maxQueued, int maxQueuedPerGuild) {
+            this.guildQueues = new HashMap<>();
+            this.guildOrder = new ArrayDeque<>();
+            this.active = new AtomicInteger();
+            this.rejected = new AtomicInteger();
+            this.maxQueued = maxQueued;
+            this.maxQueuedPerGuild = maxQueuedPerGuild;
+            this.queued = 0;
+
+            for(int i = 0; i < threads; i++) {
+                Thread worker = new Thread(this::work, "command-" + name + "-" + (i + 1));
+                worker.setDaemon(true);
+                worker.start();
+            }
+        }
+
+        /**
+         * Queue a task for the given guild
+         *
+         * @param guildId ID of guild the task is for
+         * @param task    Task to run
+         * @return Task was queued (false if the pool or guild queue is full)
+         */
+        public synchronized boolean submit(long guildId, Runnable task) {
+            ArrayDeque<Runnable> guildQueue = guildQueues.get(guildId);
+            int guildQueued = guildQueue == null ? 0 : guildQueue.size();
+
+            if(queued >= maxQueued || guildQueued >= maxQueuedPerGuild) {
+                rejected.incrementAndGet();
+                return false;
+            }
+
+            if(guildQueue == null) {
+                guildQueue = new ArrayDeque<>();
+                guildQueues.put(guildId, guildQueue);
+                guildOrder.add(guildId);
+            }
+
+            guildQueue.add(task);
+            queued++;
+            notify();
+            return true;
+        }
+
+        /**
+         * Wait for & take the next task, taking from the guild at the head of the rotation
+         * and moving it to the back if it has more tasks waiting.
+         *
+         * @return Next task
+         * @throws InterruptedException If interrupted while waiting
+         */
+        private synchronized Runnable take() throws InterruptedException {
+            while(queued == 0) {
+                wait();
+            }
+            long guildId = guildOrder.poll();
+            ArrayDeque<Runnable> guildQueue = guildQueues.get(guildId);
+            Runnable task = guildQueue.poll();
+            queued--;
+
+            if(guildQueue.isEmpty()) {
+                guildQueues.remove(guildId);
+            }
+            else {
+                guildOrder.add(guildId);
+            }
+            return task;
+        }
+
+        /**
+         * Worker loop - take & run tasks until interrupted
+         */
+        private void work() {
+            while(true) {
+                Runnable task;
+                try {
+                    task = take();
+                }
+                catch(InterruptedException e) {
+                    return;
+                }
+                active.incrementAndGet();
+                try {
+                    task.run();
+                }
+                // Errors are caught too, a worker which dies is not replaced and the pool would shrink
+                catch(Throwable e) {
+                    e.printStackTrace();
+                }
+                finally {
+                    active.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Get the number of queued tasks
+         *
+         * @return Queued tasks
+         */
+        public synchronized int getQueueDepth() {
+            return queued;
+        }
+
+        /**
+         * Get the number of tasks currently running
+         *
+         * @return Active tasks
+         */
+        public int getActiveCount() {
+            return active.get();
+        }
+
+        /**
+         * Get the number of rejected tasks
+         *
+         * @return Rejected tasks
+         */
+        public int getRejectedCount() {
+            return rejected.get();
+        }
+    }
+}
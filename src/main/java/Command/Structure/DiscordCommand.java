@@ -11,6 +11,7 @@ public abstract class DiscordCommand {
     private final String desc;
     private final String helpName;
     private boolean botInput, secret;
+    private Pattern triggerPattern;
 
     public DiscordCommand(String trigger, String desc, String helpName) {
         System.out.println("Loading " + trigger + "...");
@@ -29,6 +30,7 @@ public abstract class DiscordCommand {
 
     public void setTrigger(String trigger) {
         this.trigger = trigger;
+        this.triggerPattern = null;
     }
 
     public String getTrigger() {
@@ -51,7 +53,10 @@ public abstract class DiscordCommand {
      * @return Query matches command
      */
     public boolean matches(String query, Message message) {
-        return Pattern.compile(this.getTrigger().toLowerCase()).matcher(query).matches();
+        if(triggerPattern == null) {
+            triggerPattern = Pattern.compile(this.getTrigger().toLowerCase());
+        }
+        return triggerPattern.matcher(query).matches();
     }
 
     public String getHelpNameCoded() {
@@ -1,7 +1,10 @@
 package Command.Structure;
 
 import Bot.ResourceHandler;
+import Network.NetworkRequest;
 import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.GuildChannel;
+import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.MessageEmbed;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONArray;
@@ -218,6 +221,20 @@ public class EmbedHelper {
         }
     }
 
+    /**
+     * Get the upload file size limit of the given channel in bytes.
+     * This is the limit of the channel's server, or the standard limit for private channels.
+     *
+     * @param channel Channel to get upload file size limit for
+     * @return Upload file size limit in bytes
+     */
+    public static long getUploadLimit(MessageChannel channel) {
+        final int limit = channel instanceof GuildChannel
+                ? getFileSizeLimit(((GuildChannel) channel).getGuild())
+                : STANDARD_FILE_SIZE_LIMIT;
+        return limit * 1024L;
+    }
+
     /**
      * Get the upload file size limit for the given server.
      * This is determined by the boost status of the server and is in kilobytes.
@@ -225,7 +242,7 @@ public class EmbedHelper {
      * @param guild Server to get upload file size limit for
      * @return Upload file size limit e.g 8192
      */
-    private static int getFileSizeLimit(Guild guild) {
+    public static int getFileSizeLimit(Guild guild) {
         final Guild.BoostTier tier = Guild.BoostTier.fromKey(guild.getBoostTier().getKey());
 
         int size;
@@ -270,21 +287,20 @@ public class EmbedHelper {
     }
 
     /**
-     * Download an image from the given URL
+     * Download an image from the given URL.
+     * The image is decoded as the response body is streamed in, rather than buffering the encoded image first.
      *
      * @param url URL to image
      * @return Downloaded image or null
      */
     @Nullable
     public static BufferedImage downloadImage(String url) {
-        try {
-            URLConnection connection = new URL(url).openConnection();
-            connection.setRequestProperty("User-Agent", USER_AGENT);
-            return downloadImage(connection);
-        }
-        catch(Exception e) {
-            return null;
-        }
+        final HashMap<String, String> headers = new HashMap<>();
+        headers.put("User-Agent", USER_AGENT);
+        return new NetworkRequest(url, false).getStream(
+                headers,
+                (body, code) -> code == 200 ? ImageIO.read(body) : null
+        );
     }
 
     /**
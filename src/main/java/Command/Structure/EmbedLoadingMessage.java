@@ -19,6 +19,7 @@ public class EmbedLoadingMessage {
     private String desc;
     private final EmoteHelper emoteHelper;
     private final ArrayList<LoadingStage> stages;
+    private final InFlightLookup lookup;
     private int currentStep;
     private boolean finished, failed;
 
@@ -42,6 +43,7 @@ public class EmbedLoadingMessage {
         this.helpMessage = helpMessage;
         this.stages = getStages(loadingSteps);
         this.currentStep = 0;
+        this.lookup = InFlightLookup.getCurrent();
     }
 
     /**
@@ -199,6 +201,7 @@ public class EmbedLoadingMessage {
         stages.add(done);
         this.finished = true;
         updateLoadingMessage();
+        publishResult(createLoadingMessage());
     }
 
     /**
@@ -209,6 +212,7 @@ public class EmbedLoadingMessage {
     public void completeLoading(MessageEmbed replacement) {
         completeLoading((String) null);
         updateLoadingMessage(replacement);
+        publishResult(replacement);
     }
 
     /**
@@ -225,6 +229,40 @@ public class EmbedLoadingMessage {
         stages.add(fail);
         this.failed = true;
         updateLoadingMessage();
+        publishResult(createLoadingMessage());
+    }
+
+    /**
+     * Publish the final message to the lookup which created this loading message (if any)
+     * so that it can be shared with requests for the same lookup.
+     *
+     * @param result Final message embed
+     */
+    private void publishResult(MessageEmbed result) {
+        if(lookup == null) {
+            return;
+        }
+        lookup.publish(result, getAttachment(), getAttachmentFilename());
+    }
+
+    /**
+     * Get the file attached to the loading message
+     *
+     * @return Attached file or null
+     */
+    @Nullable
+    byte[] getAttachment() {
+        return null;
+    }
+
+    /**
+     * Get the name of the file attached to the loading message
+     *
+     * @return Attached file name or null
+     */
+    @Nullable
+    String getAttachmentFilename() {
+        return null;
     }
 
     /**
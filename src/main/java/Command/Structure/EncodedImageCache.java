@@ -0,0 +1,291 @@
+package Command.Structure;
+
+import Command.Structure.ImageEncoder.EncodedImage;
+import org.apache.commons.codec.binary.Hex;
+import org.jetbrains.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Cache of encoded images, keyed by a hash of the content the image was rendered from and the size limit it was
+ * encoded within (an image may be encoded as a JPEG to fit the upload limit of a server).
+ * When an image is requested with the same content as a previously rendered image (e.g the same player is looked up
+ * twice with unchanged stats), the encoded bytes are returned without rendering or encoding the image again.
+ * The least recently used images are evicted once the memory budget is exceeded.
+ * Cached images are shared between callers and their bytes must not be modified.
+ */
+public class EncodedImageCache {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024; // 64MB
+    private static EncodedImageCache instance = null;
+    private final LinkedHashMap<String, EncodedImage> images;
+    private long maxBytes, bytes, hits, misses, evictions;
+
+    /**
+     * Create the encoded image cache with the default memory budget
+     */
+    private EncodedImageCache() {
+        this.images = new LinkedHashMap<>(16, 0.75f, true);
+        this.maxBytes = DEFAULT_MAX_BYTES;
+    }
+
+    /**
+     * Get an instance of the encoded image cache
+     *
+     * @return Instance
+     */
+    public static synchronized EncodedImageCache getInstance() {
+        if(instance == null) {
+            instance = new EncodedImageCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Get the encoded image for the given content, rendering & encoding it if it is not cached.
+     *
+     * @param key         Key of the content the image is rendered from
+     * @param uploadLimit Maximum size of the encoded image - e.g {@link ImageLoadingMessage#getUploadLimit()}
+     * @param renderer    Renders the image from the content (may return null)
+     * @return Encoded image or null (unable to render/encode)
+     */
+    @Nullable
+    public EncodedImage get(ContentKey key, long uploadLimit, Supplier<BufferedImage> renderer) {
+        final String hash = key.add(uploadLimit).getHash();
+        synchronized(this) {
+            final EncodedImage cached = images.get(hash);
+            if(cached != null) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // Render outside of the lock, another thread may render the same content but the result is the same
+        final BufferedImage image = renderer.get();
+        if(image == null) {
+            return null;
+        }
+        final EncodedImage encoded = ImageEncoder.getInstance().encode(image, uploadLimit);
+        if(encoded != null) {
+            put(hash, encoded);
+        }
+        return encoded;
+    }
+
+    /**
+     * Cache the given encoded image, evicting the least recently used images if the memory budget is exceeded.
+     * Images larger than the budget are not cached.
+     *
+     * @param hash    Content hash
+     * @param encoded Encoded image
+     */
+    private synchronized void put(String hash, EncodedImage encoded) {
+        if(encoded.getSize() > maxBytes) {
+            return;
+        }
+        final EncodedImage previous = images.put(hash, encoded);
+        if(previous != null) {
+            bytes -= previous.getSize();
+        }
+        bytes += encoded.getSize();
+        evict();
+    }
+
+    /**
+     * Evict the least recently used images until the cache is within the memory budget
+     */
+    private void evict() {
+        final Iterator<Map.Entry<String, EncodedImage>> iterator = images.entrySet().iterator();
+        while(bytes > maxBytes && iterator.hasNext()) {
+            bytes -= iterator.next().getValue().getSize();
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Set the memory budget of the cache, evicting images if the cache exceeds the new budget
+     *
+     * @param maxBytes Maximum bytes of cached images (0 to disable caching)
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        this.maxBytes = Math.max(0, maxBytes);
+        evict();
+    }
+
+    /**
+     * Remove all images from the cache
+     */
+    public synchronized void clear() {
+        images.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Get the number of image requests served from the cache
+     *
+     * @return Cache hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of image requests which required the image to be rendered
+     *
+     * @return Cache misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of images evicted to stay within the memory budget
+     *
+     * @return Cache evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Get the bytes of the currently cached images
+     *
+     * @return Cached bytes
+     */
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Hash of the content an image is rendered from.
+     * Everything which affects the rendered image must be added to the key.
+     * Values are added with their length/type so that different sequences of values can't produce the same input.
+     */
+    public static class ContentKey {
+        private final MessageDigest digest;
+        private final ByteBuffer buffer;
+        private String hash;
+
+        /**
+         * Create a content key
+         *
+         * @param type Type of image - e.g "osrs-hiscores", used to separate the content of different images
+         */
+        public ContentKey(String type) {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            }
+            catch(NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is unavailable", e);
+            }
+            this.buffer = ByteBuffer.allocate(Long.BYTES + 1);
+            add(type);
+        }
+
+        /**
+         * Add a String to the key
+         *
+         * @param value String to add (may be null)
+         * @return Key
+         */
+        public ContentKey add(@Nullable String value) {
+            if(value == null) {
+                return addTagged('n', 0);
+            }
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            addTagged('s', bytes.length);
+            digest.update(bytes);
+            return this;
+        }
+
+        /**
+         * Add a number to the key
+         *
+         * @param value Number to add
+         * @return Key
+         */
+        public ContentKey add(long value) {
+            return addTagged('l', value);
+        }
+
+        /**
+         * Add a decimal number to the key
+         *
+         * @param value Number to add
+         * @return Key
+         */
+        public ContentKey add(double value) {
+            return addTagged('d', Double.doubleToLongBits(value));
+        }
+
+        /**
+         * Add a boolean to the key
+         *
+         * @param value Boolean to add
+         * @return Key
+         */
+        public ContentKey add(boolean value) {
+            return addTagged('b', value ? 1 : 0);
+        }
+
+        /**
+         * Add an enum value to the key
+         *
+         * @param value Enum value to add (may be null)
+         * @return Key
+         */
+        public ContentKey add(@Nullable Enum<?> value) {
+            return add(value == null ? null : value.name());
+        }
+
+        /**
+         * Add a date to the key
+         *
+         * @param value Date to add (may be null)
+         * @return Key
+         */
+        public ContentKey add(@Nullable Date value) {
+            return value == null ? addTagged('n', 0) : addTagged('t', value.getTime());
+        }
+
+        /**
+         * Add a value to the key with a tag indicating its type
+         *
+         * @param tag   Type tag
+         * @param value Value to add
+         * @return Key
+         */
+        private ContentKey addTagged(char tag, long value) {
+            if(hash != null) {
+                throw new IllegalStateException("Content can't be added to a key once it has been hashed");
+            }
+            buffer.clear();
+            buffer.put((byte) tag).putLong(value);
+            digest.update(buffer.array());
+            return this;
+        }
+
+        /**
+         * Get the hash of the content added to the key.
+         * No more content may be added once the hash has been computed.
+         *
+         * @return Content hash
+         */
+        public String getHash() {
+            if(hash == null) {
+                hash = Hex.encodeHexString(digest.digest());
+            }
+            return hash;
+        }
+    }
+}
@@ -3,13 +3,19 @@ package Command.Structure;
 import Bot.ResourceHandler;
 
 import java.awt.*;
+import java.awt.font.FontRenderContext;
 import java.awt.image.BufferedImage;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class ImageBuilder {
+    private static final int MAX_CACHED_WIDTHS = 4096;
     private final EmoteHelper emoteHelper;
     private final String resourcePath;
     private final ResourceHandler handler;
     private final Font gameFont;
+    private final ConcurrentHashMap<Float, Font> derivedFonts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<MeasuredText, Integer> stringWidths = new ConcurrentHashMap<>();
 
     /**
      * Create the image builder
@@ -43,6 +49,44 @@ public abstract class ImageBuilder {
         return gameFont;
     }
 
+    /**
+     * Get the game font of the given size.
+     * Derived fonts are cached, so the font is only derived the first time a size is requested.
+     *
+     * @param size Font size - e.g 65f
+     * @return Game font of given size
+     */
+    public Font getGameFont(float size) {
+        return derivedFonts.computeIfAbsent(size, gameFont::deriveFont);
+    }
+
+    /**
+     * Get the width of the given String when drawn with the current font of the given graphics.
+     * This is equivalent to g.getFontMetrics().stringWidth(text), but widths are cached as many Strings
+     * are measured in every image (e.g skill levels "1" - "99").
+     *
+     * @param g    Graphics to draw the String with
+     * @param text String to measure
+     * @return Width of String
+     */
+    public int getStringWidth(Graphics g, String text) {
+        final Font font = g.getFont();
+        final FontRenderContext context = ((Graphics2D) g).getFontRenderContext();
+        final MeasuredText key = new MeasuredText(font, context, text);
+        final Integer width = stringWidths.get(key);
+        if(width != null) {
+            return width;
+        }
+
+        // Cached Strings are typically numbers/titles, discard everything if an unusual amount are measured
+        if(stringWidths.size() >= MAX_CACHED_WIDTHS) {
+            stringWidths.clear();
+        }
+        final int measured = g.getFontMetrics(font).stringWidth(text);
+        stringWidths.put(key, measured);
+        return measured;
+    }
+
     /**
      * Get the path to the applicable resource folder
      *
@@ -98,4 +142,42 @@ public abstract class ImageBuilder {
         g.dispose();
         return resized;
     }
+
+    /**
+     * String measured with a font & render context, used as the key of the String width cache
+     */
+    private static class MeasuredText {
+        private final Font font;
+        private final FontRenderContext context;
+        private final String text;
+
+        /**
+         * Create the measured text
+         *
+         * @param font    Font the text is measured with
+         * @param context Render context the text is measured with (affects width when anti-aliasing etc)
+         * @param text    Measured text
+         */
+        public MeasuredText(Font font, FontRenderContext context, String text) {
+            this.font = font;
+            this.context = context;
+            this.text = text;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(!(obj instanceof MeasuredText)) {
+                return false;
+            }
+            MeasuredText measuredText = (MeasuredText) obj;
+            return font.equals(measuredText.font)
+                    && context.equals(measuredText.context)
+                    && text.equals(measuredText.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(font, context, text);
+        }
+    }
 }
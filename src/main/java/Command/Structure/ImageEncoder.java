@@ -0,0 +1,556 @@
+package Command.Structure;
+
+import org.jetbrains.annotations.Nullable;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.awt.image.IndexColorModel;
+import java.awt.image.RenderedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes images to be uploaded to Discord.
+ * Each thread reuses its own PNG & JPEG writer, and images are encoded in memory (ImageIO may otherwise cache the
+ * output stream in a temporary file).
+ * Images with few enough colours are written as a lossless palette (indexed) PNG, and images which exceed the
+ * upload size limit as a PNG are written as a JPEG.
+ * The encode time and size of each image is reported.
+ */
+public class ImageEncoder {
+    public static final int MAX_PALETTE_COLOURS = 256, WRITER_DEFAULT_DEFLATE_LEVEL = -1;
+    private static final float[] JPEG_FALLBACK_QUALITIES = new float[]{0.75f, 0.5f};
+    private static final Color JPEG_BACKGROUND = new Color(54, 57, 63); // Discord dark theme
+    private static ImageEncoder instance = null;
+    private final ThreadLocal<ImageWriter> pngWriter, jpegWriter;
+    private final AtomicLong encoded, encodedBytes, encodeTime;
+    private volatile int deflateLevel;
+    private volatile float jpegQuality;
+    private volatile boolean palette, logging;
+
+    public enum FORMAT {
+        PNG("png"),
+        JPEG("jpg");
+
+        private final String extension;
+
+        /**
+         * Create an image format
+         *
+         * @param extension File extension of format
+         */
+        FORMAT(String extension) {
+            this.extension = extension;
+        }
+
+        /**
+         * Get the file extension of the format
+         *
+         * @return File extension - e.g "png"
+         */
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * Create the image encoder with the default settings
+     */
+    private ImageEncoder() {
+        this.pngWriter = ThreadLocal.withInitial(() -> getWriter("png"));
+        this.jpegWriter = ThreadLocal.withInitial(() -> getWriter("jpeg"));
+        this.encoded = new AtomicLong();
+        this.encodedBytes = new AtomicLong();
+        this.encodeTime = new AtomicLong();
+        this.deflateLevel = WRITER_DEFAULT_DEFLATE_LEVEL;
+        this.jpegQuality = 0.9f;
+        this.palette = true;
+        this.logging = true;
+    }
+
+    /**
+     * Get an instance of the image encoder
+     *
+     * @return Instance
+     */
+    public static synchronized ImageEncoder getInstance() {
+        if(instance == null) {
+            instance = new ImageEncoder();
+        }
+        return instance;
+    }
+
+    /**
+     * Get an image writer for the given format
+     *
+     * @param format Format name - e.g "png"
+     * @return Image writer
+     */
+    private static ImageWriter getWriter(String format) {
+        return ImageIO.getImageWritersByFormatName(format).next();
+    }
+
+    /**
+     * Encode the given image as a PNG
+     *
+     * @param image Image to encode
+     * @return Encoded image or null (unable to encode)
+     */
+    @Nullable
+    public EncodedImage encode(BufferedImage image) {
+        return encode(image, Long.MAX_VALUE);
+    }
+
+    /**
+     * Encode the given image as a PNG, or as a JPEG if the PNG exceeds the given size limit.
+     * The JPEG quality is reduced until the image is within the limit (or the lowest quality is reached).
+     *
+     * @param image    Image to encode
+     * @param maxBytes Maximum size of the encoded image - e.g the upload size limit of the server
+     * @return Encoded image or null (unable to encode)
+     */
+    @Nullable
+    public EncodedImage encode(BufferedImage image, long maxBytes) {
+        final long start = System.nanoTime();
+        try {
+            final boolean indexed = palette && image.getType() != BufferedImage.TYPE_BYTE_INDEXED;
+            final BufferedImage paletteImage = indexed ? toPaletteImage(image) : null;
+            byte[] bytes = writePng(paletteImage == null ? image : paletteImage);
+            FORMAT format = FORMAT.PNG;
+
+            if(bytes.length > maxBytes) {
+                final BufferedImage opaque = toOpaqueImage(image);
+                bytes = writeJpeg(opaque, jpegQuality);
+                format = FORMAT.JPEG;
+
+                for(int i = 0; i < JPEG_FALLBACK_QUALITIES.length && bytes.length > maxBytes; i++) {
+                    if(JPEG_FALLBACK_QUALITIES[i] < jpegQuality) {
+                        bytes = writeJpeg(opaque, JPEG_FALLBACK_QUALITIES[i]);
+                    }
+                }
+            }
+
+            final EncodedImage encodedImage = new EncodedImage(
+                    bytes,
+                    format,
+                    format == FORMAT.PNG && paletteImage != null,
+                    System.nanoTime() - start
+            );
+            report(image, encodedImage);
+            return encodedImage;
+        }
+        catch(IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Record & log the encode time and size of an image
+     *
+     * @param image        Image which was encoded
+     * @param encodedImage Encoded image
+     */
+    private void report(BufferedImage image, EncodedImage encodedImage) {
+        encoded.incrementAndGet();
+        encodedBytes.addAndGet(encodedImage.getSize());
+        encodeTime.addAndGet(encodedImage.getEncodeTime());
+        if(!logging) {
+            return;
+        }
+        System.out.println(
+                "Encoded " + image.getWidth() + "x" + image.getHeight() + " image as "
+                        + (encodedImage.isPalette() ? "palette " : "") + encodedImage.getFormat().name()
+                        + " (" + encodedImage.getSize() / 1024 + " KiB) in "
+                        + encodedImage.getEncodeTime() / 1000000 + "ms"
+        );
+    }
+
+    /**
+     * Write the given image as a PNG using the writer of the current thread
+     *
+     * @param image Image to write
+     * @return PNG bytes
+     * @throws IOException If unable to write the image
+     */
+    private byte[] writePng(RenderedImage image) throws IOException {
+        final ImageWriter writer = pngWriter.get();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        final int level = deflateLevel;
+
+        /*
+         * The PNG writer only accepts a compression setting on newer JDKs (where the quality maps to the deflate level),
+         * otherwise the image is written with the writer's default deflate level.
+         */
+        if(level != WRITER_DEFAULT_DEFLATE_LEVEL && param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(1f - level / 9f);
+        }
+        return write(writer, param, image);
+    }
+
+    /**
+     * Write the given image as a JPEG using the writer of the current thread
+     *
+     * @param image   Opaque image to write
+     * @param quality JPEG quality (0 - 1)
+     * @return JPEG bytes
+     * @throws IOException If unable to write the image
+     */
+    private byte[] writeJpeg(RenderedImage image, float quality) throws IOException {
+        final ImageWriter writer = jpegWriter.get();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        return write(writer, param, image);
+    }
+
+    /**
+     * Write the given image to a byte array with the given writer.
+     * The writer is reset afterwards so that it may be reused.
+     *
+     * @param writer Image writer
+     * @param param  Write parameters
+     * @param image  Image to write
+     * @return Image bytes
+     * @throws IOException If unable to write the image
+     */
+    private static byte[] write(ImageWriter writer, ImageWriteParam param, RenderedImage image) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(
+                Math.max(1024, image.getWidth() * image.getHeight() / 4)
+        );
+        try(ImageOutputStream imageOutputStream = new MemoryCacheImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        }
+        finally {
+            writer.reset();
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Create a palette (indexed) copy of the given image if it has no more than {@link #MAX_PALETTE_COLOURS} colours.
+     * The copy is identical to the given image (including transparency).
+     *
+     * @param image Image to create palette copy of
+     * @return Palette image or null (image has too many colours)
+     */
+    @Nullable
+    private static BufferedImage toPaletteImage(BufferedImage image) {
+        final int width = image.getWidth(), height = image.getHeight();
+        final ColourTable colours = new ColourTable();
+        final int[] row = new int[width];
+
+        // Find the colours of the image, stopping as soon as there are too many
+        for(int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            int previous = row[0];
+            if(!colours.add(previous)) {
+                return null;
+            }
+            for(int x = 1; x < width; x++) {
+                final int colour = row[x];
+                if(colour != previous && !colours.add(colour)) {
+                    return null;
+                }
+                previous = colour;
+            }
+        }
+
+        final int size = colours.getSize();
+        final byte[] r = new byte[size], g = new byte[size], b = new byte[size], a = new byte[size];
+        for(int i = 0; i < size; i++) {
+            final int colour = colours.getColour(i);
+            a[i] = (byte) (colour >>> 24);
+            r[i] = (byte) (colour >> 16);
+            g[i] = (byte) (colour >> 8);
+            b[i] = (byte) colour;
+        }
+
+        final BufferedImage paletteImage = new BufferedImage(
+                width,
+                height,
+                BufferedImage.TYPE_BYTE_INDEXED,
+                new IndexColorModel(8, size, r, g, b, a)
+        );
+
+        // Indexed images have one byte per pixel & no padding
+        final byte[] pixels = ((DataBufferByte) paletteImage.getRaster().getDataBuffer()).getData();
+        for(int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            final int offset = y * width;
+            for(int x = 0; x < width; x++) {
+                pixels[offset + x] = (byte) colours.getIndex(row[x]);
+            }
+        }
+        return paletteImage;
+    }
+
+    /**
+     * Create an opaque copy of the given image to be written as a JPEG (which has no transparency).
+     * Transparent areas are filled with the background colour of Discord.
+     *
+     * @param image Image to create opaque copy of
+     * @return Opaque image
+     */
+    private static BufferedImage toOpaqueImage(BufferedImage image) {
+        if(!image.getColorModel().hasAlpha() && image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        final BufferedImage opaque = new BufferedImage(
+                image.getWidth(),
+                image.getHeight(),
+                BufferedImage.TYPE_INT_RGB
+        );
+        final Graphics2D g = opaque.createGraphics();
+        g.setColor(JPEG_BACKGROUND);
+        g.fillRect(0, 0, opaque.getWidth(), opaque.getHeight());
+        g.drawImage(image, 0, 0, null);
+        g.dispose();
+        return opaque;
+    }
+
+    /**
+     * Set the deflate level used when writing PNGs.
+     * This is only applied when the JDK's PNG writer supports a compression setting.
+     *
+     * @param deflateLevel Deflate level (0 - 9) or {@link #WRITER_DEFAULT_DEFLATE_LEVEL}
+     */
+    public void setDeflateLevel(int deflateLevel) {
+        this.deflateLevel = deflateLevel == WRITER_DEFAULT_DEFLATE_LEVEL
+                ? WRITER_DEFAULT_DEFLATE_LEVEL
+                : Math.max(0, Math.min(9, deflateLevel));
+    }
+
+    /**
+     * Set the quality used when an image must be written as a JPEG to fit the size limit
+     *
+     * @param jpegQuality JPEG quality (0 - 1)
+     */
+    public void setJpegQuality(float jpegQuality) {
+        this.jpegQuality = Math.max(0, Math.min(1, jpegQuality));
+    }
+
+    /**
+     * Set whether images with few enough colours should be written as a palette PNG
+     *
+     * @param palette Write palette PNGs
+     */
+    public void setPalette(boolean palette) {
+        this.palette = palette;
+    }
+
+    /**
+     * Set whether the encode time and size of each image should be logged
+     *
+     * @param logging Log each encoded image
+     */
+    public void setLogging(boolean logging) {
+        this.logging = logging;
+    }
+
+    /**
+     * Get the number of images encoded
+     *
+     * @return Images encoded
+     */
+    public long getEncoded() {
+        return encoded.get();
+    }
+
+    /**
+     * Get the total size of the images encoded
+     *
+     * @return Encoded bytes
+     */
+    public long getEncodedBytes() {
+        return encodedBytes.get();
+    }
+
+    /**
+     * Get the total time spent encoding images
+     *
+     * @return Encode time in nanoseconds
+     */
+    public long getEncodeTime() {
+        return encodeTime.get();
+    }
+
+    /**
+     * Encoded image with the format it was encoded in and the time taken to encode it
+     */
+    public static class EncodedImage {
+        private final byte[] bytes;
+        private final FORMAT format;
+        private final boolean palette;
+        private final long encodeTime;
+
+        /**
+         * Create an encoded image
+         *
+         * @param bytes      Image bytes
+         * @param format     Format of image
+         * @param palette    Image was written as a palette PNG
+         * @param encodeTime Time taken to encode the image in nanoseconds
+         */
+        public EncodedImage(byte[] bytes, FORMAT format, boolean palette, long encodeTime) {
+            this.bytes = bytes;
+            this.format = format;
+            this.palette = palette;
+            this.encodeTime = encodeTime;
+        }
+
+        /**
+         * Get the image bytes
+         *
+         * @return Image bytes
+         */
+        public byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Get the format the image was encoded in
+         *
+         * @return Image format
+         */
+        public FORMAT getFormat() {
+            return format;
+        }
+
+        /**
+         * Check whether the image was written as a palette PNG
+         *
+         * @return Image is a palette PNG
+         */
+        public boolean isPalette() {
+            return palette;
+        }
+
+        /**
+         * Get the time taken to encode the image
+         *
+         * @return Encode time in nanoseconds
+         */
+        public long getEncodeTime() {
+            return encodeTime;
+        }
+
+        /**
+         * Get the size of the image
+         *
+         * @return Image size in bytes
+         */
+        public int getSize() {
+            return bytes.length;
+        }
+
+        /**
+         * Get a filename for the image with the extension of its format
+         *
+         * @param name Filename without extension - e.g "image"
+         * @return Filename - e.g "image.png"
+         */
+        public String getFilename(String name) {
+            return name + "." + format.getExtension();
+        }
+    }
+
+    /**
+     * Open addressing table of the colours in an image, mapping each colour to its palette index
+     */
+    private static class ColourTable {
+        private static final int CAPACITY = 1024; // Power of 2, at most a quarter full
+        private final long[] entries = new long[CAPACITY];
+        private final int[] indexes = new int[CAPACITY];
+        private final int[] colours = new int[MAX_PALETTE_COLOURS];
+        private int size = 0;
+
+        /**
+         * Add a colour to the table
+         *
+         * @param colour ARGB colour
+         * @return Colour is in the table (false if the table is full)
+         */
+        public boolean add(int colour) {
+            final long entry = toEntry(colour);
+            int slot = getSlot(colour);
+            while(entries[slot] != 0) {
+                if(entries[slot] == entry) {
+                    return true;
+                }
+                slot = (slot + 1) & (CAPACITY - 1);
+            }
+            if(size == MAX_PALETTE_COLOURS) {
+                return false;
+            }
+            entries[slot] = entry;
+            indexes[slot] = size;
+            colours[size++] = colour;
+            return true;
+        }
+
+        /**
+         * Get the palette index of a colour in the table
+         *
+         * @param colour ARGB colour
+         * @return Palette index
+         */
+        public int getIndex(int colour) {
+            final long entry = toEntry(colour);
+            int slot = getSlot(colour);
+            while(entries[slot] != entry) {
+                slot = (slot + 1) & (CAPACITY - 1);
+            }
+            return indexes[slot];
+        }
+
+        /**
+         * Get the colour at the given palette index
+         *
+         * @param index Palette index
+         * @return ARGB colour
+         */
+        public int getColour(int index) {
+            return colours[index];
+        }
+
+        /**
+         * Get the number of colours in the table
+         *
+         * @return Number of colours
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Get the entry for a colour, entries are non zero so that 0 marks an empty slot
+         *
+         * @param colour ARGB colour
+         * @return Table entry
+         */
+        private static long toEntry(int colour) {
+            return (colour & 0xFFFFFFFFL) | (1L << 32);
+        }
+
+        /**
+         * Get the initial slot of a colour
+         *
+         * @param colour ARGB colour
+         * @return Slot index
+         */
+        private static int getSlot(int colour) {
+            return (colour * 0x9E3779B9 >>> 22) & (CAPACITY - 1);
+        }
+    }
+}
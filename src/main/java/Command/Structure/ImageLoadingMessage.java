@@ -1,16 +1,16 @@
 package Command.Structure;
 
+import Command.Structure.ImageEncoder.EncodedImage;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.Nullable;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
 
 public class ImageLoadingMessage extends EmbedLoadingMessage {
-    private final String filename = "image.png";
+    private static final String FILENAME = "image";
+    private String filename = FILENAME + "." + ImageEncoder.FORMAT.PNG.getExtension();
     private String url;
     private byte[] image;
 
@@ -58,30 +58,57 @@ public class ImageLoadingMessage extends EmbedLoadingMessage {
      * @param message Message to display
      */
     public void completeLoading(BufferedImage image, String message) {
+
+        // May be encoded as a JPEG if the image is too large to upload as a PNG
+        completeLoading(ImageEncoder.getInstance().encode(image, getUploadLimit()), message);
+    }
+
+    /**
+     * Complete the loading embed with an already encoded image to be used.
+     * The attachment is named with the extension of the format the image was encoded in.
+     *
+     * @param image   Encoded image to display - e.g from {@link EncodedImageCache} (may be null)
+     * @param message Message to display
+     */
+    public void completeLoading(@Nullable EncodedImage image, String message) {
         getChannel().sendTyping().queue();
-        this.image = imageToByteArray(image);
+        if(image != null) {
+            this.filename = image.getFilename(FILENAME);
+        }
+        completeLoading(image == null ? null : image.getBytes(), message);
+    }
+
+    /**
+     * Get the upload size limit of the channel the message is sent to.
+     * Images should be encoded within this limit.
+     *
+     * @return Upload size limit in bytes
+     */
+    public long getUploadLimit() {
+        return EmbedHelper.getUploadLimit(getChannel());
+    }
+
+    /**
+     * Complete the loading embed with an already encoded image to be used
+     *
+     * @param image   Encoded PNG image to display
+     * @param message Message to display
+     */
+    public void completeLoading(byte[] image, String message) {
+        this.image = image;
         this.url = "attachment://" + filename;
         super.completeLoading(message);
     }
 
     /**
-     * Create a byte array from an image
+     * Create a PNG byte array from an image
      *
      * @param image Image to create byte array from
-     * @return Byte array
+     * @return Byte array or null (unable to encode)
      */
     public static byte[] imageToByteArray(BufferedImage image) {
-        try {
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ImageIO.write(image, "png", outputStream);
-            byte[] byteArray = outputStream.toByteArray();
-            outputStream.close();
-            return byteArray;
-        }
-        catch(IOException e) {
-            e.printStackTrace();
-            return null;
-        }
+        final EncodedImage encodedImage = ImageEncoder.getInstance().encode(image);
+        return encodedImage == null ? null : encodedImage.getBytes();
     }
 
     /**
@@ -110,6 +137,16 @@ public class ImageLoadingMessage extends EmbedLoadingMessage {
         return builder.build();
     }
 
+    @Override
+    byte[] getAttachment() {
+        return image;
+    }
+
+    @Override
+    String getAttachmentFilename() {
+        return image == null ? null : filename;
+    }
+
     /**
      * Update the loading message using a byte array attachment
      */
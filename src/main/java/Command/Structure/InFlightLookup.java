@@ -0,0 +1,136 @@
+package Command.Structure;
+
+import net.dv8tion.jda.api.entities.MessageChannel;
+import net.dv8tion.jda.api.entities.MessageEmbed;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+
+/**
+ * A lookup which is currently being performed, other requests for the same lookup attach to it
+ * rather than performing the lookup again.
+ * The lookup is bound to the thread performing it, loading messages created on that thread publish their
+ * final message to the lookup so that it can be sent to the channels of the attached requests.
+ */
+public class InFlightLookup {
+    private static final ThreadLocal<InFlightLookup> CURRENT = new ThreadLocal<>();
+    private final CommandContext context;
+    private final ArrayList<CommandContext> followers;
+    private MessageEmbed resultEmbed;
+    private byte[] resultAttachment;
+    private String resultFilename;
+    private boolean complete;
+
+    /**
+     * Create the in flight lookup
+     *
+     * @param context Context of the command which is performing the lookup
+     */
+    public InFlightLookup(CommandContext context) {
+        this.context = context;
+        this.followers = new ArrayList<>();
+        this.complete = false;
+    }
+
+    /**
+     * Get the context of the command which is performing the lookup
+     *
+     * @return Command context
+     */
+    public CommandContext getContext() {
+        return context;
+    }
+
+    /**
+     * Get the lookup being performed by the current thread
+     *
+     * @return Current lookup or null
+     */
+    @Nullable
+    public static InFlightLookup getCurrent() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Bind this lookup to the current thread
+     */
+    public void bind() {
+        CURRENT.set(this);
+    }
+
+    /**
+     * Unbind any lookup from the current thread
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Attach a request to the lookup, the request will receive the result of the lookup when it completes.
+     *
+     * @param follower Context of the command requesting the same lookup
+     * @return Request was attached (false if the lookup has already completed)
+     */
+    public synchronized boolean attach(CommandContext follower) {
+        if(complete) {
+            return false;
+        }
+        followers.add(follower);
+        return true;
+    }
+
+    /**
+     * Publish the result of the lookup. The latest published result is sent to the attached requests.
+     *
+     * @param embed      Final message embed
+     * @param attachment Optional file attached to the message (e.g the image referenced by the embed)
+     * @param filename   Name of the attached file
+     */
+    public synchronized void publish(MessageEmbed embed, @Nullable byte[] attachment, @Nullable String filename) {
+        this.resultEmbed = embed;
+        this.resultAttachment = attachment;
+        this.resultFilename = filename;
+    }
+
+    /**
+     * Mark the lookup as complete, no further requests may attach
+     *
+     * @return Requests which were attached to the lookup
+     */
+    public synchronized ArrayList<CommandContext> complete() {
+        this.complete = true;
+        return new ArrayList<>(followers);
+    }
+
+    /**
+     * Check if a result was published by the lookup
+     *
+     * @return Result was published
+     */
+    public synchronized boolean hasResult() {
+        return resultEmbed != null;
+    }
+
+    /**
+     * Check whether the given request is in the same channel as the lookup (and has therefore seen the result)
+     *
+     * @param follower Context of attached request
+     * @return Request is in the same channel as the lookup
+     */
+    public boolean isSameChannel(CommandContext follower) {
+        return follower.getMessageChannel().getIdLong() == context.getMessageChannel().getIdLong();
+    }
+
+    /**
+     * Send the published result to the given channel
+     *
+     * @param channel Channel to send result to
+     */
+    public synchronized void sendResult(MessageChannel channel) {
+        if(resultAttachment == null) {
+            channel.sendMessage(resultEmbed).queue();
+            return;
+        }
+        channel.sendMessage(resultEmbed).addFile(resultAttachment, resultFilename).queue();
+    }
+}
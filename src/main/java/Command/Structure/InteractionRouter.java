@@ -0,0 +1,323 @@
+package Command.Structure;
+
+import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
+import net.dv8tion.jda.api.events.message.guild.react.GuildMessageReactionAddEvent;
+import net.dv8tion.jda.api.events.message.guild.react.GuildMessageReactionRemoveEvent;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Route button clicks & reactions to the listener registered for the message they occurred on.
+ * The router is registered with JDA once (in the bot listener), messages register their listener by message ID.
+ * Message listeners are evicted when they have been idle for longer than their timeout, or when the
+ * maximum number of listeners is reached (least recently used first).
+ * Global listeners (registered once by commands which track their own messages) receive any event
+ * which doesn't belong to a registered message.
+ */
+public class InteractionRouter {
+    public static final long
+            DEFAULT_IDLE_TIMEOUT = 3600000, // 1 hour
+            SWEEP_INTERVAL = 60000; // 1 minute
+    public static final int MAX_LISTENERS = 5000;
+    private static InteractionRouter instance = null;
+    private final ListenerMap<ButtonListener> buttonListeners;
+    private final ListenerMap<EmoteListener> emoteListeners;
+    private final CopyOnWriteArrayList<ButtonListener> globalButtonListeners;
+    private final CopyOnWriteArrayList<EmoteListener> globalEmoteListeners;
+
+    /**
+     * Create the listener maps and schedule the sweep of expired listeners
+     */
+    private InteractionRouter() {
+        this.buttonListeners = new ListenerMap<>();
+        this.emoteListeners = new ListenerMap<>();
+        this.globalButtonListeners = new CopyOnWriteArrayList<>();
+        this.globalEmoteListeners = new CopyOnWriteArrayList<>();
+
+        new Timer(true).scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                buttonListeners.removeExpired();
+                emoteListeners.removeExpired();
+            }
+        }, SWEEP_INTERVAL, SWEEP_INTERVAL);
+    }
+
+    /**
+     * Get an instance of the interaction router
+     *
+     * @return Instance
+     */
+    public static synchronized InteractionRouter getInstance() {
+        if(instance == null) {
+            instance = new InteractionRouter();
+        }
+        return instance;
+    }
+
+    /**
+     * Register a button listener for the given message using the default idle timeout
+     *
+     * @param messageId ID of message
+     * @param listener  Listener to receive button clicks on the message
+     */
+    public void addButtonListener(long messageId, ButtonListener listener) {
+        addButtonListener(messageId, listener, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Register a button listener for the given message
+     *
+     * @param messageId   ID of message
+     * @param listener    Listener to receive button clicks on the message
+     * @param idleTimeout Time in ms without a click before the listener is removed
+     */
+    public void addButtonListener(long messageId, ButtonListener listener, long idleTimeout) {
+        buttonListeners.put(messageId, listener, idleTimeout);
+    }
+
+    /**
+     * Register an emote listener for the given message using the default idle timeout
+     *
+     * @param messageId ID of message
+     * @param listener  Listener to receive reactions on the message
+     */
+    public void addEmoteListener(long messageId, EmoteListener listener) {
+        addEmoteListener(messageId, listener, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Register an emote listener for the given message
+     *
+     * @param messageId   ID of message
+     * @param listener    Listener to receive reactions on the message
+     * @param idleTimeout Time in ms without a reaction before the listener is removed
+     */
+    public void addEmoteListener(long messageId, EmoteListener listener, long idleTimeout) {
+        emoteListeners.put(messageId, listener, idleTimeout);
+    }
+
+    /**
+     * Remove any listeners registered for the given message (e.g when the message is deleted)
+     *
+     * @param messageId ID of message
+     */
+    public void removeListeners(long messageId) {
+        buttonListeners.remove(messageId);
+        emoteListeners.remove(messageId);
+    }
+
+    /**
+     * Register a button listener to receive clicks on any message without a registered listener
+     *
+     * @param listener Global button listener
+     */
+    public void addGlobalButtonListener(ButtonListener listener) {
+        globalButtonListeners.add(listener);
+    }
+
+    /**
+     * Register an emote listener to receive reactions on any message without a registered listener
+     *
+     * @param listener Global emote listener
+     */
+    public void addGlobalEmoteListener(EmoteListener listener) {
+        globalEmoteListeners.add(listener);
+    }
+
+    /**
+     * Pass the button click to the listener of the message it occurred on, or the global listeners if there is none
+     *
+     * @param event Button click event
+     */
+    public void onButtonClick(ButtonClickEvent event) {
+        ButtonListener listener = buttonListeners.get(event.getMessageIdLong());
+        if(listener != null) {
+            listener.onButtonClick(event);
+            return;
+        }
+        for(ButtonListener globalListener : globalButtonListeners) {
+            globalListener.onButtonClick(event);
+        }
+    }
+
+    /**
+     * Pass the reaction to the listener of the message it occurred on, or the global listeners if there is none
+     *
+     * @param event Reaction added event
+     */
+    public void onReactionAdd(GuildMessageReactionAddEvent event) {
+        EmoteListener listener = emoteListeners.get(event.getMessageIdLong());
+        if(listener != null) {
+            listener.onGuildMessageReactionAdd(event);
+            return;
+        }
+        for(EmoteListener globalListener : globalEmoteListeners) {
+            globalListener.onGuildMessageReactionAdd(event);
+        }
+    }
+
+    /**
+     * Pass the reaction to the listener of the message it occurred on, or the global listeners if there is none
+     *
+     * @param event Reaction removed event
+     */
+    public void onReactionRemove(GuildMessageReactionRemoveEvent event) {
+        EmoteListener listener = emoteListeners.get(event.getMessageIdLong());
+        if(listener != null) {
+            listener.onGuildMessageReactionRemove(event);
+            return;
+        }
+        for(EmoteListener globalListener : globalEmoteListeners) {
+            globalListener.onGuildMessageReactionRemove(event);
+        }
+    }
+
+    /**
+     * Get the number of message listeners currently registered
+     *
+     * @return Number of message listeners
+     */
+    public int getListenerCount() {
+        return buttonListeners.size() + emoteListeners.size();
+    }
+
+    /**
+     * Message ID -> listener map with idle expiry and a hard cap (least recently used are evicted first)
+     *
+     * @param <T> Listener type
+     */
+    private static class ListenerMap<T> {
+        private final LinkedHashMap<Long, Registration<T>> listeners;
+
+        /**
+         * Create the access ordered map
+         */
+        public ListenerMap() {
+            this.listeners = new LinkedHashMap<Long, Registration<T>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Registration<T>> eldest) {
+                    return size() > MAX_LISTENERS;
+                }
+            };
+        }
+
+        /**
+         * Register a listener for the given message, replacing any existing listener
+         *
+         * @param messageId   ID of message
+         * @param listener    Listener
+         * @param idleTimeout Time in ms without access before the listener expires
+         */
+        public synchronized void put(long messageId, T listener, long idleTimeout) {
+            listeners.put(messageId, new Registration<>(listener, idleTimeout));
+        }
+
+        /**
+         * Get the listener for the given message and mark it as accessed
+         *
+         * @param messageId ID of message
+         * @return Listener or null (if not registered or expired)
+         */
+        public synchronized T get(long messageId) {
+            Registration<T> registration = listeners.get(messageId);
+            if(registration == null) {
+                return null;
+            }
+            long now = System.currentTimeMillis();
+            if(registration.isExpired(now)) {
+                listeners.remove(messageId);
+                return null;
+            }
+            registration.setLastAccess(now);
+            return registration.getListener();
+        }
+
+        /**
+         * Remove the listener for the given message
+         *
+         * @param messageId ID of message
+         */
+        public synchronized void remove(long messageId) {
+            listeners.remove(messageId);
+        }
+
+        /**
+         * Remove all expired listeners
+         */
+        public synchronized void removeExpired() {
+            long now = System.currentTimeMillis();
+            Iterator<Registration<T>> iterator = listeners.values().iterator();
+            while(iterator.hasNext()) {
+                if(iterator.next().isExpired(now)) {
+                    iterator.remove();
+                }
+            }
+        }
+
+        /**
+         * Get the number of registered listeners
+         *
+         * @return Number of listeners
+         */
+        public synchronized int size() {
+            return listeners.size();
+        }
+    }
+
+    /**
+     * Registered listener with the time it was last accessed
+     *
+     * @param <T> Listener type
+     */
+    private static class Registration<T> {
+        private final T listener;
+        private final long idleTimeout;
+        private long lastAccess;
+
+        /**
+         * Create the registration
+         *
+         * @param listener    Listener
+         * @param idleTimeout Time in ms without access before the listener expires
+         */
+        public Registration(T listener, long idleTimeout) {
+            this.listener = listener;
+            this.idleTimeout = idleTimeout;
+            this.lastAccess = System.currentTimeMillis();
+        }
+
+        /**
+         * Check if the registration has expired
+         *
+         * @param now Current time in ms
+         * @return Registration has been idle for longer than its timeout
+         */
+        public boolean isExpired(long now) {
+            return now - lastAccess > idleTimeout;
+        }
+
+        /**
+         * Set the time the listener was last accessed
+         *
+         * @param lastAccess Time in ms
+         */
+        public void setLastAccess(long lastAccess) {
+            this.lastAccess = lastAccess;
+        }
+
+        /**
+         * Get the listener
+         *
+         * @return Listener
+         */
+        public T getListener() {
+            return listener;
+        }
+    }
+}
@@ -4,8 +4,9 @@ import net.dv8tion.jda.api.entities.Message;
 import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.User;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Look up a user and do something with their saved name
@@ -15,7 +16,7 @@ public abstract class LookupCommand extends SavedNameCommand {
             LOOKUP_ARGS = "name/me/@someone",
             DEFAULT_LOOKUP_ARGS = "[" + LOOKUP_ARGS + "]",
             SAVE_TYPE_NAME = "name";
-    private final HashSet<String> currentLookups = new HashSet<>();
+    private final ConcurrentHashMap<String, InFlightLookup> inFlightLookups = new ConcurrentHashMap<>();
 
     /**
      * Initialise the command
@@ -106,35 +107,97 @@ public abstract class LookupCommand extends SavedNameCommand {
     }
 
     /**
-     * Look up the player and build the image
+     * Look up the player and build the image.
+     * If the same lookup (name & arguments) is already in progress, attach to it and receive its result instead.
      *
      * @param name    Player to look up
      * @param context Command context
      */
     private void lookupUser(String name, CommandContext context) {
-        MessageChannel channel = context.getMessageChannel();
-        String nameKey = name.toLowerCase();
+        final String key = getLookupKey(name);
+        final InFlightLookup lookup = new InFlightLookup(context);
 
-        // Name currently being looked up
-        if(currentLookups.contains(nameKey)) {
-            channel.sendMessage("Patience is a virtue cunt").queue();
-            return;
+        while(true) {
+            InFlightLookup existing = inFlightLookups.putIfAbsent(key, lookup);
+
+            // No lookup in progress, perform it
+            if(existing == null) {
+                break;
+            }
+
+            // Lookup in progress, the result will be sent when it completes
+            if(existing.attach(context)) {
+                context.getMessageChannel().sendTyping().queue();
+                return;
+            }
+
+            // Lookup completed while attaching, remove it and try again
+            inFlightLookups.remove(key, existing);
+        }
+
+        boolean accepted = CommandExecutor.getInstance().execute(
+                context,
+                CommandExecutor.POOL.IO,
+                () -> performSharedLookup(key, name, lookup)
+        );
+
+        // Executor is saturated, lookup won't happen
+        if(!accepted) {
+            inFlightLookups.remove(key, lookup);
+            lookup.complete();
         }
+    }
 
-        // Mark name as active
-        currentLookups.add(nameKey);
+    /**
+     * Perform the lookup on the current thread and share the result with any requests which attached to it.
+     * Attached requests in the lookup channel have already seen the result, requests in other channels
+     * are sent the published result, or perform the lookup themselves if no result was published.
+     *
+     * @param key    Lookup key
+     * @param name   Player to look up
+     * @param lookup In flight lookup
+     */
+    private void performSharedLookup(String key, String name, InFlightLookup lookup) {
+        CommandContext context = lookup.getContext();
+        lookup.bind();
+        try {
+            processName(name, context);
+        }
+        catch(Exception e) {
+            System.out.println(e.getMessage() + " occurred with: " + name);
+        }
+        finally {
+            InFlightLookup.unbind();
+            inFlightLookups.remove(key, lookup);
+        }
 
-        new Thread(() -> {
+        ArrayList<CommandContext> followers = lookup.complete();
+        for(CommandContext follower : followers) {
+            if(lookup.isSameChannel(follower)) {
+                continue;
+            }
+            if(lookup.hasResult()) {
+                lookup.sendResult(follower.getMessageChannel());
+                continue;
+            }
             try {
-                processName(name, context);
+                processName(name, follower);
             }
             catch(Exception e) {
                 System.out.println(e.getMessage() + " occurred with: " + name);
             }
+        }
+    }
 
-            // Name has completed lookup
-            currentLookups.remove(nameKey);
-        }).start();
+    /**
+     * Get the key used to identify a lookup of the given name with the current arguments.
+     * Concurrent requests with the same key share a single lookup.
+     *
+     * @param name Player to look up
+     * @return Lookup key
+     */
+    private String getLookupKey(String name) {
+        return getTrigger() + "|" + name.toLowerCase().trim().replaceAll("\\s+", " ") + "|" + getLookupArguments();
     }
 
     /**
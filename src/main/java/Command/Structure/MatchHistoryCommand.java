@@ -5,7 +5,9 @@ import COD.API.*;
 import COD.API.CODStatsManager.PLATFORM;
 import COD.API.Parsing.CODAPIParser;
 import COD.API.Parsing.CODTrackerParser;
+import COD.Assets.CODAsset;
 import COD.Assets.Map;
+import COD.Assets.Weapon;
 import COD.Gunfight.*;
 import COD.Loadouts.LoadoutImageManager;
 import COD.Match.*;
@@ -428,33 +430,124 @@ public abstract class MatchHistoryCommand extends CODLookupCommand {
      * @param channel    Channel to send to
      */
     private void sendMatchEmbed(MatchStats matchStats, MessageChannel channel) {
+        MatchPlayer player = matchStats.getMainPlayer();
+
+        // The image is built before the embed as the embed refers to the image by its filename
+        if(player.hasLoadouts()) {
+            player.setLoadoutImage(buildLoadoutImage(player.getLoadouts(), EmbedHelper.getUploadLimit(channel)));
+        }
 
         MessageEmbed matchEmbed = buildMatchEmbed(matchStats);
         MessageAction sendMessage = channel.sendMessage(matchEmbed).setActionRows(getButtons(defaultButtonId, matchStats));
-        MatchPlayer player = matchStats.getMainPlayer();
         Consumer<Message> callback = message -> matchMessages.put(message.getIdLong(), matchStats);
 
-        if(player.hasLoadouts()) {
-            player.setLoadoutImage(buildLoadoutImage(player.getLoadouts()));
+        if(player.hasLoadoutImage()) {
 
             /*
              * Setting the attached loadout image file as the embed footer icon prevents it from displaying as
              * a separate message.
              * When viewing the loadout embed, both the embed footer icon & embed image can use the file.
              */
-            sendMessage.addFile(player.getLoadoutImage(), "image.png").queue(callback);
+            sendMessage.addFile(player.getLoadoutImage().getBytes(), getLoadoutFilename(player)).queue(callback);
             return;
         }
         sendMessage.queue(callback);
     }
 
     /**
-     * Build an image displaying all of the given loadouts
+     * Get the filename of the given player's attached loadout image.
+     * The extension depends on the format the image was encoded in.
+     *
+     * @param player Player to get loadout image filename for
+     * @return Loadout image filename - e.g "image.png"
+     */
+    private String getLoadoutFilename(MatchPlayer player) {
+        return player.hasLoadoutImage()
+                ? player.getLoadoutImage().getFilename("image")
+                : "image." + ImageEncoder.FORMAT.PNG.getExtension();
+    }
+
+    /**
+     * Build an image displaying all of the given loadouts.
+     * The image is cached by the loadouts, so identical loadouts are not rendered again.
+     *
+     * @param loadouts    Loadouts to display
+     * @param uploadLimit Upload size limit in bytes of the channel the image is sent to
+     * @return Encoded image or null
+     */
+    private ImageEncoder.EncodedImage buildLoadoutImage(Loadout[] loadouts, long uploadLimit) {
+        final EncodedImageCache.ContentKey key = new EncodedImageCache.ContentKey("cod-loadouts")
+                .add(codManager.getGameName())
+                .add(loadouts.length);
+
+        for(Loadout loadout : loadouts) {
+            addLoadoutWeapon(key, loadout.getPrimary());
+            addLoadoutWeapon(key, loadout.getSecondary());
+            addAsset(key, loadout.getLethal());
+            addAsset(key, loadout.getTactical());
+            addAssets(key, loadout.getPerks());
+            addAssets(key, loadout.getFieldUpgrades());
+        }
+        return EncodedImageCache.getInstance().get(key, uploadLimit, () -> renderLoadoutImage(loadouts));
+    }
+
+    /**
+     * Add the given loadout weapon to the content key of a loadout image
+     *
+     * @param key    Content key
+     * @param weapon Loadout weapon (may be null)
+     */
+    private void addLoadoutWeapon(EncodedImageCache.ContentKey key, @Nullable LoadoutWeapon weapon) {
+        if(weapon == null) {
+            addAsset(key, null);
+            return;
+        }
+        addAsset(key, weapon.getWeapon());
+        key.add(weapon.hasVariant() ? weapon.getVariant().getId() : -1);
+        addAssets(key, weapon.getAttachments().toArray(new CODAsset[0]));
+    }
+
+    /**
+     * Add the given assets to the content key of a loadout image
+     *
+     * @param key    Content key
+     * @param assets Assets (may be null)
+     */
+    private void addAssets(EncodedImageCache.ContentKey key, @Nullable CODAsset[] assets) {
+        if(assets == null) {
+            key.add(-1);
+            return;
+        }
+        key.add(assets.length);
+        for(CODAsset asset : assets) {
+            addAsset(key, asset);
+        }
+    }
+
+    /**
+     * Add the given asset to the content key of a loadout image
+     *
+     * @param key   Content key
+     * @param asset Asset (may be null)
+     */
+    private void addAsset(EncodedImageCache.ContentKey key, @Nullable CODAsset asset) {
+        if(asset == null) {
+            key.add((String) null);
+            return;
+        }
+        key.add(asset.getClass().getName()).add(asset.getCodename()).add(asset.getName());
+        if(asset instanceof Weapon) {
+            key.add(((Weapon) asset).getCategory());
+        }
+    }
+
+    /**
+     * Render an image displaying all of the given loadouts
      *
      * @param loadouts Loadouts to display
-     * @return Byte array of image
+     * @return Image of loadouts
      */
-    private byte[] buildLoadoutImage(Loadout[] loadouts) {
+    private BufferedImage renderLoadoutImage(Loadout[] loadouts) {
         BufferedImage[] loadoutImages = new BufferedImage[loadouts.length];
         int tallest = 0;
         for(int i = 0; i < loadouts.length; i++) {
@@ -479,7 +572,7 @@ public abstract class MatchHistoryCommand extends CODLookupCommand {
             x += image.getWidth() + 10;
         }
         g.dispose();
-        return ImageLoadingMessage.imageToByteArray(background);
+        return background;
     }
 
     /**
@@ -575,7 +668,7 @@ public abstract class MatchHistoryCommand extends CODLookupCommand {
                                 + " Match Loadouts: " + player.getName().toUpperCase()
                 )
                 .setDescription(summary)
-                .setImage("attachment://image.png")
+                .setImage("attachment://" + getLoadoutFilename(player))
                 .build();
     }
 
@@ -623,7 +716,7 @@ public abstract class MatchHistoryCommand extends CODLookupCommand {
      */
     private EmbedBuilder getDefaultMatchEmbedBuilder(MatchStats matchStats) {
         EmbedBuilder builder = new EmbedBuilder()
-                .setFooter(footer, "attachment://image.png")
+                .setFooter(footer, "attachment://" + getLoadoutFilename(matchStats.getMainPlayer()))
                 .setThumbnail(matchStats.getMode().getImageURL())
                 .setColor(getResultColour(matchStats.getScore().getResult()));
 
@@ -760,7 +853,7 @@ public abstract class MatchHistoryCommand extends CODLookupCommand {
         this.emoteHelper = emoteHelper;
         this.stats = Button.primary(STATS_BUTTON_ID, Emoji.fromEmote(emoteHelper.getStats()));
         this.loadouts = Button.primary("loadouts", Emoji.fromEmote(emoteHelper.getLoadouts()));
-        jda.addEventListener(getMatchButtonListener());
+        InteractionRouter.getInstance().addGlobalButtonListener(getMatchButtonListener());
     }
 
     @Override
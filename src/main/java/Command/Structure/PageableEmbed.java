@@ -19,13 +19,15 @@ import java.util.function.Consumer;
  */
 public abstract class PageableEmbed<T> {
     private final MessageChannel channel;
-    private final int bound, pages;
+    private final int bound;
     private final Button forward, backward;
     private final EmoteHelper emoteHelper;
     private final List<T> items;
+    private final ButtonListener buttonListener;
     private long id;
     private int index = 0, page = 1;
     private String lastAction;
+    private boolean refreshPending = false;
 
     /**
      * Initialise the values
@@ -38,20 +40,16 @@ public abstract class PageableEmbed<T> {
         this.channel = context.getMessageChannel();
         this.items = items;
         this.bound = bound;
-        this.pages = items.size() <= bound ? 1 : (int) Math.ceil(items.size() / (double) bound);
         this.emoteHelper = context.getEmoteHelper();
         this.forward = Button.success("forward", Emoji.fromEmote(emoteHelper.getForward()));
         this.backward = Button.success("backward", Emoji.fromEmote(emoteHelper.getBackward()));
 
-        context.getJDA().addEventListener(new ButtonListener() {
+        this.buttonListener = new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
-                if(event.getMessageIdLong() != id) {
-                    return;
-                }
                 buttonPressed(event);
             }
-        });
+        };
     }
 
     /**
@@ -87,7 +85,7 @@ public abstract class PageableEmbed<T> {
      * @return Total number of pages
      */
     public int getPages() {
-        return pages;
+        return items.size() <= bound ? 1 : (int) Math.ceil(items.size() / (double) bound);
     }
 
     /**
@@ -117,12 +115,22 @@ public abstract class PageableEmbed<T> {
 
     /**
      * Get the message callback to use after sending the pageable message.
-     * Remember the ID of the message for paging.
+     * Remember the ID of the message and register the button listener for paging.
      *
      * @return Message callback
      */
     private Consumer<Message> getMessageCallback() {
-        return message -> id = message.getIdLong();
+        return message -> {
+            synchronized(this) {
+                id = message.getIdLong();
+                InteractionRouter.getInstance().addButtonListener(id, buttonListener);
+
+                // Items changed while the message was being sent
+                if(refreshPending) {
+                    refreshMessage();
+                }
+            }
+        };
     }
 
     /**
@@ -145,7 +153,7 @@ public abstract class PageableEmbed<T> {
      */
     public ArrayList<Button> getButtonList() {
         ArrayList<Button> buttons = new ArrayList<>();
-        if(pages > 1) {
+        if(getPages() > 1) {
             buttons.add(isFirstPage() ? this.backward.asDisabled() : this.backward);
             buttons.add(isFinalPage() ? this.forward.asDisabled() : this.forward);
         }
@@ -156,6 +164,7 @@ public abstract class PageableEmbed<T> {
      * Delete the embed
      */
     public void delete() {
+        InteractionRouter.getInstance().removeListeners(id);
         channel.deleteMessageById(id).queue();
     }
 
@@ -208,6 +217,32 @@ public abstract class PageableEmbed<T> {
         updateMessage.queue();
     }
 
+    /**
+     * Add an item to the list of items, {@link #refreshMessage()} should be called to display the new item.
+     *
+     * @param item Item to add
+     */
+    public synchronized void addItem(T item) {
+        items.add(item);
+    }
+
+    /**
+     * Edit the message to display the current list of items (e.g after items have been added).
+     * If the message has not been sent yet, it is refreshed once it has been sent.
+     */
+    public synchronized void refreshMessage() {
+        if(id == 0) {
+            refreshPending = true;
+            return;
+        }
+        refreshPending = false;
+        this.page = (index / bound) + 1;
+        ActionRow buttonRow = getButtonRow();
+        channel.editMessageById(id, buildMessage())
+                .setActionRows(buttonRow == null ? new ActionRow[0] : new ActionRow[]{buttonRow})
+                .queue();
+    }
+
     /**
      * Get the row of buttons to add to the message
      *
@@ -276,7 +311,7 @@ public abstract class PageableEmbed<T> {
      * @return String detailing the current page
      */
     public String getPageDetails() {
-        return "Page: " + page + "/" + pages;
+        return "Page: " + page + "/" + getPages();
     }
 
     /**
@@ -311,7 +346,7 @@ public abstract class PageableEmbed<T> {
      *
      * @param event Button click event
      */
-    public void buttonPressed(ButtonClickEvent event) {
+    public synchronized void buttonPressed(ButtonClickEvent event) {
         String buttonId = event.getComponentId();
         if(buttonId.equals(forward.getId())) {
             pageForward();
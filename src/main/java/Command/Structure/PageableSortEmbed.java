@@ -44,6 +44,15 @@ public abstract class PageableSortEmbed<T> extends PageableEmbed<T> {
         return true;
     }
 
+    /**
+     * Sort the items before refreshing the message, as items may have been added since they were last sorted
+     */
+    @Override
+    public synchronized void refreshMessage() {
+        sortItems(getItems(), defaultSort);
+        super.refreshMessage();
+    }
+
     /**
      * Get the current sort value
      *
@@ -129,6 +129,16 @@ public abstract class SavedNameCommand extends OnReadyDiscordCommand {
         return query;
     }
 
+    /**
+     * Get a String representing the arguments set by the most recent call to stripArguments.
+     * Used to tell apart requests for the same name with different arguments - e.g "iron osrslookup me".
+     *
+     * @return Arguments String (empty if the command has no arguments)
+     */
+    public String getLookupArguments() {
+        return "";
+    }
+
     /**
      * Get a hint on how to save a name for a user who does not have one
      *
@@ -41,7 +41,7 @@ public abstract class SelfieCommand extends DiscordCommand {
     @Override
     public void execute(CommandContext context) {
         MessageChannel channel = context.getMessageChannel();
-        new Thread(() -> {
+        CommandExecutor.getInstance().execute(context, CommandExecutor.POOL.IO, () -> {
             try {
                 channel.sendTyping().queue();
                 byte[] image = selfieManager.getSelfie(context.getMember().getUser());
@@ -52,7 +52,7 @@ public abstract class SelfieCommand extends DiscordCommand {
             catch(Exception e) {
                 channel.sendMessage("They were too busy to take a selfie with you, sorry!").queue();
             }
-        }).start();
+        });
     }
 
     /**
@@ -23,7 +23,7 @@ public abstract class ValheimMessage {
     private final MessageChannel channel;
     private final String footer;
     private final Button home;
-    private long id;
+    private final ButtonListener buttonListener;
     private String lastButtonId;
 
     /**
@@ -41,13 +41,12 @@ public abstract class ValheimMessage {
         this.home = Button.success("home", Emoji.fromEmote(emoteHelper.getHome()));
         this.lastButtonId = home.getId();
 
-        context.getJDA().addEventListener(new ButtonListener() {
+        this.buttonListener = new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
-                long messageId = event.getMessageIdLong();
                 String buttonId = event.getComponentId();
 
-                if(messageId != id || !buttonId.equals(home.getId()) && !shouldPerformAction(buttonId)) {
+                if(!buttonId.equals(home.getId()) && !shouldPerformAction(buttonId)) {
                     return;
                 }
                 lastButtonId = buttonId;
@@ -58,7 +57,7 @@ public abstract class ValheimMessage {
                     updateMessage(buildMessage(getDefaultEmbedBuilder()), event);
                 }
             }
-        });
+        };
     }
 
     /**
@@ -104,7 +103,10 @@ public abstract class ValheimMessage {
         if(hasButtons()) {
             sendMessage = sendMessage.setActionRows(getButtonRow());
         }
-        sendMessage.queue(message -> id = message.getIdLong());
+        sendMessage.queue(message -> InteractionRouter.getInstance().addButtonListener(
+                message.getIdLong(),
+                buttonListener
+        ));
     }
 
     /**
@@ -6,6 +6,7 @@ import java.text.DecimalFormat;
  * Deal or No Deal briefcase
  */
 public class Briefcase {
+    public static final double HIGH_VALUE = 750;
     private final double reward;
     private boolean opened;
     private final int caseNumber;
@@ -54,7 +55,7 @@ public class Briefcase {
      * @return Reward is high value
      */
     public boolean isHighValue() {
-        return reward > 750;
+        return reward > HIGH_VALUE;
     }
 
     /**
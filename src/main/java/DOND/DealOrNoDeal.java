@@ -1,6 +1,7 @@
 package DOND;
 
 import Bot.FontManager;
+import Bot.ImageCache;
 import Bot.ResourceHandler;
 import Command.Commands.DealOrNoDealCommand;
 import Command.Structure.EmbedHelper;
@@ -19,6 +20,7 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.List;
 
 import static Command.Structure.ImageLoadingMessage.imageToByteArray;
 
@@ -41,10 +43,49 @@ public class DealOrNoDeal {
     private long id;
     private ArrayList<Briefcase> briefcases, availableCases;
     private Briefcase selected;
-    private static Font FONT;
+    private static Font FONT, OPEN_CASE_FONT, CLOSED_CASE_FONT, REWARD_FONT;
     private boolean visible, finalOffer, running;
     private int casesToOpen, roundCases, maxOffer;
 
+    // Retained game image & the briefcase/reward images currently drawn on it
+    private BufferedImage canvas;
+    private BufferedImage[] drawnCases, drawnRewards;
+
+    private static final List<Double> REWARDS = Collections.unmodifiableList(Arrays.asList(
+            0.01,
+            1.0,
+            5.0,
+            10.0,
+            25.0,
+            50.0,
+            75.0,
+            100.0,
+            200.0,
+            300.0,
+            400.0,
+            500.0,
+            750.0,
+            1000.0,
+            5000.0,
+            10000.0,
+            25000.0,
+            50000.0,
+            75000.0,
+            100000.0,
+            200000.0,
+            300000.0,
+            400000.0,
+            500000.0,
+            750000.0,
+            1000000.0
+    ));
+
+    // Static layers of the game image, pre-composited when the assets are registered
+    private static BufferedImage BASE_IMAGE;
+    private static BufferedImage[] CLOSED_BRIEFCASES;
+    private static Point CASE_AREA;
+    private static Point[] CASE_POSITIONS, REWARD_POSITIONS;
+
     private static BufferedImage
             BRIEFCASE_CLOSED,
             BRIEFCASE_CLOSED_CHOSEN,
@@ -114,6 +155,20 @@ public class DealOrNoDeal {
         BANKER_ON_PHONE = handler.getImageResource(PATH + "banker_making_call.png");
         BANKER_SAD = handler.getImageResource(PATH + "banker_sad.png");
         BANKER_HAPPY = handler.getImageResource(PATH + "banker_happy.png");
+
+        OPEN_CASE_FONT = FONT.deriveFont(18f);
+        CLOSED_CASE_FONT = FONT.deriveFont(32f);
+        REWARD_FONT = FONT.deriveFont(22f);
+
+        CASE_AREA = new Point(VALUE_CONTAINER.getWidth(), BANNER.getHeight());
+        CASE_POSITIONS = getCasePositions(REWARDS.size());
+        REWARD_POSITIONS = getRewardPositions(REWARDS.size());
+
+        CLOSED_BRIEFCASES = new BufferedImage[REWARDS.size()];
+        for(int i = 0; i < CLOSED_BRIEFCASES.length; i++) {
+            CLOSED_BRIEFCASES[i] = buildBriefcaseImage(BRIEFCASE_CLOSED, String.valueOf(i + 1), false);
+        }
+        BASE_IMAGE = buildBaseImage();
     }
 
     /**
@@ -148,9 +203,18 @@ public class DealOrNoDeal {
      * Get the reward values & assign randomly to briefcases
      */
     public void start() {
+        dealBriefcases(new Random());
+        sendGameMessage(buildGameMessage());
+    }
+
+    /**
+     * Assign the rewards to briefcases in the order of the given random & reset the game image to a new game
+     *
+     * @param rand Random to assign rewards with
+     */
+    void dealBriefcases(Random rand) {
         this.briefcases = new ArrayList<>();
         ArrayList<Double> rewards = getRewards();
-        Random rand = new Random();
         final int totalRewards = rewards.size();
         int currentRewards = totalRewards;
 
@@ -164,9 +228,17 @@ public class DealOrNoDeal {
             currentRewards--;
         }
 
+        // Begin with the image of a new game, only changes are drawn from here
+        this.canvas = ImageCache.copy(BASE_IMAGE);
+        this.drawnCases = new BufferedImage[totalRewards];
+        this.drawnRewards = new BufferedImage[totalRewards];
+        for(int i = 0; i < totalRewards; i++) {
+            drawnCases[i] = BRIEFCASE_CLOSED;
+            drawnRewards[i] = REWARDS.get(i) > Briefcase.HIGH_VALUE ? PRIZE_HIGH : PRIZE_LOW;
+        }
+
         this.running = true;
         this.status = GAME_STATUS.SELECTING_CASE;
-        sendGameMessage(buildGameMessage());
     }
 
     /**
@@ -194,7 +266,7 @@ public class DealOrNoDeal {
         }
 
         MessageAction sendMessage = channel.sendMessage(gameMessage)
-                .addFile(imageToByteArray(buildGameImage()), IMAGE_NAME);
+                .addFile(encodeGameImage(), IMAGE_NAME);
 
         // Offering deal/swap
         ActionRow buttons = getButtons();
@@ -287,7 +359,7 @@ public class DealOrNoDeal {
      * @param reward Reward to format
      * @return Formatted reward
      */
-    private String formatReward(double reward) {
+    private static String formatReward(double reward) {
         NumberFormat format = NumberFormat.getInstance();
         format.setGroupingUsed(true);
         return "$" + format.format(reward);
@@ -334,67 +406,151 @@ public class DealOrNoDeal {
     }
 
     /**
-     * Build the game image
-     * Display available rewards on the left and right side of the briefcases
+     * Build the static layers of the game image which are shared by every game.
+     * This is the image of a new game - the banner, briefcase container, closed briefcases, and reward stacks
+     * with every reward available.
      *
-     * @return Game image
+     * @return Base game image
      */
-    private BufferedImage buildGameImage() {
+    private static BufferedImage buildBaseImage() {
         BufferedImage image = new BufferedImage(
                 BANNER.getWidth() + (2 * VALUE_CONTAINER.getWidth()),
                 VALUE_CONTAINER.getHeight(),
                 BufferedImage.TYPE_INT_ARGB
         );
 
-        ArrayList<Briefcase> rewards = new ArrayList<>(briefcases);
-        rewards.sort(Comparator.comparingDouble(Briefcase::getReward));
-
-        BufferedImage leftRewards = buildRewardStackImage(
-                rewards.subList(0, 13).toArray(new Briefcase[0])
-        );
-        BufferedImage rightRewards = buildRewardStackImage(
-                rewards.subList(13, rewards.size()).toArray(new Briefcase[0])
+        // Reward stacks are opaque
+        BufferedImage rewardStack = new BufferedImage(
+                VALUE_CONTAINER.getWidth(),
+                VALUE_CONTAINER.getHeight(),
+                BufferedImage.TYPE_INT_RGB
         );
+        Graphics g = rewardStack.getGraphics();
+        g.drawImage(VALUE_CONTAINER, 0, 0, null);
+        g.dispose();
 
-        Graphics g = image.getGraphics();
-        g.drawImage(leftRewards, 0, 0, null);
-        g.drawImage(BANNER, leftRewards.getWidth(), 0, null);
-        g.drawImage(buildCaseAreaImage(), leftRewards.getWidth(), BANNER.getHeight(), null);
-        g.drawImage(rightRewards, leftRewards.getWidth() + BANNER.getWidth(), 0, null);
+        g = image.getGraphics();
+        g.drawImage(rewardStack, 0, 0, null);
+        g.drawImage(rewardStack, VALUE_CONTAINER.getWidth() + BANNER.getWidth(), 0, null);
+        g.drawImage(BANNER, VALUE_CONTAINER.getWidth(), 0, null);
+        g.drawImage(BRIEFCASE_CONTAINER, CASE_AREA.x, CASE_AREA.y, null);
+
+        for(int i = 0; i < CLOSED_BRIEFCASES.length; i++) {
+            g.drawImage(CLOSED_BRIEFCASES[i], CASE_POSITIONS[i].x, CASE_POSITIONS[i].y, null);
+        }
+
+        for(int i = 0; i < REWARDS.size(); i++) {
+            final double reward = REWARDS.get(i);
+            g.drawImage(
+                    buildRewardImage(reward > Briefcase.HIGH_VALUE ? PRIZE_HIGH : PRIZE_LOW, reward),
+                    REWARD_POSITIONS[i].x,
+                    REWARD_POSITIONS[i].y,
+                    null
+            );
+        }
         g.dispose();
         return image;
     }
 
     /**
-     * Build the image displaying the briefcases
-     * Draw the banker if an offer is being made
+     * Get the position of each briefcase within the game image, briefcases are displayed in rows of 5
      *
-     * @return Briefcase container image
+     * @param briefcases Number of briefcases
+     * @return Briefcase positions in order of case number
      */
-    private BufferedImage buildCaseAreaImage() {
-        BufferedImage image = new BufferedImage(
-                BRIEFCASE_CONTAINER.getWidth(),
-                BRIEFCASE_CONTAINER.getHeight(),
-                BufferedImage.TYPE_INT_ARGB
-        );
-
-        Graphics g = image.getGraphics();
-        g.drawImage(BRIEFCASE_CONTAINER, 0, 0, null);
-
+    private static Point[] getCasePositions(int briefcases) {
+        final Point[] positions = new Point[briefcases];
         int xGap = 35, yGap = 25, x = xGap, y = yGap;
 
-        for(Briefcase briefcase : briefcases) {
-            BufferedImage briefcaseImage = buildBriefcaseImage(briefcase);
-            g.drawImage(briefcaseImage, x, y, null);
+        for(int i = 0; i < briefcases; i++) {
+            positions[i] = new Point(CASE_AREA.x + x, CASE_AREA.y + y);
 
-            if(briefcase.getCaseNumber() % 5 == 0) {
+            if((i + 1) % 5 == 0) {
                 x = xGap;
-                y += briefcaseImage.getHeight() + yGap;
+                y += BRIEFCASE_CLOSED.getHeight() + yGap;
             }
             else {
-                x += briefcaseImage.getWidth() + xGap;
+                x += BRIEFCASE_CLOSED.getWidth() + xGap;
             }
         }
+        return positions;
+    }
+
+    /**
+     * Get the position of each reward within the game image.
+     * The lower half of the rewards are displayed on the left side of the image, and the upper half on the right.
+     *
+     * @param rewards Number of rewards
+     * @return Reward positions in ascending order of reward
+     */
+    private static Point[] getRewardPositions(int rewards) {
+        final Point[] positions = new Point[rewards];
+        final int border = 10, perSide = rewards / 2;
+
+        for(int i = 0; i < rewards; i++) {
+            final int stackX = i < perSide ? 0 : VALUE_CONTAINER.getWidth() + BANNER.getWidth();
+            positions[i] = new Point(
+                    stackX + border,
+                    border + (i % perSide) * (PRIZE_LOW.getHeight() + border)
+            );
+        }
+        return positions;
+    }
+
+    /**
+     * Build the game image.
+     * Display available rewards on the left and right side of the briefcases.
+     * The game image is retained between updates and only the briefcases & rewards which have changed since the
+     * previous update are redrawn.
+     * The returned image is the retained image and is only valid until the next update.
+     *
+     * @return Game image
+     */
+    BufferedImage buildGameImage() {
+        Graphics2D g = canvas.createGraphics();
+
+        for(Briefcase briefcase : briefcases) {
+            final int index = briefcase.getCaseNumber() - 1;
+            final BufferedImage background = getBriefcaseBackground(briefcase);
+
+            // Unchanged since last drawn
+            if(drawnCases[index] == background) {
+                continue;
+            }
+
+            // Restore the briefcase container beneath the briefcase before drawing the new briefcase image
+            final Point position = CASE_POSITIONS[index];
+            final int x = position.x - CASE_AREA.x, y = position.y - CASE_AREA.y;
+            g.setComposite(AlphaComposite.Src);
+            g.drawImage(
+                    BRIEFCASE_CONTAINER,
+                    position.x,
+                    position.y,
+                    position.x + background.getWidth(),
+                    position.y + background.getHeight(),
+                    x,
+                    y,
+                    x + background.getWidth(),
+                    y + background.getHeight(),
+                    null
+            );
+            g.setComposite(AlphaComposite.SrcOver);
+            g.drawImage(buildBriefcaseImage(briefcase, background), position.x, position.y, null);
+            drawnCases[index] = background;
+        }
+
+        for(Briefcase briefcase : briefcases) {
+            final int index = REWARDS.indexOf(briefcase.getReward());
+            final BufferedImage background = getRewardBackground(briefcase);
+
+            // Reward images are opaque and replace the previous image
+            if(drawnRewards[index] != background) {
+                final Point position = REWARD_POSITIONS[index];
+                g.drawImage(buildRewardImage(background, briefcase.getReward()), position.x, position.y, null);
+                drawnRewards[index] = background;
+            }
+        }
+        g.dispose();
 
         BufferedImage banker = null;
         if(status == GAME_STATUS.DEAL_OFFERED) {
@@ -403,51 +559,93 @@ public class DealOrNoDeal {
         else if(status == GAME_STATUS.DEAL_ACCEPTED) {
             banker = offers.getFirst() >= selected.getReward() ? BANKER_SAD : BANKER_HAPPY;
         }
-        if(banker != null) {
-            g.drawImage(
-                    banker,
-                    image.getHeight() - banker.getHeight(),
-                    image.getWidth() - banker.getWidth(),
-                    null
-            );
+
+        if(banker == null) {
+            return canvas;
         }
+
+        // The banker covers briefcases, draw on a copy so that the retained image doesn't need to be restored
+        BufferedImage image = ImageCache.copy(canvas);
+        g = image.createGraphics();
+        g.drawImage(
+                banker,
+                CASE_AREA.x + BRIEFCASE_CONTAINER.getHeight() - banker.getHeight(),
+                CASE_AREA.y + BRIEFCASE_CONTAINER.getWidth() - banker.getWidth(),
+                null
+        );
         g.dispose();
         return image;
     }
 
+    /**
+     * Build and encode the game image.
+     * Synchronized as the game image is retained and may be requested by a button press while a message is
+     * being sent.
+     *
+     * @return Encoded game image
+     */
+    private synchronized byte[] encodeGameImage() {
+        return imageToByteArray(buildGameImage());
+    }
+
+    /**
+     * Get the briefcase image to use for the given briefcase.
+     * Use different images to denote the selected case & high/low value rewards when opened.
+     *
+     * @param briefcase Briefcase to get image for
+     * @return Briefcase image
+     */
+    private BufferedImage getBriefcaseBackground(Briefcase briefcase) {
+        boolean selectedCase = briefcase == selected;
+        if(briefcase.isOpened()) {
+            return selectedCase ? BRIEFCASE_OPEN_CHOSEN : (briefcase.isHighValue() ? BRIEFCASE_OPEN_HIGH : BRIEFCASE_OPEN_LOW);
+        }
+        return selectedCase ? BRIEFCASE_CLOSED_CHOSEN : BRIEFCASE_CLOSED;
+    }
+
     /**
      * Build an image displaying the briefcase.
      * Use either the case number or reward based on whether it has been opened
-     * Use different images to denote high/low value rewards when opened
      *
-     * @param briefcase Briefcase to draw
+     * @param briefcase  Briefcase to draw
+     * @param background Briefcase image to draw on - from {@link #getBriefcaseBackground(Briefcase)}
      * @return Image displaying briefcase
      */
-    private BufferedImage buildBriefcaseImage(Briefcase briefcase) {
-        boolean open = briefcase.isOpened();
-        boolean selectedCase = briefcase == selected;
-        BufferedImage briefcaseImage;
+    private BufferedImage buildBriefcaseImage(Briefcase briefcase, BufferedImage background) {
 
-        if(open) {
-            briefcaseImage = selectedCase ? BRIEFCASE_OPEN_CHOSEN : (briefcase.isHighValue() ? BRIEFCASE_OPEN_HIGH : BRIEFCASE_OPEN_LOW);
-        }
-        else {
-            briefcaseImage = selectedCase ? BRIEFCASE_CLOSED_CHOSEN : BRIEFCASE_CLOSED;
+        // Closed briefcases are pre-rendered
+        if(background == BRIEFCASE_CLOSED) {
+            return CLOSED_BRIEFCASES[briefcase.getCaseNumber() - 1];
         }
+        boolean open = briefcase.isOpened();
+        return buildBriefcaseImage(
+                background,
+                open ? briefcase.getCaseLabelReward() : String.valueOf(briefcase.getCaseNumber()),
+                open
+        );
+    }
 
+    /**
+     * Build an image displaying a briefcase with the given text
+     *
+     * @param background Briefcase image
+     * @param text       Case number (closed) or reward (open) to display
+     * @param open       Briefcase has been opened
+     * @return Image displaying briefcase
+     */
+    private static BufferedImage buildBriefcaseImage(BufferedImage background, String text, boolean open) {
         BufferedImage image = new BufferedImage(
-                briefcaseImage.getWidth(),
-                briefcaseImage.getHeight(),
+                background.getWidth(),
+                background.getHeight(),
                 BufferedImage.TYPE_INT_ARGB
         );
 
         Graphics g = image.getGraphics();
-        g.drawImage(briefcaseImage, 0, 0, null);
-        g.setFont(FONT.deriveFont(open ? 18f : 32f));
+        g.drawImage(background, 0, 0, null);
+        g.setFont(open ? OPEN_CASE_FONT : CLOSED_CASE_FONT);
         g.setColor(open ? Color.WHITE : Color.BLACK);
         FontMetrics fm = g.getFontMetrics();
 
-        String text = open ? briefcase.getCaseLabelReward() : String.valueOf(briefcase.getCaseNumber());
         g.drawString(
                 text,
                 (image.getWidth() / 2) - (fm.stringWidth(text) / 2),
@@ -458,47 +656,27 @@ public class DealOrNoDeal {
     }
 
     /**
-     * Build the reward stack to be displayed on each side of the image
+     * Get the reward image to use for the given briefcase.
+     * Use a different image based on the value of the reward and whether it has been revealed in the briefcase
      *
-     * @param briefcases Briefcases in order of reward
-     * @return Reward stack image
+     * @param briefcase Briefcase to get reward image for
+     * @return Reward image
      */
-    private BufferedImage buildRewardStackImage(Briefcase[] briefcases) {
-        BufferedImage image = new BufferedImage(
-                VALUE_CONTAINER.getWidth(),
-                VALUE_CONTAINER.getHeight(),
-                BufferedImage.TYPE_INT_RGB
-        );
-        Graphics g = image.getGraphics();
-        g.drawImage(VALUE_CONTAINER, 0, 0, null);
-        g.setFont(FONT);
-        int border = 10, x = 10, y = border;
-        for(Briefcase briefcase : briefcases) {
-            BufferedImage reward = buildRewardImage(briefcase);
-            g.drawImage(reward, x, y, null);
-            y += reward.getHeight() + border;
+    private BufferedImage getRewardBackground(Briefcase briefcase) {
+        if(briefcase.isOpened()) {
+            return briefcase == selected && status == GAME_STATUS.FINALE ? PRIZE_WON : PRIZE_LOST;
         }
-        g.dispose();
-        return image;
+        return briefcase.isHighValue() ? PRIZE_HIGH : PRIZE_LOW;
     }
 
     /**
      * Build the reward image displayed within the reward stack
-     * Use a different image based on the value of the reward and whether it
-     * has been revealed in the briefcase
      *
-     * @param briefcase Briefcase to build reward image for
+     * @param background Reward image - from {@link #getRewardBackground(Briefcase)}
+     * @param reward     Reward to display
      * @return Reward image
      */
-    private BufferedImage buildRewardImage(Briefcase briefcase) {
-        BufferedImage background;
-        if(briefcase.isOpened()) {
-            background = (briefcase == selected && status == GAME_STATUS.FINALE ? PRIZE_WON : PRIZE_LOST);
-        }
-        else {
-            background = briefcase.isHighValue() ? PRIZE_HIGH : PRIZE_LOW;
-        }
-
+    private static BufferedImage buildRewardImage(BufferedImage background, double reward) {
         BufferedImage image = new BufferedImage(
                 background.getWidth(),
                 background.getHeight(),
@@ -506,11 +684,10 @@ public class DealOrNoDeal {
         );
         Graphics g = image.getGraphics();
         g.drawImage(background, 0, 0, null);
-        g.setFont(FONT.deriveFont(22f));
+        g.setFont(REWARD_FONT);
         g.setColor(background == PRIZE_WON ? Color.BLACK : Color.decode("#dcdcdc"));
         FontMetrics fm = g.getFontMetrics();
 
-        double reward = briefcase.getReward();
         String rewardString = formatReward(reward);
 
         g.drawString(
@@ -522,7 +699,6 @@ public class DealOrNoDeal {
         return image;
     }
 
-
     /**
      * Update the game message within the channel
      * Delete the previous message and send the new one
@@ -651,7 +827,7 @@ public class DealOrNoDeal {
      * @param caseNumber Case number
      * @return Briefcase or null
      */
-    private Briefcase getCase(int caseNumber) {
+    Briefcase getCase(int caseNumber) {
         caseNumber--;
         if(caseNumber >= briefcases.size() || caseNumber < 0) {
             return null;
@@ -693,34 +869,7 @@ public class DealOrNoDeal {
      * @return Rewards
      */
     private ArrayList<Double> getRewards() {
-        return new ArrayList<>(Arrays.asList(
-                0.01,
-                1.0,
-                5.0,
-                10.0,
-                25.0,
-                50.0,
-                75.0,
-                100.0,
-                200.0,
-                300.0,
-                400.0,
-                500.0,
-                750.0,
-                1000.0,
-                5000.0,
-                10000.0,
-                25000.0,
-                50000.0,
-                75000.0,
-                100000.0,
-                200000.0,
-                300000.0,
-                400000.0,
-                500000.0,
-                750000.0,
-                1000000.0
-        ));
+        return new ArrayList<>(REWARDS);
     }
 
     /**
@@ -254,48 +254,21 @@ public class Hangman {
     }
 
     /**
-     * Build the Hangman image
+     * Build the Hangman image of the current game & encode it as a PNG
      *
-     * @return Hangman image
+     * @return Hangman image PNG bytes
      */
     private byte[] buildImage() {
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         try {
-            BufferedImage gallows = this.gallows.getCurrentImage();
-            Graphics g = gallows.getGraphics();
-            Font font = g.getFontMetrics().getFont().deriveFont(50f);
-            FontMetrics fm = g.getFontMetrics(font);
-
-            /*
-             * Display the word with the characters separated by a space, this makes a more obvious distinction
-             * between characters (and prevents underscores merging in to a line e.g "___" vs "_ _ _").
-             */
-            final String guess = StringUtils.join(
-                    (running ? currentGuess : secretWord.getWord())
-                            .toUpperCase().split(""), " "
-            );
-
-            BufferedImage playerGuess = new BufferedImage(
-                    fm.stringWidth(guess), fm.getHeight(), BufferedImage.TYPE_INT_ARGB
-            );
-            g = playerGuess.getGraphics();
-            g.setFont(font);
-            g.drawString(guess, 0, playerGuess.getHeight() - fm.getMaxDescent());
-
-            BufferedImage canvas = new BufferedImage(
-                    Math.max(
-                            gallows.getWidth(),
-                            playerGuess.getWidth()
+            ImageIO.write(
+                    renderImage(
+                            gallows.getCurrentImage(),
+                            running ? currentGuess : secretWord.getWord()
                     ),
-                    gallows.getHeight() + playerGuess.getHeight(),
-                    BufferedImage.TYPE_INT_ARGB
+                    "png",
+                    outputStream
             );
-            g = canvas.getGraphics();
-            g.drawImage(gallows, 0, 0, null);
-            g.drawImage(playerGuess, 0, gallows.getHeight(), null);
-            g.dispose();
-
-            ImageIO.write(canvas, "png", outputStream);
         }
         catch(Exception e) {
             e.printStackTrace();
@@ -303,6 +276,46 @@ public class Hangman {
         return outputStream.toByteArray();
     }
 
+    /**
+     * Render the Hangman image of the given gallows stage & word
+     *
+     * @param gallows Image of the current gallows stage
+     * @param word    Word to display beneath the gallows - e.g "_a_a_"
+     * @return Hangman image
+     */
+    static BufferedImage renderImage(BufferedImage gallows, String word) {
+        Graphics g = gallows.getGraphics();
+        Font font = g.getFontMetrics().getFont().deriveFont(50f);
+        FontMetrics fm = g.getFontMetrics(font);
+
+        /*
+         * Display the word with the characters separated by a space, this makes a more obvious distinction
+         * between characters (and prevents underscores merging in to a line e.g "___" vs "_ _ _").
+         */
+        final String guess = StringUtils.join(word.toUpperCase().split(""), " ");
+
+        BufferedImage playerGuess = new BufferedImage(
+                fm.stringWidth(guess), fm.getHeight(), BufferedImage.TYPE_INT_ARGB
+        );
+        g = playerGuess.getGraphics();
+        g.setFont(font);
+        g.drawString(guess, 0, playerGuess.getHeight() - fm.getMaxDescent());
+
+        BufferedImage canvas = new BufferedImage(
+                Math.max(
+                        gallows.getWidth(),
+                        playerGuess.getWidth()
+                ),
+                gallows.getHeight() + playerGuess.getHeight(),
+                BufferedImage.TYPE_INT_ARGB
+        );
+        g = canvas.getGraphics();
+        g.drawImage(gallows, 0, 0, null);
+        g.drawImage(playerGuess, 0, gallows.getHeight(), null);
+        g.dispose();
+        return canvas;
+    }
+
     /**
      * Guess a letter/word
      *
@@ -1,5 +1,6 @@
 package Millionaire;
 
+import Command.Structure.CommandExecutor;
 import Command.Structure.EmbedHelper;
 import Command.Structure.EmoteHelper;
 import Network.NetworkRequest;
@@ -459,14 +460,14 @@ public class MillionaireGameshow {
      * @param reward Reward from quiz
      */
     private void addToBank(int reward) {
-        new Thread(() -> new NetworkRequest("millionaire/bank/update", true)
+        CommandExecutor.getInstance().executeOrRun(owner.getGuild(), CommandExecutor.POOL.IO, () -> new NetworkRequest("millionaire/bank/update", true)
                 .post(
                         new JSONObject()
                                 .put("discord_id", owner.getIdLong())
                                 .put("name", owner.getEffectiveName())
                                 .put("reward", reward)
                                 .toString()
-                )).start();
+                ));
     }
 
     /**
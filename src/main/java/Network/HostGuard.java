@@ -0,0 +1,378 @@
+package Network;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Protect upstream hosts (and the bot) from requests being made to a struggling host.
+ * Each host has a circuit breaker, after a number of consecutive failures (timeouts, 5xx, etc) the breaker opens and
+ * requests to the host fail immediately (with the timeout response) rather than waiting on the host to time out.
+ * Once the open duration has passed, a single trial request is let through (half open) - if it succeeds the breaker
+ * closes, otherwise it opens again.
+ * Hosts may also be given a token bucket rate limit, requests wait for a token (up to a maximum wait) before being made.
+ */
+public class HostGuard implements Interceptor {
+    public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    public static final long
+            DEFAULT_OPEN_DURATION = 30000, // 30 seconds
+            MAX_RATE_LIMIT_WAIT = 10000; // 10 seconds
+    private static HostGuard instance = null;
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers;
+    private final ConcurrentHashMap<String, TokenBucket> rateLimits;
+
+    public enum STATE {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    /**
+     * Create the host guard
+     */
+    private HostGuard() {
+        this.breakers = new ConcurrentHashMap<>();
+        this.rateLimits = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get an instance of the host guard
+     *
+     * @return Instance
+     */
+    public static synchronized HostGuard getInstance() {
+        if(instance == null) {
+            instance = new HostGuard();
+        }
+        return instance;
+    }
+
+    /**
+     * Limit the rate of requests to the given host
+     *
+     * @param host              Host e.g "secure.runescape.com"
+     * @param requestsPerSecond Sustained requests per second
+     * @param burst             Maximum number of requests which may be made at once after the host has been idle
+     */
+    public void setRateLimit(String host, double requestsPerSecond, int burst) {
+        rateLimits.put(host.toLowerCase(), new TokenBucket(requestsPerSecond, burst));
+    }
+
+    /**
+     * Configure the circuit breaker of the given host, this resets the current state of the breaker.
+     *
+     * @param host             Host e.g "secure.runescape.com"
+     * @param failureThreshold Number of consecutive failures required to open the breaker
+     * @param openDuration     Time in ms to fail requests before letting a trial request through
+     */
+    public void setCircuitBreaker(String host, int failureThreshold, long openDuration) {
+        breakers.put(host.toLowerCase(), new CircuitBreaker(failureThreshold, openDuration));
+    }
+
+    /**
+     * Get the state of the circuit breaker for the host of the given URL
+     *
+     * @param url URL e.g "https://secure.runescape.com/m=hiscore_oldschool/index_lite.ws?player=dave"
+     * @return Breaker state (CLOSED if the URL is invalid or no requests have been made to the host)
+     */
+    public STATE getState(String url) {
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if(httpUrl == null) {
+            return STATE.CLOSED;
+        }
+        CircuitBreaker breaker = breakers.get(httpUrl.host());
+        return breaker == null ? STATE.CLOSED : breaker.getState();
+    }
+
+    /**
+     * Check whether the host of the given URL is currently considered down (requests to it are failing immediately)
+     *
+     * @param url URL e.g "https://secure.runescape.com/m=hiscore_oldschool/index_lite.ws?player=dave"
+     * @return Host is down
+     */
+    public boolean isDown(String url) {
+        return getState(url) == STATE.OPEN;
+    }
+
+    /**
+     * Get the circuit breaker for the given host, creating it with the default values if not configured
+     *
+     * @param host Host
+     * @return Circuit breaker
+     */
+    private CircuitBreaker getBreaker(String host) {
+        return breakers.computeIfAbsent(
+                host,
+                key -> new CircuitBreaker(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION)
+        );
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        final String host = chain.request().url().host();
+        CircuitBreaker breaker = getBreaker(host);
+
+        if(!breaker.allowRequest()) {
+            throw new HostUnavailableException(host + " is down, failing fast");
+        }
+
+        TokenBucket rateLimit = rateLimits.get(host);
+        if(rateLimit != null) {
+            try {
+                rateLimit.acquire(host);
+            }
+            catch(IOException e) {
+                breaker.releaseTrial();
+                throw e;
+            }
+        }
+
+        try {
+            Response response = chain.proceed(chain.request());
+            final int code = response.code();
+            if(code == 408 || code == 429 || code >= 500) {
+                breaker.recordFailure();
+            }
+            else {
+                breaker.recordSuccess();
+            }
+            return response;
+        }
+        catch(IOException e) {
+
+            /*
+             * Requests cancelled by the caller say nothing about the health of the host.
+             * Calls which time out are also cancelled (by OkHttp), so the caller must have flagged the cancellation.
+             */
+            if(isCancelledByCaller(chain)) {
+                breaker.releaseTrial();
+            }
+            else {
+                breaker.recordFailure();
+            }
+            throw e;
+        }
+
+        // Let another trial request through if this was the trial
+        catch(RuntimeException e) {
+            breaker.releaseTrial();
+            throw e;
+        }
+    }
+
+    /**
+     * Check whether the call of the given chain was cancelled by the caller (rather than timing out)
+     *
+     * @param chain Interceptor chain
+     * @return Call was cancelled by the caller
+     */
+    private boolean isCancelledByCaller(Chain chain) {
+        final CallerCancellation cancellation = chain.request().tag(CallerCancellation.class);
+        return cancellation != null && cancellation.isCancelled();
+    }
+
+    /**
+     * Request tag used to flag that the call was cancelled by the caller.
+     * A call which exceeds its call timeout is cancelled too, the tag distinguishes the two.
+     */
+    public static class CallerCancellation {
+        private volatile boolean cancelled = false;
+
+        /**
+         * Flag that the caller has cancelled the call, this should be done before cancelling the call
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Check whether the caller has cancelled the call
+         *
+         * @return Call was cancelled by the caller
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * Thrown when a request is not made as the host is down or the rate limit wait is too long.
+     * Requests treat this as any other failure and return the timeout response.
+     */
+    public static class HostUnavailableException extends IOException {
+        /**
+         * Create the exception
+         *
+         * @param message Reason the host is unavailable
+         */
+        public HostUnavailableException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Closed/open/half open circuit breaker for a single host
+     */
+    private static class CircuitBreaker {
+        private final int failureThreshold;
+        private final long openDuration;
+        private STATE state;
+        private int failures;
+        private long openedAt;
+        private boolean trialInProgress;
+
+        /**
+         * Create the circuit breaker in the closed state
+         *
+         * @param failureThreshold Number of consecutive failures required to open the breaker
+         * @param openDuration     Time in ms to fail requests before letting a trial request through
+         */
+        public CircuitBreaker(int failureThreshold, long openDuration) {
+            this.failureThreshold = failureThreshold;
+            this.openDuration = openDuration;
+            this.state = STATE.CLOSED;
+            this.failures = 0;
+            this.trialInProgress = false;
+        }
+
+        /**
+         * Check whether a request may be made. When the breaker is open and the open duration has passed,
+         * the breaker is moved to half open and the caller is allowed to make the trial request.
+         *
+         * @return Request may be made
+         */
+        public synchronized boolean allowRequest() {
+            switch(state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if(System.currentTimeMillis() - openedAt < openDuration) {
+                        return false;
+                    }
+                    state = STATE.HALF_OPEN;
+                    trialInProgress = true;
+                    return true;
+
+                // Only one trial request at a time
+                default:
+                    if(trialInProgress) {
+                        return false;
+                    }
+                    trialInProgress = true;
+                    return true;
+            }
+        }
+
+        /**
+         * Record a successful request, closing the breaker
+         */
+        public synchronized void recordSuccess() {
+            state = STATE.CLOSED;
+            failures = 0;
+            trialInProgress = false;
+        }
+
+        /**
+         * Record a failed request, opening the breaker if the trial request failed or the threshold is reached
+         */
+        public synchronized void recordFailure() {
+            failures++;
+            trialInProgress = false;
+            if(state == STATE.HALF_OPEN || failures >= failureThreshold) {
+                state = STATE.OPEN;
+                openedAt = System.currentTimeMillis();
+            }
+        }
+
+        /**
+         * Allow another trial request if the current trial was cancelled before completing
+         */
+        public synchronized void releaseTrial() {
+            trialInProgress = false;
+        }
+
+        /**
+         * Get the current state of the breaker, an open breaker which is due a trial request is reported as half open
+         *
+         * @return Breaker state
+         */
+        public synchronized STATE getState() {
+            if(state == STATE.OPEN && System.currentTimeMillis() - openedAt >= openDuration) {
+                return STATE.HALF_OPEN;
+            }
+            return state;
+        }
+    }
+
+    /**
+     * Token bucket rate limit for a single host
+     */
+    private static class TokenBucket {
+        private final double tokensPerMs;
+        private final int capacity;
+        private double tokens;
+        private long lastRefill;
+
+        /**
+         * Create the token bucket (initially full)
+         *
+         * @param requestsPerSecond Tokens added per second
+         * @param capacity          Maximum number of tokens
+         */
+        public TokenBucket(double requestsPerSecond, int capacity) {
+            this.tokensPerMs = requestsPerSecond / 1000;
+            this.capacity = capacity;
+            this.tokens = capacity;
+            this.lastRefill = System.currentTimeMillis();
+        }
+
+        /**
+         * Take a token, reserving the next token if none are available.
+         *
+         * @return Time in ms to wait before the reserved token is available (0 if a token was available)
+         */
+        private synchronized long reserve() {
+            long now = System.currentTimeMillis();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerMs);
+            lastRefill = now;
+            tokens--;
+            return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / tokensPerMs);
+        }
+
+        /**
+         * Return a reserved token which won't be used
+         */
+        private synchronized void cancelReservation() {
+            tokens++;
+        }
+
+        /**
+         * Wait for a token
+         *
+         * @param host Host the token is for
+         * @throws IOException If the wait would exceed the maximum wait or the thread is interrupted
+         */
+        public void acquire(String host) throws IOException {
+            long wait = reserve();
+            if(wait == 0) {
+                return;
+            }
+            if(wait > MAX_RATE_LIMIT_WAIT) {
+                cancelReservation();
+                throw new HostUnavailableException(host + " rate limit exceeded");
+            }
+            try {
+                Thread.sleep(wait);
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted waiting for rate limit", e);
+            }
+        }
+    }
+}
@@ -1,19 +1,51 @@
 package Network;
 
 import okhttp3.*;
+import okio.BufferedSource;
+import okio.ForwardingSource;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
 
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class NetworkRequest {
-    private final OkHttpClient client;
+    public static final long
+            DEFAULT_CONNECT_TIMEOUT = 10000,
+            DEFAULT_READ_TIMEOUT = 10000,
+            DEFAULT_CALL_TIMEOUT = 60000;
+    public static final int
+            DEFAULT_MAX_IDLE_CONNECTIONS = 32,
+            DEFAULT_MAX_REQUESTS_PER_HOST = 16;
+    public static final String DEFAULT_CACHE_DIRECTORY = "network_cache";
+    public static final long DEFAULT_CACHE_SIZE = 100L * 1024 * 1024; // 100MB
+    private static final long KEEP_ALIVE_DURATION = 5; // Minutes
+    private static OkHttpClient redirectClient, noRedirectClient, cachedRedirectClient, cachedNoRedirectClient;
+    private static Cache cache;
+    private static boolean offline = false;
     private final NetworkResponse timeout;
     private final String url;
-    private final boolean local;
+    private final boolean local, redirect;
+    private OkHttpClient client;
+    private boolean cached;
 
     /**
      * Initialise an OkHTTP client with a url
@@ -33,13 +65,143 @@ public class NetworkRequest {
      * @param redirect Follow redirects
      */
     public NetworkRequest(String url, boolean local, boolean redirect) {
-        this.client = new OkHttpClient.Builder()
-                .followRedirects(redirect)
-                .followSslRedirects(redirect)
-                .build();
+        this.client = getClient(redirect, false);
         this.timeout = new NetworkResponse(null, NetworkResponse.TIMEOUT_CODE, null);
         this.url = url;
         this.local = local;
+        this.redirect = redirect;
+        this.cached = false;
+    }
+
+    /**
+     * Store the response of this request in the shared disk cache and revalidate it on subsequent requests.
+     * The stored ETag/Last-Modified validators are sent with the request (If-None-Match/If-Modified-Since),
+     * if the server responds with 304 Not Modified, the cached body is returned as a 200 response.
+     * This should be used for large resources which rarely change (e.g item mappings, app lists),
+     * the body is still read & parsed as normal but is not downloaded again when unchanged.
+     *
+     * @return This request
+     */
+    public NetworkRequest useCache() {
+        this.client = getClient(redirect, true);
+        this.cached = true;
+        return this;
+    }
+
+    /**
+     * Get the shared client for the given redirect & cache policy.
+     * Clients share a connection pool & dispatcher so that connections are reused across requests.
+     *
+     * @param redirect Follow redirects
+     * @param cached   Use the disk cache
+     * @return Shared client
+     */
+    private static synchronized OkHttpClient getClient(boolean redirect, boolean cached) {
+        if(redirectClient == null) {
+            configureClients(
+                    DEFAULT_CONNECT_TIMEOUT,
+                    DEFAULT_READ_TIMEOUT,
+                    DEFAULT_CALL_TIMEOUT,
+                    DEFAULT_MAX_IDLE_CONNECTIONS,
+                    DEFAULT_MAX_REQUESTS_PER_HOST
+            );
+        }
+        if(cached) {
+            if(cache == null) {
+                configureCache(new File(DEFAULT_CACHE_DIRECTORY), DEFAULT_CACHE_SIZE);
+            }
+            return redirect ? cachedRedirectClient : cachedNoRedirectClient;
+        }
+        return redirect ? redirectClient : noRedirectClient;
+    }
+
+    /**
+     * Set the directory & size budget of the disk cache used by requests which opt in to caching.
+     * When the cache exceeds the size budget, the least recently used responses are evicted.
+     * Requests created after this is called will use the new cache.
+     *
+     * @param directory Directory to store cached responses in
+     * @param maxSize   Maximum size of the cache in bytes
+     */
+    public static synchronized void configureCache(File directory, long maxSize) {
+        cache = new Cache(directory, maxSize);
+        if(redirectClient != null) {
+            buildCachedClients();
+        }
+    }
+
+    /**
+     * Set whether cached requests should be served only from the disk cache, without contacting the network.
+     * A cached request for a resource which is not in the cache will fail (e.g for testing against stored responses).
+     *
+     * @param offline Serve cached requests only from the cache
+     */
+    public static void setOffline(boolean offline) {
+        NetworkRequest.offline = offline;
+    }
+
+    /**
+     * Get the number of cached requests which were served from the disk cache
+     * (either without contacting the network or after a 304 Not Modified response).
+     *
+     * @return Number of cache hits
+     */
+    public static synchronized int getCacheHitCount() {
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    /**
+     * Get the number of cached requests which required a full response from the network
+     *
+     * @return Number of cache misses
+     */
+    public static synchronized int getCacheMissCount() {
+        return cache == null ? 0 : cache.requestCount() - cache.hitCount();
+    }
+
+    /**
+     * Build the cached clients from the shared clients, they share the connection pool, dispatcher, & interceptors.
+     */
+    private static void buildCachedClients() {
+        cachedRedirectClient = redirectClient.newBuilder().cache(cache).build();
+        cachedNoRedirectClient = noRedirectClient.newBuilder().cache(cache).build();
+    }
+
+    /**
+     * Build the shared clients used by all requests. Requests created after this is called will use the new clients.
+     *
+     * @param connectTimeout     Connect timeout in ms
+     * @param readTimeout        Read timeout in ms
+     * @param callTimeout        Timeout in ms for an entire call (including redirects and reading the body)
+     * @param maxIdleConnections Maximum number of idle connections to keep in the pool
+     * @param maxRequestsPerHost Maximum number of concurrent requests to a single host
+     */
+    public static synchronized void configureClients(long connectTimeout, long readTimeout, long callTimeout, int maxIdleConnections, int maxRequestsPerHost) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        redirectClient = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, KEEP_ALIVE_DURATION, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .addInterceptor(HostGuard.getInstance())
+                .addInterceptor(new HostConcurrencyInterceptor(maxRequestsPerHost))
+                .connectTimeout(connectTimeout, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeout, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeout, TimeUnit.MILLISECONDS)
+                .followRedirects(true)
+                .followSslRedirects(true)
+                .build();
+
+        // Shares the connection pool, dispatcher, & interceptors of the redirect client
+        noRedirectClient = redirectClient
+                .newBuilder()
+                .followRedirects(false)
+                .followSslRedirects(false)
+                .build();
+
+        if(cache != null) {
+            buildCachedClients();
+        }
     }
 
     /**
@@ -49,9 +211,15 @@ public class NetworkRequest {
      * @throws MalformedURLException On bad URL
      */
     private Request.Builder getRequestBuilder() throws MalformedURLException {
-        return new Request.Builder().url(
+        Request.Builder builder = new Request.Builder().url(
                 new URL(local ? "http://" + Secret.LOCAL_IP + Secret.LOCAL_API_PATH + url : url)
         );
+
+        // Always revalidate with the server (conditional request) unless offline
+        if(cached) {
+            builder.cacheControl(offline ? CacheControl.FORCE_CACHE : new CacheControl.Builder().noCache().build());
+        }
+        return builder;
     }
 
     /**
@@ -80,6 +248,80 @@ public class NetworkRequest {
         }
     }
 
+    /**
+     * Make a GET request and pass the body stream to the given handler, the body is never held in memory
+     * as a whole unless the handler reads it in to memory.
+     * The stream is closed once the handler returns.
+     *
+     * @param handler Handler to read the response body
+     * @param <T>     Type returned by handler
+     * @return Result of handler or null (if the request fails or the handler throws an exception)
+     */
+    @Nullable
+    public <T> T getStream(StreamHandler<T> handler) {
+        final HashMap<String, String> headers = new HashMap<>();
+        headers.put("accept", "application/json");
+        return getStream(headers, handler);
+    }
+
+    /**
+     * Make a GET request with the given headers and pass the body stream to the given handler, e.g to decode
+     * binary content as it is downloaded.
+     * The stream is closed once the handler returns.
+     *
+     * @param headers Map of header name -> value to send with the request
+     * @param handler Handler to read the response body
+     * @param <T>     Type returned by handler
+     * @return Result of handler or null (if the request fails or the handler throws an exception)
+     */
+    @Nullable
+    public <T> T getStream(HashMap<String, String> headers, StreamHandler<T> handler) {
+        try {
+            Request.Builder builder = getRequestBuilder();
+            parseHeaders(builder, headers);
+            try(Response response = client.newCall(builder.build()).execute()) {
+                ResponseBody body = response.body();
+                if(body == null) {
+                    return null;
+                }
+                return handler.handle(body.byteStream(), response.code());
+            }
+        }
+        catch(Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Make a GET request and parse the response body as it is streamed in to a JSON object.
+     *
+     * @return JSON object or null (if the request fails or the response is not a JSON object)
+     */
+    @Nullable
+    public JSONObject getJSONObject() {
+        return getStream((body, code) -> new JSONObject(getTokener(body)));
+    }
+
+    /**
+     * Make a GET request and parse the response body as it is streamed in to a JSON array.
+     *
+     * @return JSON array or null (if the request fails or the response is not a JSON array)
+     */
+    @Nullable
+    public JSONArray getJSONArray() {
+        return getStream((body, code) -> new JSONArray(getTokener(body)));
+    }
+
+    /**
+     * Create a JSON tokener reading from the given response body stream
+     *
+     * @param body Response body stream
+     * @return JSON tokener
+     */
+    private static JSONTokener getTokener(InputStream body) {
+        return new JSONTokener(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+
     /**
      * Make a DELETE request
      *
@@ -216,6 +458,150 @@ public class NetworkRequest {
         return post(body, null, false);
     }
 
+    /**
+     * Make an asynchronous GET request
+     *
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> getAsync() {
+        return getAsync(null, 0);
+    }
+
+    /**
+     * Make an asynchronous GET request
+     *
+     * @param headers  Map of header name -> value to send with the request (may be null)
+     * @param deadline Maximum time in ms for the call to complete (0 for the default call timeout)
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> getAsync(@Nullable HashMap<String, String> headers, long deadline) {
+        try {
+            Request.Builder builder = getRequestBuilder().addHeader("accept", "application/json");
+            if(headers != null) {
+                parseHeaders(builder, headers);
+            }
+            return executeAsync(builder.build(), deadline);
+        }
+        catch(Exception e) {
+            return CompletableFuture.completedFuture(timeout);
+        }
+    }
+
+    /**
+     * Make an asynchronous JSON POST request
+     *
+     * @param body Body to send
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> postAsync(String body) {
+        return postAsync(RequestBody.create(MediaType.parse("application/json; charset=utf-8"), body), null, 0);
+    }
+
+    /**
+     * Make an asynchronous POST request
+     *
+     * @param body     Body to send
+     * @param headers  Map of header name -> value to send with the request (may be null)
+     * @param deadline Maximum time in ms for the call to complete (0 for the default call timeout)
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> postAsync(RequestBody body, @Nullable HashMap<String, String> headers, long deadline) {
+        try {
+            Request.Builder builder = getRequestBuilder();
+            if(headers != null) {
+                parseHeaders(builder, headers);
+            }
+            return executeAsync(builder.post(body).build(), deadline);
+        }
+        catch(Exception e) {
+            return CompletableFuture.completedFuture(timeout);
+        }
+    }
+
+    /**
+     * Make an asynchronous DELETE request
+     *
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> deleteAsync() {
+        return deleteAsync(0);
+    }
+
+    /**
+     * Make an asynchronous DELETE request
+     *
+     * @param deadline Maximum time in ms for the call to complete (0 for the default call timeout)
+     * @return Future of response from request
+     */
+    public CompletableFuture<NetworkResponse> deleteAsync(long deadline) {
+        try {
+            return executeAsync(
+                    getRequestBuilder().delete().addHeader("accept", "application/json").build(),
+                    deadline
+            );
+        }
+        catch(Exception e) {
+            return CompletableFuture.completedFuture(timeout);
+        }
+    }
+
+    /**
+     * Enqueue the given request and complete the returned future with the response.
+     * Failures complete the future with the timeout response (as the blocking methods return).
+     * Cancelling the future cancels the call.
+     *
+     * @param request  Request to execute
+     * @param deadline Maximum time in ms for the call to complete (0 for the default call timeout)
+     * @return Future of response from request
+     */
+    private CompletableFuture<NetworkResponse> executeAsync(Request request, long deadline) {
+        CompletableFuture<NetworkResponse> future = new CompletableFuture<>();
+        HostGuard.CallerCancellation cancellation = new HostGuard.CallerCancellation();
+        Call call = client.newCall(request.newBuilder().tag(HostGuard.CallerCancellation.class, cancellation).build());
+
+        if(deadline > 0) {
+            call.timeout().timeout(deadline, TimeUnit.MILLISECONDS);
+        }
+
+        // Flagged before cancelling so the host guard doesn't record the cancellation as a failure
+        future.whenComplete((response, throwable) -> {
+            if(future.isCancelled()) {
+                cancellation.cancel();
+                call.cancel();
+            }
+        });
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                future.complete(timeout);
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                future.complete(handleResponse(response));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Wait for all of the given requests to complete (they run concurrently)
+     *
+     * @param requests Futures of requests
+     * @return Future of responses in the same order as the given requests
+     */
+    @SafeVarargs
+    public static CompletableFuture<List<NetworkResponse>> allOf(CompletableFuture<NetworkResponse>... requests) {
+        return CompletableFuture.allOf(requests).thenApply(done -> {
+            List<NetworkResponse> responses = new ArrayList<>();
+            for(CompletableFuture<NetworkResponse> request : requests) {
+                responses.add(request.join());
+            }
+            return responses;
+        });
+    }
+
     /**
      * Return the message of a response
      *
@@ -240,4 +626,160 @@ public class NetworkRequest {
             return timeout;
         }
     }
+
+    /**
+     * Handle a streamed response body
+     *
+     * @param <T> Type returned by handler
+     */
+    public interface StreamHandler<T> {
+        /**
+         * Read the response body stream
+         *
+         * @param body Response body stream (closed after returning)
+         * @param code Response code
+         * @return Result
+         * @throws Exception If unable to read the body
+         */
+        T handle(InputStream body, int code) throws Exception;
+    }
+
+    /**
+     * Limit the number of concurrent requests to a single host.
+     * The dispatcher only limits asynchronous calls, this applies to synchronous calls too.
+     * A permit is held until the response body is closed, so that reading the body counts towards the limit.
+     */
+    private static class HostConcurrencyInterceptor implements Interceptor {
+        private static final long PERMIT_POLL_INTERVAL = 100; // Milliseconds
+        private final ConcurrentHashMap<String, Semaphore> hostPermits;
+        private final int maxRequestsPerHost;
+
+        /**
+         * Create the interceptor
+         *
+         * @param maxRequestsPerHost Maximum number of concurrent requests to a single host
+         */
+        public HostConcurrencyInterceptor(int maxRequestsPerHost) {
+            this.hostPermits = new ConcurrentHashMap<>();
+            this.maxRequestsPerHost = maxRequestsPerHost;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Chain chain) throws IOException {
+            Semaphore permits = hostPermits.computeIfAbsent(
+                    chain.request().url().host(),
+                    host -> new Semaphore(maxRequestsPerHost, true)
+            );
+            acquire(permits, chain.call());
+
+            final Response response;
+            try {
+                response = chain.proceed(chain.request());
+            }
+            catch(IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+
+            final ResponseBody body = response.body();
+            if(body == null) {
+                permits.release();
+                return response;
+            }
+            return response.newBuilder().body(new PermitReleasingBody(body, permits)).build();
+        }
+
+        /**
+         * Wait for a permit to make a request with the given call.
+         * OkHttp cancels a call once its call timeout has elapsed, so the wait ends when the call is cancelled, or
+         * at the latest once the call timeout has elapsed since waiting began.
+         *
+         * @param permits Permits of the host
+         * @param call    Call waiting to make the request
+         * @throws IOException If the call is cancelled/times out or the thread is interrupted while waiting
+         */
+        private void acquire(Semaphore permits, Call call) throws IOException {
+            final long timeout = call.timeout().timeoutNanos();
+            final long deadline = System.nanoTime() + timeout;
+            try {
+                while(!permits.tryAcquire(getPollInterval(timeout, deadline), TimeUnit.NANOSECONDS)) {
+                    if(call.isCanceled()) {
+                        throw new IOException("Canceled waiting for host permit");
+                    }
+                    if(timeout > 0 && deadline - System.nanoTime() <= 0) {
+                        throw new InterruptedIOException("Timed out waiting for host permit");
+                    }
+                }
+            }
+            catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted waiting for host permit");
+            }
+        }
+
+        /**
+         * Get how long to wait for a permit before checking whether the call has been cancelled
+         *
+         * @param timeout  Call timeout in nanoseconds (0 for no timeout)
+         * @param deadline Time in nanoseconds when waiting for a permit times out
+         * @return Time in nanoseconds to wait
+         */
+        private long getPollInterval(long timeout, long deadline) {
+            final long interval = TimeUnit.MILLISECONDS.toNanos(PERMIT_POLL_INTERVAL);
+            return timeout > 0 ? Math.max(0, Math.min(interval, deadline - System.nanoTime())) : interval;
+        }
+    }
+
+    /**
+     * Response body which releases the host permit of its request once closed (or fully read, as the body source
+     * is then closed by the reader).
+     */
+    private static class PermitReleasingBody extends ResponseBody {
+        private final ResponseBody body;
+        private final BufferedSource source;
+
+        /**
+         * Wrap the given response body
+         *
+         * @param body    Response body
+         * @param permits Permits of the host to release a permit to
+         */
+        public PermitReleasingBody(ResponseBody body, Semaphore permits) {
+            final AtomicBoolean released = new AtomicBoolean(false);
+            this.body = body;
+            this.source = Okio.buffer(new ForwardingSource(body.source()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    }
+                    finally {
+
+                        // The body may be closed more than once
+                        if(released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                }
+            });
+        }
+
+        @Nullable
+        @Override
+        public MediaType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return body.contentLength();
+        }
+
+        @NotNull
+        @Override
+        public BufferedSource source() {
+            return source;
+        }
+    }
 }
\ No newline at end of file
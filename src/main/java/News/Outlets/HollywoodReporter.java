@@ -3,6 +3,7 @@ package News.Outlets;
 import Command.Structure.EmbedHelper;
 import Command.Structure.HTMLUtils;
 import Network.NetworkRequest;
+import Network.NetworkResponse;
 import News.Article;
 import News.Author;
 import News.Image;
@@ -11,6 +12,7 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Hollywood Reporter article parsing using their API
@@ -42,34 +44,45 @@ public class HollywoodReporter extends NewsOutlet {
         articleUrl = articleUrl.split("\\?")[0]; // Strip parameters
         final long articleId = getArticleIdFromUrl(articleUrl);
 
-        JSONObject articleData = getArticleDataById(articleId);
+        // Article media only requires the ID, fetch it while fetching the article data
+        CompletableFuture<NetworkResponse> articleMediaRequest = requestArticleMediaData(articleId);
+        JSONObject articleData = parseJSONObject(requestArticleData(articleId));
 
         // Issue with API
         if(articleData == null) {
+            articleMediaRequest.cancel(true);
             return null;
         }
 
+        // Author & featured media are independent, fetch them concurrently
+        final String authorKey = "author", mainImageKey = "featured_media";
+        CompletableFuture<NetworkResponse> authorRequest = articleData.has(authorKey)
+                ? requestAuthorData(articleData.getLong(authorKey))
+                : null;
+
+        CompletableFuture<NetworkResponse> featuredMediaRequest = articleData.has(mainImageKey)
+                ? requestMediaData(articleData.getLong(mainImageKey))
+                : null;
+
         final String introKey = "excerpt";
         String intro = null;
         if(articleData.has(introKey)) {
             intro = HTMLUtils.stripHtml(articleData.getJSONObject(introKey).getString(RENDERED_KEY));
         }
 
-        final String authorKey = "author";
         ArrayList<Author> authors = new ArrayList<>();
-        if(articleData.has(authorKey)) {
-            Author author = getAuthorById(articleData.getLong(authorKey));
+        if(authorRequest != null) {
+            Author author = parseAuthor(parseJSONObject(authorRequest));
             if(author != null) {
                 authors.add(author);
             }
         }
 
         // Article images (excluding the 'featured' image)
-        ArrayList<Image> images = getArticleImages(articleId);
+        ArrayList<Image> images = parseArticleImages(parseJSONArray(articleMediaRequest));
 
-        final String mainImageKey = "featured_media";
-        if(articleData.has(mainImageKey)) {
-            JSONObject featuredMediaData = getMediaDataById(articleData.getLong(mainImageKey));
+        if(featuredMediaRequest != null) {
+            JSONObject featuredMediaData = parseJSONObject(featuredMediaRequest);
 
             // Featured media may not be an image, could be video etc
             if(featuredMediaData != null) {
@@ -92,47 +105,56 @@ public class HollywoodReporter extends NewsOutlet {
     }
 
     /**
-     * Get the JSON data of an article from its unique ID
+     * Request the JSON data of an article from its unique ID
      *
      * @param articleId Unique ID of article - e.g 1234965092
-     * @return JSON data of article or null (if the API doesn't respond)
+     * @return Future of article data response
      */
-    @Nullable
-    private JSONObject getArticleDataById(long articleId) {
-        try {
-            return new JSONObject(new NetworkRequest(getArticleDataUrl(articleId), false).get().body);
-        }
-        catch(Exception e) {
-            return null;
-        }
+    private CompletableFuture<NetworkResponse> requestArticleData(long articleId) {
+        return new NetworkRequest(getArticleDataUrl(articleId), false).getAsync();
     }
 
     /**
-     * Get the JSON data of an article's media by the unique article ID
+     * Request the JSON data of an article's media by the unique article ID
      *
      * @param articleId Unique ID of article - e.g 1234965092
-     * @return JSON data of article media or null (if the API doesn't respond)
+     * @return Future of article media response
      */
-    @Nullable
-    private JSONArray getArticleMediaDataById(long articleId) {
-        try {
-            final String url = MEDIA_API_URL + "?parent=" + articleId + "&media_type=" + IMAGE_TYPE;
-            return new JSONArray(new NetworkRequest(url, false).get().body);
-        }
-        catch(Exception e) {
-            return null;
-        }
+    private CompletableFuture<NetworkResponse> requestArticleMediaData(long articleId) {
+        final String url = MEDIA_API_URL + "?parent=" + articleId + "&media_type=" + IMAGE_TYPE;
+        return new NetworkRequest(url, false).getAsync();
     }
 
     /**
-     * Get the JSON data of a media asset from its unique ID
+     * Request the JSON data of a media asset from its unique ID
      *
      * @param mediaId Unique ID of the media - e.g 1234978945
-     * @return JSON data of media or null (if the API doesn't respond)
+     * @return Future of media response
+     */
+    private CompletableFuture<NetworkResponse> requestMediaData(long mediaId) {
+        return new NetworkRequest(MEDIA_API_URL + mediaId, false).getAsync();
+    }
+
+    /**
+     * Request the JSON data of an author from their unique ID
+     *
+     * @param authorId Unique ID of author - e.g 1223253
+     * @return Future of author response
      */
-    private JSONObject getMediaDataById(long mediaId) {
+    private CompletableFuture<NetworkResponse> requestAuthorData(long authorId) {
+        return new NetworkRequest(BASE_API_URL + "users/" + authorId, false).getAsync();
+    }
+
+    /**
+     * Wait for the given request and parse the response in to a JSON object
+     *
+     * @param request Future of response
+     * @return JSON object or null (if the API doesn't respond)
+     */
+    @Nullable
+    private JSONObject parseJSONObject(CompletableFuture<NetworkResponse> request) {
         try {
-            return new JSONObject(new NetworkRequest(MEDIA_API_URL + mediaId, false).get().body);
+            return new JSONObject(request.join().body);
         }
         catch(Exception e) {
             return null;
@@ -140,15 +162,15 @@ public class HollywoodReporter extends NewsOutlet {
     }
 
     /**
-     * Get the JSON data of an author from their unique ID
+     * Wait for the given request and parse the response in to a JSON array
      *
-     * @param authorId Unique ID of author - e.g 1223253
-     * @return JSON data of author or null (if the API doesn't respond)
+     * @param request Future of response
+     * @return JSON array or null (if the API doesn't respond)
      */
     @Nullable
-    private JSONObject getAuthorDataById(long authorId) {
+    private JSONArray parseJSONArray(CompletableFuture<NetworkResponse> request) {
         try {
-            return new JSONObject(new NetworkRequest(BASE_API_URL + "users/" + authorId, false).get().body);
+            return new JSONArray(request.join().body);
         }
         catch(Exception e) {
             return null;
@@ -211,16 +233,14 @@ public class HollywoodReporter extends NewsOutlet {
 
 
     /**
-     * Get a list of images in an article by the unique article ID.
+     * Parse a list of images from the JSON data of an article's media
      *
-     * @param articleId Unique ID of article - e.g 1234965092
+     * @param mediaData JSON data of article media (may be null)
      * @return List of images in the article
      */
-    private ArrayList<Image> getArticleImages(long articleId) {
+    private ArrayList<Image> parseArticleImages(@Nullable JSONArray mediaData) {
         ArrayList<Image> images = new ArrayList<>();
 
-        JSONArray mediaData = getArticleMediaDataById(articleId);
-
         // No response
         if(mediaData == null) {
             return images;
@@ -240,14 +260,13 @@ public class HollywoodReporter extends NewsOutlet {
     }
 
     /**
-     * Get an author by their unique ID.
+     * Parse an author from their JSON data
      *
-     * @param authorId Unique ID of author - e.g 1223253
-     * @return Author or null (if the API doesn't respond)
+     * @param authorData JSON data of author (may be null)
+     * @return Author or null (if the API didn't respond)
      */
     @Nullable
-    private Author getAuthorById(long authorId) {
-        JSONObject authorData = getAuthorDataById(authorId);
+    private Author parseAuthor(@Nullable JSONObject authorData) {
 
         // No response
         if(authorData == null) {
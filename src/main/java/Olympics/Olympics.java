@@ -57,7 +57,7 @@ public class Olympics {
         HashMap<String, Sport> sports = new HashMap<>();
         final String url = BASE_API_URL + "/RMA/olympic/data/CCO/CC_ENG.json", nameKey = "Sn";
 
-        JSONObject data = new JSONObject(new NetworkRequest(url, false).get().body);
+        JSONObject data = new NetworkRequest(url, false).useCache().getJSONObject();
         JSONObject sportsList = data.getJSONObject("Discipline");
 
         for(String sportCode : sportsList.keySet()) {
@@ -104,9 +104,7 @@ public class Olympics {
         HashMap<Long, Athlete> athletes = new HashMap<>();
         final String url = BASE_API_URL + "RMA/olympic/data/CAT/athletes_search.json";
 
-        JSONArray athleteList = new JSONObject(
-                new NetworkRequest(url, false).get().body
-        ).getJSONArray("list");
+        JSONArray athleteList = new NetworkRequest(url, false).useCache().getJSONObject().getJSONArray("list");
 
         for(int i = 0; i < athleteList.length(); i++) {
             JSONObject athleteData = athleteList.getJSONObject(i);
@@ -146,9 +144,7 @@ public class Olympics {
         HashMap<String, Country> countries = new HashMap<>();
         final String url = BASE_API_URL + "olympic-games/en/results/all-sports/zzjs002c.json";
 
-        JSONArray countryList = new JSONObject(
-                new NetworkRequest(url, false).get().body
-        ).getJSONArray("nocs");
+        JSONArray countryList = new NetworkRequest(url, false).useCache().getJSONObject().getJSONArray("nocs");
 
         for(int i = 0; i < countryList.length(); i++) {
             JSONObject countryData = countryList.getJSONObject(i);
@@ -468,9 +464,7 @@ public class Olympics {
         ArrayList<MedalStanding> medalStandings = new ArrayList<>();
 
         final String url = BASE_API_URL + "RMA/OG20D/data/CAT/medalStandings.json";
-        JSONArray medalStandingList = new JSONObject(
-                new NetworkRequest(url, false).get().body
-        ).getJSONArray("total");
+        JSONArray medalStandingList = new NetworkRequest(url, false).useCache().getJSONObject().getJSONArray("total");
 
         for(int i = 0; i < medalStandingList.length(); i++) {
             medalStandings.add(parseCountryMedalStanding(medalStandingList.getJSONObject(i)));
@@ -491,9 +485,7 @@ public class Olympics {
         final String url = BASE_API_URL + "RMA/olympic/data/CAT/medalists.json";
 
         // List of medals awarded, contains the athlete ID and medal type
-        JSONArray medalistList = new JSONObject(
-                new NetworkRequest(url, false).get().body
-        ).getJSONArray("list");
+        JSONArray medalistList = new NetworkRequest(url, false).useCache().getJSONObject().getJSONArray("list");
 
         for(int i = 0; i < medalistList.length(); i++) {
             JSONObject medalistData = medalistList.getJSONObject(i);
@@ -3,7 +3,6 @@ package Plex;
 import Command.Structure.*;
 import Movies.*;
 import Network.NetworkRequest;
-import Network.NetworkResponse;
 import Network.Secret;
 import net.dv8tion.jda.api.EmbedBuilder;
 import net.dv8tion.jda.api.entities.MessageEmbed;
@@ -57,13 +56,12 @@ public class PlexServer {
      */
     private HashMap<String, String> parsePlexDetails() {
         HashMap<String, String> plexURLs = new HashMap<>();
-        NetworkResponse response = new NetworkRequest(getPlexLibraryURL(), false).get();
-        String json = response.body;
-        if(json == null || response.code == 504) {
+        JSONObject json = new NetworkRequest(getPlexLibraryURL(), false).useCache().getJSONObject();
+        if(json == null) {
             System.out.println("Failed to contact Plex");
             return plexURLs;
         }
-        JSONArray library = new JSONObject(json).getJSONObject("MediaContainer").getJSONArray("Metadata");
+        JSONArray library = json.getJSONObject("MediaContainer").getJSONArray("Metadata");
         for(int i = 0; i < library.length(); i++) {
             JSONObject movie = library.getJSONObject(i);
             String folder = movie
@@ -99,13 +97,12 @@ public class PlexServer {
      */
     private ArrayList<PlexMovie> getLibraryOverview() {
         ArrayList<PlexMovie> library = new ArrayList<>();
-        NetworkResponse response = new NetworkRequest(getRadarrLibraryURL(), false).get();
-        String json = response.body;
-        if(json == null || response.code == 504) {
+        JSONArray json = new NetworkRequest(getRadarrLibraryURL(), false).useCache().getJSONArray();
+        if(json == null) {
             System.out.println("Failed to contact Radarr");
             return library;
         }
-        library = parseMovies(new JSONArray(json), false);
+        library = parseMovies(json, false);
         return library;
     }
 
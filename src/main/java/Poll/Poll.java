@@ -4,7 +4,6 @@ import Command.Structure.*;
 import Command.Structure.PageableTableEmbed.IncorrectQuantityException;
 import Countdown.Countdown;
 import net.dv8tion.jda.api.EmbedBuilder;
-import net.dv8tion.jda.api.JDA;
 import net.dv8tion.jda.api.entities.*;
 import net.dv8tion.jda.api.events.interaction.ButtonClickEvent;
 import net.dv8tion.jda.api.interactions.components.ActionRow;
@@ -29,6 +28,7 @@ public class Poll {
     private final TimerTask pollTimer;
     private final ProgressBar yellowBar, redBar, greenBar;
     private final Emoji winning;
+    private final ButtonListener buttonListener;
     private final String title;
     private long messageId, startTime, endTime;
     private int totalVotes, highestVotes;
@@ -41,11 +41,10 @@ public class Poll {
      * @param channel     Channel where poll will take place
      * @param items       Poll items
      * @param title       Title of the poll
-     * @param jda         JDA for registering button listener
      * @param emoteHelper Emote helper to build progress bars and indicate winning answers on the buttons
      * @throws IncorrectQuantityException If too few/many answers are provided
      */
-    public Poll(MessageChannel channel, String[] items, String title, JDA jda, EmoteHelper emoteHelper) throws IncorrectQuantityException {
+    public Poll(MessageChannel channel, String[] items, String title, EmoteHelper emoteHelper) throws IncorrectQuantityException {
         this.channel = channel;
         this.buttons = new LinkedHashMap<>();
         this.answers = createPollAnswers(items);
@@ -63,7 +62,7 @@ public class Poll {
         this.yellowBar = createProgressBar(emoteHelper.getYellowProgressBar());
         this.greenBar = createProgressBar(emoteHelper.getGreenProgressBar());
         this.winning = Emoji.fromEmote(emoteHelper.getTrophy());
-        jda.addEventListener(new ButtonListener() {
+        this.buttonListener = new ButtonListener() {
             @Override
             public void handleButtonClick(@NotNull ButtonClickEvent event) {
                 String selected = event.getComponentId();
@@ -77,7 +76,7 @@ public class Poll {
                 }
                 refreshPollMessage(event);
             }
-        });
+        };
     }
 
     /**
@@ -230,6 +229,7 @@ public class Poll {
      */
     public void relocateMessage() {
         if(messageId != 0) {
+            InteractionRouter.getInstance().removeListeners(messageId);
             channel.deleteMessageById(messageId).queue();
         }
         sendPollMessage();
@@ -246,6 +246,7 @@ public class Poll {
         sendMessage.queue(message -> {
             if(running) {
                 this.messageId = message.getIdLong();
+                InteractionRouter.getInstance().addButtonListener(messageId, buttonListener);
             }
         });
     }
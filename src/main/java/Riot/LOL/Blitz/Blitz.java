@@ -390,7 +390,7 @@ public class Blitz {
      * @return Deleted item
      */
     private Item getDeletedItem(String id) {
-        BufferedImage itemImage = new ResourceHandler().getImageResource(Item.getImagePath(id));
+        BufferedImage itemImage = new ResourceHandler().getImageResourceCopy(Item.getImagePath(id));
         Graphics g = itemImage.getGraphics();
         g.drawImage(
                 deletedItemImage,
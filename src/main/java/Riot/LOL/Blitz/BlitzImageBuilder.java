@@ -2,11 +2,11 @@ package Riot.LOL.Blitz;
 
 import Bot.FontManager;
 import Bot.ResourceHandler;
+import Command.Structure.EncodedImageCache;
+import Command.Structure.ImageEncoder;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
 import java.text.DecimalFormat;
 import java.util.HashMap;
 
@@ -22,16 +22,67 @@ public class BlitzImageBuilder {
     }
 
     /**
-     * Build an image showing the build data
+     * Build an image showing the build data.
+     * The image is cached by the build data, so identical build data is not rendered again.
      *
-     * @param buildData Build data for champion
-     * @return Image URL
+     * @param buildData   Build data for champion
+     * @param uploadLimit Upload size limit in bytes of the channel the image is sent to
+     * @return Encoded image or null
      */
-    public byte[] buildImage(BuildData buildData) {
+    public ImageEncoder.EncodedImage buildImage(BuildData buildData, long uploadLimit) {
         if(blitzFont == null) {
             System.out.println("Failed to read Blitz font");
             return null;
         }
+        return EncodedImageCache.getInstance().get(
+                getContentKey(buildData),
+                uploadLimit,
+                () -> renderImage(buildData)
+        );
+    }
+
+    /**
+     * Get a key of everything displayed in the image of the given build data
+     *
+     * @param buildData Build data for champion
+     * @return Content key
+     */
+    private EncodedImageCache.ContentKey getContentKey(BuildData buildData) {
+        final EncodedImageCache.ContentKey key = new EncodedImageCache.ContentKey("blitz-build")
+                .add(buildData.getChampion().getId())
+                .add(buildData.getRole())
+                .add(buildData.getDescription())
+                .add(buildData.getWinRate())
+                .add(buildData.getGames());
+
+        for(SummonerSpell spell : buildData.getSpells()) {
+            key.add(spell.getName());
+        }
+
+        for(Item[] items : new Item[][]{buildData.getStartingItems(), buildData.getFinalBuild(), buildData.getBuildOrder()}) {
+            key.add(items.length);
+            for(Item item : items) {
+                key.add(item.getName());
+            }
+        }
+
+        for(Rune rune : buildData.getRunes()) {
+            key.add(rune.getId());
+        }
+
+        for(int ability : buildData.getAbilityOrderIndexes()) {
+            key.add(ability);
+        }
+        return key;
+    }
+
+    /**
+     * Render an image showing the build data
+     *
+     * @param buildData Build data for champion
+     * @return Image or null
+     */
+    BufferedImage renderImage(BuildData buildData) {
         try {
             BufferedImage spellsImage = getSpellsImage(buildData.getSpells());
             BufferedImage startingItemImage = getItemImage(buildData.getStartingItems(), false);
@@ -101,11 +152,8 @@ public class BlitzImageBuilder {
             String abilityString = "Ability Order";
             g.drawString(abilityString, mid - (fm.stringWidth(abilityString) / 2), y);
             g.drawImage(abilityOrderImage, mid - (abilityOrderImage.getWidth() / 2), y + 20, null);
-
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            ImageIO.write(image, "png", outputStream);
-            outputStream.close();
-            return outputStream.toByteArray();
+            g.dispose();
+            return image;
         }
         catch(Exception e) {
             e.printStackTrace();
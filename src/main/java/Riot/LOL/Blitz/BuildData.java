@@ -8,6 +8,7 @@ public class BuildData {
     private final SummonerSpell[] spells;
     private final Item[] startingItems, buildOrder, finalBuild;
     private final Ability[] abilityOrder;
+    private final int[] abilityOrderIndexes;
     private final Rune[] runes;
     private final String buildVersion, latestVersion, role;
     private final double winRate;
@@ -43,11 +44,21 @@ public class BuildData {
             abilities[i] = champion.getAbility(abilityOrder[i]);
         }
         this.abilityOrder = abilities;
+        this.abilityOrderIndexes = abilityOrder;
         this.runes = runes;
         this.winRate = winRate;
         this.games = games;
     }
 
+    /**
+     * Get the indexes of the champion's abilities in order of unlock
+     *
+     * @return Ability order indexes
+     */
+    public int[] getAbilityOrderIndexes() {
+        return abilityOrderIndexes;
+    }
+
     /**
      * Get the win rate
      *
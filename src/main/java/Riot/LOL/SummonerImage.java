@@ -50,7 +50,7 @@ public class SummonerImage extends ImageBuilder {
         this.summonerStats = new SummonerStats(summonerOverview);
         loading.completeStage();
         try {
-            BufferedImage bg = getResourceHandler().getImageResource(getResourcePath() + "map.png");
+            BufferedImage bg = getResourceHandler().getImageResourceCopy(getResourcePath() + "map.png");
             Graphics g = bg.getGraphics();
             BufferedImage profileBanner = buildProfileBanner();
             if(profileBanner == null) {
@@ -111,7 +111,7 @@ public class SummonerImage extends ImageBuilder {
             BufferedImage bg = queue.getBanner();
             BufferedImage helmet = queue.getHelmet();
             Graphics g = bg.getGraphics();
-            g.setFont(getGameFont().deriveFont(30f));
+            g.setFont(getGameFont(30f));
             FontMetrics fm = g.getFontMetrics();
 
             String rank = queue.getRankSummary();
@@ -134,7 +134,7 @@ public class SummonerImage extends ImageBuilder {
             g.drawString(points, (bg.getWidth() - fm.stringWidth(points)) / 2, y + padding);
 
             y = (bg.getHeight() / 2) + helmet.getHeight() - fm.getHeight();
-            g.setFont(getGameFont().deriveFont(24f));
+            g.setFont(getGameFont(24f));
             fm = g.getFontMetrics();
             padding = (int) (fm.getHeight() * 1.5);
 
@@ -158,17 +158,17 @@ public class SummonerImage extends ImageBuilder {
     private BufferedImage buildChampionImage(SummonerStats.Champion champion) {
         BufferedImage championImage = null;
         try {
-            championImage = getResourceHandler().getImageResource(champion.getImagePath());
-            BufferedImage masteryIcon = getResourceHandler().getImageResource(champion.getMasteryIconPath());
+            championImage = getResourceHandler().getImageResourceCopy(champion.getImagePath());
+            BufferedImage masteryIcon = getResourceHandler().getImageResourceCopy(champion.getMasteryIconPath());
             Graphics g = championImage.getGraphics();
-            g.setFont(getGameFont().deriveFont(35f));
+            g.setFont(getGameFont(35f));
             FontMetrics fm = g.getFontMetrics();
             String name = champion.getName();
             int y = 500 + fm.getHeight();
             g.drawString(name, (championImage.getWidth() - fm.stringWidth(name)) / 2, y);
             y += 30;
             g.drawImage(masteryIcon, getCenterX(championImage, masteryIcon), y, null);
-            g.setFont(getGameFont().deriveFont(25f));
+            g.setFont(getGameFont(25f));
             fm = g.getFontMetrics();
             String level = "Mastery Level " + champion.getLevel();
             y += masteryIcon.getHeight() + 30;
@@ -197,7 +197,7 @@ public class SummonerImage extends ImageBuilder {
             BufferedImage levelIcon = summonerStats.getSummonerOverview().getLevelIcon();
 
             Graphics g = banner.getGraphics();
-            g.setFont(getGameFont().deriveFont(80f));
+            g.setFont(getGameFont(80f));
             FontMetrics fm = g.getFontMetrics();
             g.drawImage(
                     levelIcon,
@@ -59,7 +59,7 @@ public class SummonerOverview {
             this.level = summoner.getInt("summonerLevel");
 
             ResourceHandler handler = new ResourceHandler();
-            BufferedImage border = handler.getImageResource(
+            BufferedImage border = handler.getImageResourceCopy(
                     BASE_PATH + "Borders/" + roundLevel(level) + ".png"
             );
             this.profileIcon = buildProfileIconImage(summoner.getInt("profileIconId"), border, handler);
@@ -82,11 +82,11 @@ public class SummonerOverview {
      */
     private BufferedImage buildProfileIconImage(int profileIconId, BufferedImage border, ResourceHandler handler) {
         String path = BASE_PATH + "Icons/";
-        BufferedImage profileIcon = handler.getImageResource(path + profileIconId + ".png");
+        BufferedImage profileIcon = handler.getImageResourceCopy(path + profileIconId + ".png");
 
         // May not have the summoner's selected profile icon
         if(profileIcon == null) {
-            profileIcon = handler.getImageResource(path + 0 + ".png");
+            profileIcon = handler.getImageResourceCopy(path + 0 + ".png");
         }
 
         return addBorderToIcon(border, profileIcon);
@@ -121,7 +121,7 @@ public class SummonerOverview {
      * @return Image displaying summoner level surrounded by the level border
      */
     private BufferedImage buildLevelIconImage(int level, BufferedImage border, ResourceHandler handler) {
-        BufferedImage levelCircle = handler.getImageResource(
+        BufferedImage levelCircle = handler.getImageResourceCopy(
                 BASE_PATH + "Banners/level_circle.png"
         );
 
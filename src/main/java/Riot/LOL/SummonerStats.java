@@ -36,7 +36,7 @@ public class SummonerStats {
         this.handler = new ResourceHandler();
         this.champions = fetchChampions();
         fetchRankedQueues();
-        this.profileBanner = handler.getImageResource(SummonerOverview.BASE_PATH + "Banners/" + getHighestRank() + ".png");
+        this.profileBanner = handler.getImageResourceCopy(SummonerOverview.BASE_PATH + "Banners/" + getHighestRank() + ".png");
     }
 
     /**
@@ -1,15 +1,18 @@
 package Runescape.Hiscores;
 
 import Command.Commands.Lookup.RunescapeLookupCommand;
+import Command.Structure.CommandExecutor;
 import Command.Structure.EmbedHelper;
 import Command.Structure.EmbedLoadingMessage;
 import Command.Structure.EmoteHelper;
 import Command.Structure.ImageLoadingMessage;
+import Network.HostGuard;
 import Network.NetworkRequest;
 import Network.NetworkResponse;
 import Runescape.Stats.PlayerStats;
 import Runescape.Stats.Skill;
 import Runescape.Stats.TotalLevel;
+import okhttp3.HttpUrl;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jsoup.Jsoup;
@@ -19,6 +22,8 @@ import org.jsoup.select.Elements;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 /**
  * Fetch player Runescape stats from the Hiscores API
@@ -26,11 +31,16 @@ import java.util.HashSet;
 public abstract class Hiscores<S extends PlayerStats> {
     protected static final String BASE_URL = "https://secure.runescape.com/";
     private final String mValue, rankingPageName;
+    private volatile String baseUrl = BASE_URL;
 
     // Max players displayed on a hiscores page
     private static final int MAX_PAGE_LIMIT = 25;
 
-    private boolean timeout = false;
+    // Rate limit of requests to the hiscores host (shared by all hiscores)
+    private static final double REQUESTS_PER_SECOND = 10;
+    private static final int REQUEST_BURST = 20;
+
+    private final HiscoresStatsCache<S> statsCache = new HiscoresStatsCache<>();
 
     public enum LOADING_UPDATE_TYPE {
         COMPLETE,
@@ -47,6 +57,28 @@ public abstract class Hiscores<S extends PlayerStats> {
     public Hiscores(String mValue, String rankingPageName) {
         this.mValue = mValue;
         this.rankingPageName = rankingPageName;
+        HostGuard.getInstance().setRateLimit(HttpUrl.get(BASE_URL).host(), REQUESTS_PER_SECOND, REQUEST_BURST);
+    }
+
+    /**
+     * Check whether the hiscores are currently down.
+     * This is the case when recent requests to the hiscores have failed, and requests are failing immediately
+     * rather than waiting on the hiscores to time out.
+     *
+     * @return Hiscores are down
+     */
+    public boolean isDown() {
+        return HostGuard.getInstance().isDown(baseUrl);
+    }
+
+    /**
+     * Set the base URL of the hiscores, e.g to make requests to a local stub of the hiscores.
+     * The hiscores URLs are built as [baseUrl]m=[mValue]/...
+     *
+     * @param baseUrl Base URL ending with a slash - e.g "http://localhost:8080/"
+     */
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
     }
 
     /**
@@ -75,7 +107,7 @@ public abstract class Hiscores<S extends PlayerStats> {
      * @return Hiscores entry URL
      */
     private String getBaseHiscoresUrl(PlayerStats.ACCOUNT type) {
-        return BASE_URL + "m=" + mValue + type.getUrlSuffix() + "/";
+        return baseUrl + "m=" + mValue + type.getUrlSuffix() + "/";
     }
 
     /**
@@ -127,37 +159,191 @@ public abstract class Hiscores<S extends PlayerStats> {
      * @return Hiscores stats response
      */
     public HiscoresStatsResponse<S> getHiscoresStatsResponse(String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        return new HiscoresStatsResponse<>(
-                name,
-                getStatsApiUrl(name, accountType),
-                fetchPlayerStats(name, accountType, args, loadingMessage),
-                timeout
+        final String url = getStatsApiUrl(name, accountType);
+        final String cacheKey = getStatsCacheKey(name, accountType, args);
+        final HiscoresStatsCache.CachedStats<S> cached = statsCache.get(cacheKey);
+
+        // Serve cached stats, revalidating in the background if they are stale
+        if(cached != null) {
+            if(!statsCache.isFresh(cached)) {
+                revalidateStats(cacheKey, name, accountType, args);
+            }
+            completeCachedLoadingStages(cached, args, accountType, loadingMessage);
+            return new HiscoresStatsResponse<>(name, url, cached.getStats(), false);
+        }
+        return fetchHiscoresStatsResponse(name, accountType, args, loadingMessage);
+    }
+
+    /**
+     * Fetch the player data from the hiscores without checking the stats cache, e.g to snapshot the current stats.
+     * The fetched stats replace any cached stats of the lookup.
+     *
+     * @param name           Player name
+     * @param accountType    Account type to fetch stats for
+     * @param args           Hiscores arguments
+     * @param loadingMessage Optional loading message
+     * @return Hiscores stats response
+     */
+    public HiscoresStatsResponse<S> fetchHiscoresStatsResponse(String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        final HiscoresLookup lookup = new HiscoresLookup();
+        final S stats = fetchPlayerStats(name, accountType, lookup, args, loadingMessage);
+        final boolean requestFailed = lookup.requestFailed();
+
+        // Don't cache failed requests
+        if(stats != null && !requestFailed) {
+            statsCache.put(getStatsCacheKey(name, accountType, args), stats);
+        }
+        return new HiscoresStatsResponse<>(name, getStatsApiUrl(name, accountType), stats, requestFailed);
+    }
+
+    /**
+     * Set how long looked up player stats are cached for.
+     * Fresh stats are served from the cache, stale stats are served from the cache while they are fetched again
+     * in the background.
+     *
+     * @param ttl      Time in ms that cached stats are fresh
+     * @param staleTtl Time in ms that cached stats may be served while revalidating (0 to disable caching)
+     */
+    public void setStatsCacheTtl(long ttl, long staleTtl) {
+        statsCache.setTtl(ttl, staleTtl);
+    }
+
+    /**
+     * Get the number of stats lookups which were served from the cache
+     *
+     * @return Cache hits
+     */
+    public int getStatsCacheHits() {
+        return statsCache.getHits();
+    }
+
+    /**
+     * Get the number of stats lookups which weren't in the cache
+     *
+     * @return Cache misses
+     */
+    public int getStatsCacheMisses() {
+        return statsCache.getMisses();
+    }
+
+    /**
+     * Get the key to use when caching the stats of the given lookup.
+     * Stats are parsed & extended according to the arguments, so these are part of the key.
+     *
+     * @param name        Player name
+     * @param accountType Account type to fetch stats for
+     * @param args        Hiscores arguments
+     * @return Cache key - e.g "dave|LOCATE|BOSSES XP_TRACKER"
+     */
+    private String getStatsCacheKey(String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
+        return name.toLowerCase().trim() + "|" + accountType.name() + "|" + args
+                .stream()
+                .map(RunescapeLookupCommand.ARGUMENT::name)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    /**
+     * Fetch the stats of a cached lookup in the background and replace the cached stats if successful.
+     * Nothing is done if the lookup is already being revalidated.
+     *
+     * @param cacheKey    Cache key of lookup
+     * @param name        Player name
+     * @param accountType Account type to fetch stats for
+     * @param args        Hiscores arguments
+     */
+    private void revalidateStats(String cacheKey, String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
+        if(!statsCache.startRevalidating(cacheKey)) {
+            return;
+        }
+        final HashSet<RunescapeLookupCommand.ARGUMENT> lookupArgs = new HashSet<>(args);
+        final boolean accepted = CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, () -> {
+            try {
+                final HiscoresLookup lookup = new HiscoresLookup();
+                final S stats = fetchPlayerStats(name, accountType, lookup, lookupArgs);
+
+                // A failed revalidation leaves the stale stats in place
+                if(stats != null && !lookup.requestFailed()) {
+                    statsCache.put(cacheKey, stats);
+                }
+            }
+            finally {
+                statsCache.finishRevalidating(cacheKey);
+            }
+        });
+
+        if(!accepted) {
+            statsCache.finishRevalidating(cacheKey);
+        }
+    }
+
+    /**
+     * Complete the loading stages which would be completed by fetching the stats (if a loading message is provided),
+     * indicating that cached stats are being used along with how many lookups have been served from the cache.
+     *
+     * @param cached         Cached stats
+     * @param args           Hiscores arguments
+     * @param accountType    Account type of lookup
+     * @param loadingMessage Optional loading message
+     */
+    private void completeCachedLoadingStages(HiscoresStatsCache.CachedStats<S> cached, HashSet<RunescapeLookupCommand.ARGUMENT> args, PlayerStats.ACCOUNT accountType, ImageLoadingMessage... loadingMessage) {
+        final int stages = getLoadingCriteria(args, accountType).size();
+        final int hits = getStatsCacheHits(), lookups = hits + getStatsCacheMisses();
+        updateLoadingMessage(
+                LOADING_UPDATE_TYPE.COMPLETE,
+                "Using stats from " + (cached.getAge() / 1000) + " seconds ago! ("
+                        + hits + "/" + lookups + " lookups served from cache)",
+                loadingMessage
         );
+        for(int i = 1; i < stages; i++) {
+            completeLoadingMessageStage(loadingMessage);
+        }
     }
 
     /**
      * Fetch a player's stats for the given account type.
      * Update the optionally provided loading message during this process.
-     * Pass the parsed stats to {@link Hiscores#applyStatArgs(PlayerStats, HashSet, ImageLoadingMessage...)} for any
+     * Pass the parsed stats to {@link Hiscores#applyStatArgs(PlayerStats, HiscoresLookup, HashSet, ImageLoadingMessage...)} for any
      * further requests/loading message updates.
      *
      * @param name           Player name
      * @param accountType    Account type to fetch stats for
+     * @param lookup         State of the lookup
      * @param args           Hiscores arguments
      * @param loadingMessage Optional loading message
      * @return Player stats or null
      */
-    private @Nullable S fetchPlayerStats(String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        final S stats = accountType == PlayerStats.ACCOUNT.LOCATE
-                ? locatePlayerStats(name, args, loadingMessage)
-                : getAccountTypeStats(name, accountType, args, loadingMessage);
+    private @Nullable S fetchPlayerStats(String name, PlayerStats.ACCOUNT accountType, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        prefetchStatArgs(name, accountType, lookup, args);
+        try {
+            final S stats = accountType == PlayerStats.ACCOUNT.LOCATE
+                    ? locatePlayerStats(name, lookup, args, loadingMessage)
+                    : getAccountTypeStats(name, accountType, lookup, args, loadingMessage);
 
-        // Issue retrieving stats
-        if(stats == null) {
-            return null;
+            // Issue retrieving stats
+            if(stats == null) {
+                return null;
+            }
+
+            return applyStatArgs(stats, lookup, args, loadingMessage);
+        }
+        finally {
+            lookup.cancelPrefetches();
         }
+    }
 
-        return applyStatArgs(stats, args, loadingMessage);
+    /**
+     * Begin any requests required by the arguments which depend only on the player name & account type, so that they
+     * are made while the stats are being fetched.
+     * Prefetched results are retrieved in {@link #applyStatArgs(PlayerStats, HiscoresLookup, HashSet, ImageLoadingMessage...)}
+     * through {@link HiscoresLookup#getPrefetched(String, java.util.concurrent.Callable)}.
+     *
+     * @param name        Player name
+     * @param accountType Account type the stats are being fetched for
+     * @param lookup      State of the lookup
+     * @param args        Hiscores arguments
+     */
+    protected void prefetchStatArgs(String name, PlayerStats.ACCOUNT accountType, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
     }
 
     /**
@@ -165,11 +351,12 @@ public abstract class Hiscores<S extends PlayerStats> {
      * the "Building image" stage must be completed (if a loading message is provided).
      *
      * @param stats          Player stats
+     * @param lookup         State of the lookup
      * @param args           Hiscores arguments
      * @param loadingMessage Optional loading message
      * @return Stats
      */
-    protected abstract S applyStatArgs(S stats, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage);
+    protected abstract S applyStatArgs(S stats, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage);
 
     /**
      * Complete the current stage of the given loading message.
@@ -218,19 +405,52 @@ public abstract class Hiscores<S extends PlayerStats> {
      *
      * @param name        Player name
      * @param accountType Account type to get response for
+     * @param lookup      State of the lookup, records whether the request failed
      * @return Hiscores response or null
      */
     @Nullable
-    protected HiscoresApiResponse getHiscoresApiResponse(String name, PlayerStats.ACCOUNT accountType) {
-        final String url = getStatsApiUrl(name, accountType);
-        final NetworkResponse response = new NetworkRequest(url, false).get();
+    protected HiscoresApiResponse getHiscoresApiResponse(String name, PlayerStats.ACCOUNT accountType, HiscoresLookup lookup) {
+        return parseHiscoresApiResponse(
+                name,
+                accountType,
+                new NetworkRequest(getStatsApiUrl(name, accountType), false).get(),
+                lookup
+        );
+    }
 
-        // Reset timeout
-        timeout = false;
+    /**
+     * Request the hiscores API response for the given name and account type without waiting for it to complete.
+     * The response can be parsed with {@link #parseHiscoresApiResponse(String, PlayerStats.ACCOUNT, NetworkResponse, HiscoresLookup)}.
+     *
+     * @param name        Player name
+     * @param accountType Account type to get response for
+     * @return Future of network response
+     */
+    protected CompletableFuture<NetworkResponse> requestHiscoresApiResponse(String name, PlayerStats.ACCOUNT accountType) {
+        return new NetworkRequest(getStatsApiUrl(name, accountType), false).getAsync();
+    }
+
+    /**
+     * Parse the hiscores API response (stats CSV, name, account type, URL) from the given network response.
+     *
+     * @param name        Player name
+     * @param accountType Account type of response
+     * @param response    Network response from the hiscores API
+     * @param lookup      State of the lookup, records whether the request failed & the received CSV
+     * @return Hiscores response or null
+     */
+    @Nullable
+    protected HiscoresApiResponse parseHiscoresApiResponse(String name, PlayerStats.ACCOUNT accountType, NetworkResponse response, HiscoresLookup lookup) {
+        final String url = getStatsApiUrl(name, accountType);
 
         // Hiscores didn't respond
-        if(response.code == 504 || response.code == 408 || response.code == NetworkResponse.TIMEOUT_CODE) {
-            timeout = true;
+        final boolean requestFailed = response.code == 504
+                || response.code == 408
+                || response.code == NetworkResponse.TIMEOUT_CODE;
+
+        lookup.setRequestFailed(requestFailed);
+
+        if(requestFailed) {
             return null;
         }
 
@@ -239,7 +459,8 @@ public abstract class Hiscores<S extends PlayerStats> {
             return null;
         }
 
-        final String[] statsCsv = response.body.replace("\n", ",").split(",");
+        final HiscoresCsv statsCsv = HiscoresCsv.parse(response.body);
+        lookup.setStatsCsv(accountType, statsCsv);
         return new HiscoresApiResponse(name, url, accountType, statsCsv);
     }
 
@@ -258,11 +479,12 @@ public abstract class Hiscores<S extends PlayerStats> {
      * Update and complete the loading stage of "Checking account type" if a loading message is provided.
      *
      * @param name           Player name
+     * @param lookup         State of the lookup
      * @param args           Hiscores arguments
      * @param loadingMessage Optional loading message
      * @return Player stats or null
      */
-    protected abstract @Nullable S locatePlayerStats(String name, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage);
+    protected abstract @Nullable S locatePlayerStats(String name, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage);
 
     /**
      * Get the stats of a player for the given account type.
@@ -270,13 +492,44 @@ public abstract class Hiscores<S extends PlayerStats> {
      *
      * @param name           Player name
      * @param accountType    Account type
+     * @param lookup         State of the lookup
+     * @param args           Hiscores arguments
+     * @param loadingMessage Optional loading message
+     * @return Player stats or null
+     */
+    @Nullable
+    protected S getAccountTypeStats(String name, PlayerStats.ACCOUNT accountType, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        return parseAccountTypeStats(getHiscoresApiResponse(name, accountType, lookup), args, loadingMessage);
+    }
+
+    /**
+     * Get the stats of a player from the given network response of the hiscores API.
+     * Update and complete the loading stage of "Checking [account type] stats" if a loading message is provided.
+     *
+     * @param name           Player name
+     * @param accountType    Account type of response
+     * @param response       Network response from {@link #requestHiscoresApiResponse(String, PlayerStats.ACCOUNT)}
+     * @param lookup         State of the lookup
+     * @param args           Hiscores arguments
+     * @param loadingMessage Optional loading message
+     * @return Player stats or null
+     */
+    @Nullable
+    protected S getAccountTypeStats(String name, PlayerStats.ACCOUNT accountType, NetworkResponse response, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        return parseAccountTypeStats(parseHiscoresApiResponse(name, accountType, response, lookup), args, loadingMessage);
+    }
+
+    /**
+     * Parse the stats of a player from the given hiscores API response.
+     * Update and complete the loading stage of "Checking [account type] stats" if a loading message is provided.
+     *
+     * @param statsResponse  Hiscores API response (null if there was an issue retrieving stats)
      * @param args           Hiscores arguments
      * @param loadingMessage Optional loading message
      * @return Player stats or null
      */
     @Nullable
-    protected S getAccountTypeStats(String name, PlayerStats.ACCOUNT accountType, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        final HiscoresApiResponse statsResponse = getHiscoresApiResponse(name, accountType);
+    private S parseAccountTypeStats(@Nullable HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
 
         // Issue retrieving stats
         if(statsResponse == null) {
@@ -454,7 +707,7 @@ public abstract class Hiscores<S extends PlayerStats> {
      * @param skills   Array of player skills (excluding total level)
      * @return Total level
      */
-    protected TotalLevel parseTotalLevel(String[] statsCsv, Skill[] skills) {
+    protected static TotalLevel parseTotalLevel(HiscoresCsv statsCsv, Skill[] skills) {
         return TotalLevel.fromSkills(0, statsCsv, skills);
     }
 
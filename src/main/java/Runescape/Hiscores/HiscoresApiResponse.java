@@ -7,7 +7,7 @@ import Runescape.Stats.PlayerStats;
  */
 public class HiscoresApiResponse {
     private final String name, url;
-    private final String[] statsCsv;
+    private final HiscoresCsv statsCsv;
     private final PlayerStats.ACCOUNT accountType;
 
     /**
@@ -16,9 +16,9 @@ public class HiscoresApiResponse {
      * @param name        Player name
      * @param url         URL used to fetch stats
      * @param accountType Account type that stats were fetched for
-     * @param statsCsv    Stats CSV (Each item in the array represents a value on the player's hiscores page)
+     * @param statsCsv    Stats CSV (Each value represents a value on the player's hiscores page)
      */
-    public HiscoresApiResponse(String name, String url, PlayerStats.ACCOUNT accountType, String[] statsCsv) {
+    public HiscoresApiResponse(String name, String url, PlayerStats.ACCOUNT accountType, HiscoresCsv statsCsv) {
         this.name = name;
         this.url = url;
         this.accountType = accountType;
@@ -27,11 +27,11 @@ public class HiscoresApiResponse {
 
     /**
      * Get the player's stats CSV.
-     * Each item in the returned array represents a value on the player's hiscores page
+     * Each value in the CSV represents a value on the player's hiscores page
      *
      * @return Stats CSV
      */
-    public String[] getStatsCsv() {
+    public HiscoresCsv getStatsCsv() {
         return statsCsv;
     }
 
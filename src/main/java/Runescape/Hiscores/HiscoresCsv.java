@@ -0,0 +1,109 @@
+package Runescape.Hiscores;
+
+import java.util.Arrays;
+
+/**
+ * Numeric values of a hiscores API CSV response.
+ * The response is a line per skill (rank,level,xp) followed by a line per activity/boss (rank,score).
+ * The values are scanned once in to a primitive array, each value is accessed by the index it would have if the
+ * response was split on commas & new lines - e.g the overall rank is at 0, the overall level is at 1, etc.
+ */
+public class HiscoresCsv {
+    private final long[] values;
+    private final int size;
+
+    /**
+     * Create the hiscores CSV from the given values
+     *
+     * @param values Parsed values
+     * @param size   Number of values in the array which are used
+     */
+    private HiscoresCsv(long[] values, int size) {
+        this.values = values;
+        this.size = size;
+    }
+
+    /**
+     * Parse the given hiscores API response body.
+     * Values are separated by commas or new lines, and are all integers (unranked values are -1).
+     *
+     * @param body Response body - e.g "123,2277,4600000000\n..."
+     * @return Hiscores CSV
+     * @throws NumberFormatException If a value in the body is not an integer
+     */
+    public static HiscoresCsv parse(String body) throws NumberFormatException {
+        long[] values = new long[Math.max(16, body.length() / 4)];
+        int size = 0;
+
+        long value = 0;
+        boolean negative = false, inValue = false;
+
+        for(int i = 0; i <= body.length(); i++) {
+            final char c = i == body.length() ? '\n' : body.charAt(i);
+
+            if(c >= '0' && c <= '9') {
+                value = value * 10 + (c - '0');
+                inValue = true;
+            }
+            else if(c == '-' && !inValue && !negative) {
+                negative = true;
+            }
+            else if(c == ',' || c == '\n') {
+
+                // Empty line (e.g the trailing new line)
+                if(!inValue && !negative && c == '\n') {
+                    continue;
+                }
+
+                if(!inValue) {
+                    throw new NumberFormatException("Missing value at index " + size + " of hiscores CSV");
+                }
+                if(size == values.length) {
+                    values = Arrays.copyOf(values, values.length * 2);
+                }
+                values[size++] = negative ? -value : value;
+                value = 0;
+                negative = false;
+                inValue = false;
+            }
+            else if(c != '\r') {
+                throw new NumberFormatException("Unexpected character '" + c + "' in hiscores CSV");
+            }
+        }
+        return new HiscoresCsv(values, size);
+    }
+
+    /**
+     * Get the number of values in the CSV
+     *
+     * @return Number of values
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the value at the given index as a long
+     *
+     * @param index Index of value
+     * @return Value at index
+     * @throws ArrayIndexOutOfBoundsException If the index is out of bounds
+     */
+    public long getLong(int index) {
+        if(index < 0 || index >= size) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        return values[index];
+    }
+
+    /**
+     * Get the value at the given index as an int
+     *
+     * @param index Index of value
+     * @return Value at index
+     * @throws ArrayIndexOutOfBoundsException If the index is out of bounds
+     */
+    public int getInt(int index) {
+        return (int) getLong(index);
+    }
+}
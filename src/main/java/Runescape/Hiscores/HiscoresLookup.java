@@ -0,0 +1,107 @@
+package Runescape.Hiscores;
+
+import Command.Structure.CommandExecutor;
+import Runescape.Stats.PlayerStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.FutureTask;
+
+/**
+ * State of a single hiscores stats lookup.
+ * Hiscores instances are shared by every lookup (which may be running concurrently), so anything recorded
+ * while performing a lookup is held here rather than on the hiscores instance.
+ */
+public class HiscoresLookup {
+    private final ConcurrentHashMap<String, FutureTask<?>> prefetches = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<PlayerStats.ACCOUNT, HiscoresCsv> statsCsvs = new ConcurrentHashMap<>();
+    private volatile boolean requestFailed = false;
+
+    /**
+     * Set whether the latest hiscores request of the lookup timed out/failed
+     *
+     * @param requestFailed Request timed out/failed
+     */
+    public void setRequestFailed(boolean requestFailed) {
+        this.requestFailed = requestFailed;
+    }
+
+    /**
+     * Check whether the latest hiscores request of the lookup timed out/failed.
+     *
+     * @return Request timed out/failed
+     */
+    public boolean requestFailed() {
+        return requestFailed;
+    }
+
+    /**
+     * Remember the hiscores API CSV received for the given account type during the lookup
+     *
+     * @param accountType Account type of CSV
+     * @param statsCsv    Hiscores API CSV
+     */
+    public void setStatsCsv(PlayerStats.ACCOUNT accountType, HiscoresCsv statsCsv) {
+        statsCsvs.put(accountType, statsCsv);
+    }
+
+    /**
+     * Get the hiscores API CSV received for the given account type during the lookup
+     *
+     * @param accountType Account type of CSV
+     * @return Hiscores API CSV or null (not requested or the player doesn't exist)
+     */
+    @Nullable
+    public HiscoresCsv getStatsCsv(PlayerStats.ACCOUNT accountType) {
+        return statsCsvs.get(accountType);
+    }
+
+    /**
+     * Begin making a request on the IO pool which the lookup will require later (e.g while the stats are fetched).
+     * The result is retrieved with {@link #getPrefetched(String, Callable)}.
+     *
+     * @param key     Key to retrieve the result with
+     * @param request Request to make
+     * @param <T>     Result type
+     */
+    public <T> void prefetch(String key, Callable<T> request) {
+        final FutureTask<T> task = new FutureTask<>(request);
+        prefetches.put(key, task);
+        CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, task);
+    }
+
+    /**
+     * Get the result of a prefetched request, waiting for it to complete if required.
+     * If the request has not started yet (e.g the IO pool is busy) it is made on the calling thread, and if it was
+     * never prefetched the given request is made instead.
+     *
+     * @param key     Key the request was prefetched with
+     * @param request Request to make if it was not prefetched
+     * @param <T>     Result type
+     * @return Request result
+     * @throws Exception If the request fails
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getPrefetched(String key, Callable<T> request) throws Exception {
+        final FutureTask<T> task = (FutureTask<T>) prefetches.remove(key);
+        if(task == null) {
+            return request.call();
+        }
+
+        // Does nothing if the task is already running/complete
+        task.run();
+        return task.get();
+    }
+
+    /**
+     * Cancel any prefetched requests which were not used (e.g the player doesn't exist).
+     * Requests which have already started are left to complete.
+     */
+    public void cancelPrefetches() {
+        for(FutureTask<?> task : prefetches.values()) {
+            task.cancel(false);
+        }
+        prefetches.clear();
+    }
+}
@@ -0,0 +1,173 @@
+package Runescape.Hiscores;
+
+import Runescape.Stats.PlayerStats;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Short lived cache of parsed player stats.
+ * Entries younger than the TTL are fresh, entries older than the TTL but younger than the stale TTL may still be
+ * served while they are revalidated, older entries are discarded.
+ * Cached stats are shared between lookups and should be treated as read only.
+ *
+ * @param <S> PlayerStats type
+ */
+public class HiscoresStatsCache<S extends PlayerStats> {
+    public static final long
+            DEFAULT_TTL = 60000, // 1 minute
+            DEFAULT_STALE_TTL = 600000; // 10 minutes
+    public static final int MAX_ENTRIES = 1000;
+    private final LinkedHashMap<String, CachedStats<S>> entries;
+    private final Set<String> revalidating;
+    private final AtomicInteger hits, misses;
+    private long ttl, staleTtl;
+
+    /**
+     * Create the stats cache with the default TTLs
+     */
+    public HiscoresStatsCache() {
+        this.entries = new LinkedHashMap<String, CachedStats<S>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStats<S>> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.revalidating = ConcurrentHashMap.newKeySet();
+        this.hits = new AtomicInteger();
+        this.misses = new AtomicInteger();
+        this.ttl = DEFAULT_TTL;
+        this.staleTtl = DEFAULT_STALE_TTL;
+    }
+
+    /**
+     * Set how long stats are fresh for, and how long they may be served while revalidating
+     *
+     * @param ttl      Time in ms that cached stats are fresh
+     * @param staleTtl Time in ms that cached stats may be served while revalidating (0 to disable caching)
+     */
+    public synchronized void setTtl(long ttl, long staleTtl) {
+        this.ttl = ttl;
+        this.staleTtl = Math.max(ttl, staleTtl);
+    }
+
+    /**
+     * Get the cached stats for the given key, recording a hit or miss
+     *
+     * @param key Cache key
+     * @return Cached stats or null (if not cached or too old to be served)
+     */
+    @Nullable
+    public synchronized CachedStats<S> get(String key) {
+        CachedStats<S> cached = entries.get(key);
+        if(cached != null && cached.getAge() >= staleTtl) {
+            entries.remove(key);
+            cached = null;
+        }
+        if(cached == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return cached;
+    }
+
+    /**
+     * Cache the given stats
+     *
+     * @param key   Cache key
+     * @param stats Stats to cache
+     */
+    public synchronized void put(String key, S stats) {
+        entries.put(key, new CachedStats<>(stats));
+    }
+
+    /**
+     * Check whether the given cached stats are fresh (don't require revalidating)
+     *
+     * @param cached Cached stats
+     * @return Stats are fresh
+     */
+    public synchronized boolean isFresh(CachedStats<S> cached) {
+        return cached.getAge() < ttl;
+    }
+
+    /**
+     * Mark the given key as being revalidated
+     *
+     * @param key Cache key
+     * @return Key was marked (false if it is already being revalidated)
+     */
+    public boolean startRevalidating(String key) {
+        return revalidating.add(key);
+    }
+
+    /**
+     * Mark the given key as no longer being revalidated
+     *
+     * @param key Cache key
+     */
+    public void finishRevalidating(String key) {
+        revalidating.remove(key);
+    }
+
+    /**
+     * Get the number of lookups which were served from the cache
+     *
+     * @return Cache hits
+     */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Get the number of lookups which weren't in the cache
+     *
+     * @return Cache misses
+     */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Player stats with the time they were fetched
+     *
+     * @param <S> PlayerStats type
+     */
+    public static class CachedStats<S extends PlayerStats> {
+        private final S stats;
+        private final long fetched;
+
+        /**
+         * Create the cached stats
+         *
+         * @param stats Player stats
+         */
+        public CachedStats(S stats) {
+            this.stats = stats;
+            this.fetched = System.currentTimeMillis();
+        }
+
+        /**
+         * Get the player stats
+         *
+         * @return Player stats
+         */
+        public S getStats() {
+            return stats;
+        }
+
+        /**
+         * Get the time in ms since the stats were fetched
+         *
+         * @return Age of stats
+         */
+        public long getAge() {
+            return System.currentTimeMillis() - fetched;
+        }
+    }
+}
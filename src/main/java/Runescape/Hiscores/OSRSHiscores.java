@@ -27,6 +27,9 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import static Command.Commands.Lookup.RunescapeLookupCommand.ARGUMENT.BOSSES;
 import static Command.Commands.Lookup.RunescapeLookupCommand.ARGUMENT.SHOW_UNRANKED_BOSSES;
@@ -48,32 +51,62 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
             TOURNAMENT_THUMBNAIL = "https://i.imgur.com/O2HpIt3.png",
             DMM_THUMBNAIL = "https://i.imgur.com/nJVs5Ey.png";
 
-    private final HashMap<PlayerStats.ACCOUNT, Integer> lowestRankMap = new HashMap<>();
-    private final Boss.BOSS_ID[] bossIds;
-    private final BossManager bossManager;
-    private long lastRankCheck;
+    // Keys of the Wise Old Man requests prefetched while the stats are fetched
+    private static final String
+            ACHIEVEMENTS_PREFETCH = "achievements",
+            XP_TRACKER_PREFETCH = "xp_tracker";
 
-    private final SimpleDateFormat parseFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    // Account types checked when locating a player
+    private static final PlayerStats.ACCOUNT[] LOCATE_ACCOUNT_TYPES = new PlayerStats.ACCOUNT[]{
+            PlayerStats.ACCOUNT.NORMAL,
+            PlayerStats.ACCOUNT.IRON,
+            PlayerStats.ACCOUNT.HARDCORE,
+            PlayerStats.ACCOUNT.ULTIMATE
+    };
+
+    // Bosses in the order they appear in the hiscores API CSV
+    private static final Boss.BOSS_ID[] BOSS_IDS = BossManager.getIdsInHiscoresOrder();
+
+    private final ConcurrentHashMap<PlayerStats.ACCOUNT, Integer> lowestRankMap = new ConcurrentHashMap<>();
+    private final XpTracker xpTracker;
+    private volatile long lastRankCheck;
+
+    private volatile boolean concurrentLocate = true;
+
+    // SimpleDateFormat is not thread safe and the hiscores are shared by concurrent lookups
+    private static final ThreadLocal<SimpleDateFormat> PARSE_FORMAT = ThreadLocal.withInitial(() -> {
+        SimpleDateFormat parseFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+        parseFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return parseFormat;
+    });
 
     /**
      * Create the OSRS Hiscores instance
      */
     public OSRSHiscores() {
+        this(XpTracker.getInstance());
+    }
+
+    /**
+     * Create the OSRS Hiscores instance recording looked up XP in the given XP tracker.
+     * The lowest ranks are fetched when they are first required, so creating the hiscores makes no requests.
+     *
+     * @param xpTracker XP tracker
+     */
+    public OSRSHiscores(XpTracker xpTracker) {
         super(
                 MVALUE,
                 RANKING_PAGE
         );
-        this.bossIds = BossManager.getIdsInHiscoresOrder();
-        this.bossManager = BossManager.getInstance();
-        this.parseFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-        updateLowestRanks();
+        this.xpTracker = xpTracker;
     }
 
     /**
      * Create a map of account type to the current lowest rank.
      * This will only be done if an hour or more has passed.
+     * Synchronized so that concurrent lookups don't all fetch the ranks when they are due to be updated.
      */
-    private void updateLowestRanks() {
+    private synchronized void updateLowestRanks() {
         if(lastRankCheck != 0 && System.currentTimeMillis() - lastRankCheck < 3600000) {
             return;
         }
@@ -211,11 +244,10 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
     /**
      * Parse and format the player's clue scroll data from the hiscores CSV
      *
-     * @param data CSV data from API
+     * @param csv CSV data from API
      * @return Clue scroll data
      */
-    private Clue[] parseClueScrolls(String[] data) {
-        data = Arrays.copyOfRange(data, Clue.CLUE_START_INDEX, Clue.CLUE_END_INDEX);
+    private static Clue[] parseClueScrolls(HiscoresCsv csv) {
         Clue.TYPE[] clueTypes = new Clue.TYPE[]{
                 Clue.TYPE.ALL,
                 Clue.TYPE.BEGINNER,
@@ -227,11 +259,11 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
         };
         Clue[] clues = new Clue[clueTypes.length];
         int j = 0;
-        for(int i = 0; i < data.length; i += 2) {
+        for(int i = Clue.CLUE_START_INDEX; i < Clue.CLUE_END_INDEX; i += 2) {
             clues[j] = new Clue(
                     clueTypes[j],
-                    Integer.parseInt(data[i]),
-                    Integer.parseInt(data[i + 1])
+                    csv.getInt(i),
+                    csv.getInt(i + 1)
             );
             j++;
         }
@@ -241,13 +273,13 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
     /**
      * Parse and format the player's LMS data from the hiscores CSV
      *
-     * @param data CSV data from API
+     * @param csv CSV data from API
      * @return Last Man Standing info
      */
-    private LastManStanding parseLmsInfo(String[] data) {
+    private static LastManStanding parseLmsInfo(HiscoresCsv csv) {
         return new LastManStanding(
-                Integer.parseInt(data[LastManStanding.RANK_INDEX]),
-                Integer.parseInt(data[LastManStanding.POINTS_INDEX])
+                csv.getInt(LastManStanding.RANK_INDEX),
+                csv.getInt(LastManStanding.POINTS_INDEX)
         );
     }
 
@@ -288,26 +320,109 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
     }
 
     @Override
-    protected OSRSPlayerStats applyStatArgs(OSRSPlayerStats stats, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+    protected void prefetchStatArgs(String name, PlayerStats.ACCOUNT accountType, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
+        final boolean league = accountType == PlayerStats.ACCOUNT.LEAGUE;
+
+        if(shouldFetchAchievements(args, accountType)) {
+            lookup.prefetch(
+                    ACHIEVEMENTS_PREFETCH,
+                    () -> WiseOldMan.getInstance().getPlayerAchievementsData(name, league)
+            );
+        }
+
+        // Not required if the gains can be calculated locally
+        if(shouldFetchXpTracker(args, accountType) && !hasLocalXpTracker(name, accountType)) {
+            lookup.prefetch(
+                    XP_TRACKER_PREFETCH,
+                    () -> WiseOldMan.getInstance().getXpTrackerData(name, league)
+            );
+        }
+    }
+
+    @Override
+    protected OSRSPlayerStats applyStatArgs(OSRSPlayerStats stats, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
         final PlayerStats.ACCOUNT accountType = stats.getAccountType();
 
+        // Record once the stats of the lookup are resolved, rather than for each account type parsed when locating
+        recordXp(stats.getName(), lookup);
+
         // Fetch achievements if requested and update the loading message
         if(shouldFetchAchievements(args, accountType)) {
-            addPlayerAchievements(stats, loadingMessage);
+            addPlayerAchievements(stats, lookup, loadingMessage);
         }
 
         // Fetch the XP tracker data if requested and update the loading message
         if(shouldFetchXpTracker(args, accountType)) {
-            addPlayerXpTracker(stats, loadingMessage);
+            addPlayerXpTracker(stats, lookup, loadingMessage);
         }
 
         return stats;
     }
 
+    /**
+     * Check whether the weekly XP gains of the given player can be calculated by the local XP tracker
+     *
+     * @param name        Player name
+     * @param accountType Account type being looked up (located players are one of the locally tracked types)
+     * @return Local XP tracker covers the past week
+     */
+    private boolean hasLocalXpTracker(String name, PlayerStats.ACCOUNT accountType) {
+        if(accountType != PlayerStats.ACCOUNT.LOCATE && !isLocallyTracked(accountType)) {
+            return false;
+        }
+        final XpTracker.Gains gains = xpTracker.getGains(name, XpTracker.PERIOD.WEEK);
+        return gains != null && gains.coversPeriod();
+    }
+
+    /**
+     * Set whether the hiscores of each account type should be requested concurrently when locating a player.
+     * The requests are made up front and the responses checked in the same order as when requesting
+     * one after another, so the located account type & loading messages are the same.
+     *
+     * @param concurrentLocate Request account type hiscores concurrently
+     */
+    public void setConcurrentLocate(boolean concurrentLocate) {
+        this.concurrentLocate = concurrentLocate;
+    }
+
     @Override
-    protected @Nullable OSRSPlayerStats locatePlayerStats(String name, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+    protected @Nullable OSRSPlayerStats locatePlayerStats(String name, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        if(!concurrentLocate) {
+            return locatePlayerStats(accountType -> getAccountTypeStats(name, accountType, lookup, args), loadingMessage);
+        }
+
+        HashMap<PlayerStats.ACCOUNT, CompletableFuture<NetworkResponse>> requests = new HashMap<>();
+        for(PlayerStats.ACCOUNT accountType : LOCATE_ACCOUNT_TYPES) {
+            requests.put(accountType, requestHiscoresApiResponse(name, accountType));
+        }
+
+        try {
+            return locatePlayerStats(
+                    accountType -> getAccountTypeStats(name, accountType, requests.get(accountType).join(), lookup, args),
+                    loadingMessage
+            );
+        }
+        finally {
+
+            // Cancel any requests which weren't required to locate the player
+            for(CompletableFuture<NetworkResponse> request : requests.values()) {
+                request.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Locate the account type of a player by checking the stats of each account type in turn
+     * with the given function.
+     * Update and complete the loading stage of "Checking account type" if a loading message is provided.
+     *
+     * @param statsFetcher   Function to get the stats of the player for an account type (or null)
+     * @param loadingMessage Optional loading message
+     * @return Player stats or null
+     */
+    private @Nullable OSRSPlayerStats locatePlayerStats(Function<PlayerStats.ACCOUNT, OSRSPlayerStats> statsFetcher, ImageLoadingMessage... loadingMessage) {
         updateLoadingMessage(UPDATE, "Checking name exists...", loadingMessage);
-        OSRSPlayerStats normalAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.NORMAL, args);
+        OSRSPlayerStats normalAccount = statsFetcher.apply(PlayerStats.ACCOUNT.NORMAL);
 
         // Player doesn't exist
         if(normalAccount == null) {
@@ -315,7 +430,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
         }
 
         updateLoadingMessage(UPDATE, "Player exists, checking ironman hiscores", loadingMessage);
-        OSRSPlayerStats ironAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.IRON, args);
+        OSRSPlayerStats ironAccount = statsFetcher.apply(PlayerStats.ACCOUNT.IRON);
 
         // Player does not appear on the ironman hiscores, only possible if they are a normal account
         if(ironAccount == null) {
@@ -334,7 +449,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
          * They may be an ultimate ironman, hardcore ironman, or normal ironman, have to check all of them.
          */
         updateLoadingMessage(UPDATE, "Player is an Ironman, checking Hardcore Ironman hiscores", loadingMessage);
-        OSRSPlayerStats hardcoreAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.HARDCORE, args);
+        OSRSPlayerStats hardcoreAccount = statsFetcher.apply(PlayerStats.ACCOUNT.HARDCORE);
 
         // Player appears on the hardcore ironman hiscores, may be dead
         if(hardcoreAccount != null) {
@@ -354,7 +469,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
         }
 
         updateLoadingMessage(UPDATE, "Player is not hardcore, checking Ultimate Ironman hiscores", loadingMessage);
-        OSRSPlayerStats ultimateAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.ULTIMATE, args);
+        OSRSPlayerStats ultimateAccount = statsFetcher.apply(PlayerStats.ACCOUNT.ULTIMATE);
 
         // Player appears on the ultimate ironman hiscores
         if(ultimateAccount != null) {
@@ -380,8 +495,6 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
 
     @Override
     protected OSRSPlayerStats parseStats(HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        final String[] statsCsv = statsResponse.getStatsCsv();
-
         switch(statsResponse.getAccountType()) {
 
             // Fetch extra data required to build seasonal league stats
@@ -394,21 +507,71 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
 
             // Nothing more required
             default:
-                final Skill[] skills = parseSkills(
-                        statsCsv,
-                        Skill.DEFAULT_XP_AT_MAX_LEVEL,
-                        Skill.DEFAULT_MAX_XP
-                );
-                return new OSRSPlayerStats(
-                        statsResponse.getName(),
-                        statsResponse.getUrl(),
-                        skills,
-                        parseClueScrolls(statsCsv),
-                        parseTotalLevel(statsCsv, skills),
-                        parseBossStats(statsCsv, args),
-                        parseLmsInfo(statsCsv),
-                        statsResponse.getAccountType()
-                );
+                return parseCsvStats(statsResponse, args);
+        }
+    }
+
+    /**
+     * Parse the player stats held in the given hiscores API CSV alone, making no further requests & recording
+     * nothing in the XP tracker.
+     * Stats of account types which require further data (league, hardcore ironman) are parsed without it.
+     *
+     * @param statsResponse Hiscores API stats response
+     * @param args          Hiscores arguments
+     * @return Player stats
+     */
+    public static OSRSPlayerStats parseCsvStats(HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
+        final HiscoresCsv statsCsv = statsResponse.getStatsCsv();
+        final Skill[] skills = parseSkills(
+                statsCsv,
+                Skill.DEFAULT_XP_AT_MAX_LEVEL,
+                Skill.DEFAULT_MAX_XP
+        );
+        return new OSRSPlayerStats(
+                statsResponse.getName(),
+                statsResponse.getUrl(),
+                skills,
+                parseClueScrolls(statsCsv),
+                parseTotalLevel(statsCsv, skills),
+                parseBossStats(statsCsv, args),
+                parseLmsInfo(statsCsv),
+                statsResponse.getAccountType()
+        );
+    }
+
+    /**
+     * Record the player's XP in the local XP tracker from the normal hiscores CSV of the lookup (if it was requested).
+     * Every main game account appears on the normal hiscores with its current XP, whereas the ironman hiscores
+     * of an account which has de-ironed/died are frozen. Recording only the normal hiscores keeps the single series
+     * of the player free of stale values, however the account type was located.
+     *
+     * @param name   Player name
+     * @param lookup State of the lookup holding the received hiscores CSVs
+     */
+    private void recordXp(String name, HiscoresLookup lookup) {
+        final HiscoresCsv normalCsv = lookup.getStatsCsv(PlayerStats.ACCOUNT.NORMAL);
+        if(normalCsv != null) {
+            xpTracker.record(name, normalCsv);
+        }
+    }
+
+    /**
+     * Check whether the XP of the given account type is recorded in the local XP tracker.
+     * The tracker holds one series per player, which is the player's main game XP. Seasonal game modes
+     * (league, deadman, tournament) have separate XP which would appear as fake gains/losses in the series.
+     *
+     * @param accountType Account type
+     * @return Account type is locally tracked
+     */
+    private static boolean isLocallyTracked(PlayerStats.ACCOUNT accountType) {
+        switch(accountType) {
+            case NORMAL:
+            case IRON:
+            case ULTIMATE:
+            case HARDCORE:
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -421,8 +584,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
      * @return Hardcore ironman player stats
      */
     private OSRSHardcorePlayerStats parseHardcoreStats(HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
-        final String[] statsCsv = statsResponse.getStatsCsv();
-
+        final HiscoresCsv statsCsv = statsResponse.getStatsCsv();
         final Skill[] skills = parseSkills(
                 statsCsv,
                 Skill.DEFAULT_XP_AT_MAX_LEVEL,
@@ -473,9 +635,9 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
      * @return League player stats
      */
     private OSRSLeaguePlayerStats parseLeagueStats(HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        final String[] statsCsv = statsResponse.getStatsCsv();
-        final int leaguePoints = Integer.parseInt(statsCsv[LeagueTier.LEAGUE_POINTS_INDEX]);
-        final long rank = Long.parseLong(statsCsv[LEAGUE_POINTS_RANK_INDEX]);
+        final HiscoresCsv statsCsv = statsResponse.getStatsCsv();
+        final int leaguePoints = statsCsv.getInt(LeagueTier.LEAGUE_POINTS_INDEX);
+        final long rank = statsCsv.getLong(LEAGUE_POINTS_RANK_INDEX);
 
         LeagueTier leagueTier = new LeagueTier(
                 WiseOldMan.getInstance().calculateLeagueTier(rank),
@@ -539,24 +701,40 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
     }
 
     /**
-     * Fetch and add weekly XP gains for the player
+     * Add weekly XP gains for the player.
+     * Gains are calculated from the local XP tracker if it has tracked the player for the full week, otherwise they
+     * are fetched from Wise Old Man (falling back to the partial local gains if that fails).
      * Update and complete the loading stage of "Checking XP tracker..." if a loading message is provided.
      *
      * @param stats          Player stats
+     * @param lookup         State of the lookup (holding the prefetched tracker data)
      * @param loadingMessage Optional loading message
      */
-    private void addPlayerXpTracker(OSRSPlayerStats stats, ImageLoadingMessage... loadingMessage) {
+    private void addPlayerXpTracker(OSRSPlayerStats stats, HiscoresLookup lookup, ImageLoadingMessage... loadingMessage) {
+        final XpTracker.Gains localGains = isLocallyTracked(stats.getAccountType())
+                ? xpTracker.getGains(stats.getName(), XpTracker.PERIOD.WEEK)
+                : null;
+
+        if(localGains != null && localGains.coversPeriod()) {
+            addLocalXpTracker(stats, localGains, loadingMessage);
+            return;
+        }
+
         try {
             updateLoadingMessage(UPDATE, "Checking Weekly XP...", loadingMessage);
-            WiseOldMan.TrackerResponse response = WiseOldMan.getInstance().getXpTrackerData(
-                    stats.getName(),
-                    stats.isLeague()
+            WiseOldMan.TrackerResponse response = lookup.getPrefetched(
+                    XP_TRACKER_PREFETCH,
+                    () -> WiseOldMan.getInstance().getXpTrackerData(stats.getName(), stats.isLeague())
             );
 
             JSONObject responseData = response.getData();
 
             // Error occurred
             if(responseData == null) {
+                if(localGains != null) {
+                    addLocalXpTracker(stats, localGains, loadingMessage);
+                    return;
+                }
                 updateLoadingMessage(FAIL, response.getError(), loadingMessage);
                 return;
             }
@@ -568,8 +746,8 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
 
             // Attempt to set the tracker period (the period for which the XP gains were between)
             try {
-                startDate = parseFormat.parse(week.getString("startsAt"));
-                endDate = parseFormat.parse(week.getString("endsAt"));
+                startDate = PARSE_FORMAT.get().parse(week.getString("startsAt"));
+                endDate = PARSE_FORMAT.get().parse(week.getString("endsAt"));
             }
 
             // Shouldn't happen but possible if the dates change format, set period to now
@@ -628,23 +806,57 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
             updateLoadingMessage(COMPLETE, details + " for week beginning at: " + beginningAt, loadingMessage);
         }
         catch(Exception e) {
+            if(localGains != null) {
+                addLocalXpTracker(stats, localGains, loadingMessage);
+                return;
+            }
             updateLoadingMessage(FAIL, "Failed to parse XP tracker data!", loadingMessage);
         }
     }
 
+    /**
+     * Add the weekly XP gains & records calculated by the local XP tracker to the player.
+     * Complete the loading stage of "Checking XP tracker..." if a loading message is provided.
+     *
+     * @param stats          Player stats
+     * @param gains          Weekly gains from the local XP tracker
+     * @param loadingMessage Optional loading message
+     */
+    private void addLocalXpTracker(OSRSPlayerStats stats, XpTracker.Gains gains, ImageLoadingMessage... loadingMessage) {
+        stats.setTrackerPeriod(gains.getStartDate(), gains.getEndDate());
+
+        for(Skill.SKILL_NAME skillName : XpTracker.getTrackedSkills()) {
+            final Skill skill = stats.getSkill(skillName);
+            if(skill == null) {
+                continue;
+            }
+            final int metric = XpTracker.getMetricIndex(skillName);
+            skill.setGainedXp(gains.getGained(metric));
+            skill.setRecordXp(gains.getRecord(metric));
+        }
+
+        String beginningAt = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss").format(gains.getStartDate());
+        String details = stats.hasWeeklyGains() ? "Weekly XP obtained" : "No XP gained";
+        if(!gains.coversPeriod()) {
+            details += " (tracked for less than a week)";
+        }
+        updateLoadingMessage(COMPLETE, details + " since: " + beginningAt, loadingMessage);
+    }
+
     /**
      * Fetch and add recent achievements for the player.
      * Update and complete the loading stage of "Fetching achievements..." if a loading message is provided.
      *
      * @param stats          Player stats
+     * @param lookup         State of the lookup (holding the prefetched achievements data)
      * @param loadingMessage Optional loading message
      */
-    private void addPlayerAchievements(OSRSPlayerStats stats, ImageLoadingMessage... loadingMessage) {
+    private void addPlayerAchievements(OSRSPlayerStats stats, HiscoresLookup lookup, ImageLoadingMessage... loadingMessage) {
         try {
             updateLoadingMessage(UPDATE, "Checking tracker...", loadingMessage);
-            WiseOldMan.TrackerResponse response = WiseOldMan.getInstance().getPlayerAchievementsData(
-                    stats.getName(),
-                    stats.isLeague()
+            WiseOldMan.TrackerResponse response = lookup.getPrefetched(
+                    ACHIEVEMENTS_PREFETCH,
+                    () -> WiseOldMan.getInstance().getPlayerAchievementsData(stats.getName(), stats.isLeague())
             );
 
             JSONObject responseData = response.getData();
@@ -674,7 +886,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
                                 achievement.getString("metric"),
                                 progress,
                                 achievement.getLong("threshold"),
-                                dateString == null ? new Date(0) : parseFormat.parse(dateString)
+                                dateString == null ? new Date(0) : PARSE_FORMAT.get().parse(dateString)
                         )
                 );
             }
@@ -693,7 +905,7 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
      * @param maxXp        Max possible XP for skill - e.g 200,000,000
      * @return Sorted CSV
      */
-    private Skill[] parseSkills(String[] csv, long xpAtMaxLevel, long maxXp) {
+    private static Skill[] parseSkills(HiscoresCsv csv, long xpAtMaxLevel, long maxXp) {
         return new Skill[]{
                 new Skill(ATTACK, 3, csv, xpAtMaxLevel, maxXp),
                 new Skill(HITPOINTS, 12, csv, xpAtMaxLevel, maxXp),
@@ -729,16 +941,16 @@ public class OSRSHiscores extends Hiscores<OSRSPlayerStats> {
      * @param args Hiscores arguments
      * @return Sorted list of player boss kill data
      */
-    private List<BossStats> parseBossStats(String[] csv, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
-        String[] stats = Arrays.copyOfRange(csv, BossStats.BOSS_START_INDEX, BossStats.BOSS_END_INDEX);
+    private static List<BossStats> parseBossStats(HiscoresCsv csv, HashSet<RunescapeLookupCommand.ARGUMENT> args) {
+        final BossManager bossManager = BossManager.getInstance();
         List<BossStats> bossStatsList = new ArrayList<>();
 
-        int i = 0;
-        for(Boss.BOSS_ID bossId : bossIds) {
+        int i = BossStats.BOSS_START_INDEX;
+        for(Boss.BOSS_ID bossId : BOSS_IDS) {
             BossStats bossStats = new BossStats(
                     bossManager.getBossById(bossId),
-                    Integer.parseInt(stats[i]),
-                    Integer.parseInt(stats[i + 1])
+                    csv.getInt(i),
+                    csv.getInt(i + 1)
             );
 
             // Ignore unranked bosses unless specified
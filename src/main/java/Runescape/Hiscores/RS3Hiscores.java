@@ -5,6 +5,7 @@ import Command.Structure.EmbedHelper;
 import Command.Structure.EmoteHelper;
 import Command.Structure.ImageLoadingMessage;
 import Network.NetworkRequest;
+import Network.NetworkResponse;
 import Runescape.Stats.*;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONObject;
@@ -15,8 +16,8 @@ import org.jsoup.select.Elements;
 
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +32,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
     public static final String
             MVALUE = "hiscore",
             RANKING_PAGE = "ranking";
+    private static final int CLUE_START_INDEX = 137;
 
     /**
      * Create the RS3 Hiscores instance
@@ -45,7 +47,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
      * @param csv CSV from API
      * @return Skills in game order
      */
-    private Skill[] parseSkills(String[] csv) {
+    private static Skill[] parseSkills(HiscoresCsv csv) {
         return new Skill[]{
                 new Skill(ATTACK, 3, csv),
                 new Skill(HITPOINTS, 12, csv),
@@ -81,11 +83,10 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
     /**
      * Parse and format the player's clue scroll data from the hiscores CSV
      *
-     * @param data CSV data from API
+     * @param csv CSV data from API
      * @return Clue scroll data
      */
-    private Clue[] parseClueScrolls(String[] data) {
-        data = Arrays.copyOfRange(data, 137, data.length);
+    private static Clue[] parseClueScrolls(HiscoresCsv csv) {
         Clue.TYPE[] clueTypes = new Clue.TYPE[]{
                 Clue.TYPE.EASY,
                 Clue.TYPE.MEDIUM,
@@ -95,11 +96,11 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
         };
         Clue[] clues = new Clue[clueTypes.length];
         int j = 0;
-        for(int i = 0; i < data.length; i += 2) {
+        for(int i = CLUE_START_INDEX; i < csv.size() && j < clues.length; i += 2) {
             clues[j] = new Clue(
                     clueTypes[j],
-                    Integer.parseInt(data[i]),
-                    Integer.parseInt(data[i + 1])
+                    csv.getInt(i),
+                    csv.getInt(i + 1)
             );
             j++;
         }
@@ -186,12 +187,18 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
                     loadingMessage
             );
 
-            final Clan clan = new Clan(clanName, getClanImage(clanName));
             final String clanMembersUrl = "http://services.runescape.com/m=clan-hiscores/members_lite.ws?clanName="
                     + EmbedHelper.urlEncode(clanName);
 
-            final String[] clanMembers = new NetworkRequest(clanMembersUrl, false)
-                    .get()
+            // Fetch the clan members while downloading the clan image
+            final CompletableFuture<NetworkResponse> clanMembersRequest = new NetworkRequest(
+                    clanMembersUrl,
+                    false
+            ).getAsync();
+
+            final Clan clan = new Clan(clanName, getClanImage(clanName));
+            final String[] clanMembers = clanMembersRequest
+                    .join()
                     .body
                     .replace("�", " ")
                     .split("\n");
@@ -247,7 +254,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
     }
 
     @Override
-    protected RS3PlayerStats applyStatArgs(RS3PlayerStats stats, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+    protected RS3PlayerStats applyStatArgs(RS3PlayerStats stats, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
         final String name = stats.getName();
 
         // Fetch RuneMetrics if requested and update the loading message
@@ -306,17 +313,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
 
     @Override
     protected RS3PlayerStats parseStats(HiscoresApiResponse statsResponse, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        final String[] statsCsv = statsResponse.getStatsCsv();
-        final Skill[] skills = parseSkills(statsCsv);
-
-        RS3PlayerStats stats = new RS3PlayerStats(
-                statsResponse.getName(),
-                statsResponse.getUrl(),
-                parseSkills(statsCsv),
-                parseClueScrolls(statsCsv),
-                parseTotalLevel(statsCsv, skills),
-                statsResponse.getAccountType()
-        );
+        RS3PlayerStats stats = parseCsvStats(statsResponse);
 
         // Death status
         if(stats.getAccountType() == PlayerStats.ACCOUNT.HARDCORE) {
@@ -326,6 +323,26 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
         return stats;
     }
 
+    /**
+     * Parse the player stats held in the given hiscores API CSV alone, making no further requests.
+     * Hardcore ironman stats are parsed without the death status.
+     *
+     * @param statsResponse Hiscores API stats response
+     * @return Player stats
+     */
+    public static RS3PlayerStats parseCsvStats(HiscoresApiResponse statsResponse) {
+        final HiscoresCsv statsCsv = statsResponse.getStatsCsv();
+        final Skill[] skills = parseSkills(statsCsv);
+        return new RS3PlayerStats(
+                statsResponse.getName(),
+                statsResponse.getUrl(),
+                skills,
+                parseClueScrolls(statsCsv),
+                parseTotalLevel(statsCsv, skills),
+                statsResponse.getAccountType()
+        );
+    }
+
     /**
      * Get the hardcore ironman status for the account of the given name.
      * This is whether or not the account has died as a HCIM and the details about how it happened.
@@ -366,8 +383,8 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
     }
 
     @Override
-    protected @Nullable RS3PlayerStats locatePlayerStats(String name, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
-        RS3PlayerStats normalAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.NORMAL, args);
+    protected @Nullable RS3PlayerStats locatePlayerStats(String name, HiscoresLookup lookup, HashSet<RunescapeLookupCommand.ARGUMENT> args, ImageLoadingMessage... loadingMessage) {
+        RS3PlayerStats normalAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.NORMAL, lookup, args);
 
         // Player doesn't exist
         if(normalAccount == null) {
@@ -375,7 +392,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
         }
 
         updateLoadingMessage(UPDATE, "Player exists, checking ironman hiscores", loadingMessage);
-        RS3PlayerStats ironAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.IRON, args);
+        RS3PlayerStats ironAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.IRON, lookup, args);
 
         if(ironAccount == null) {
             updateLoadingMessage(COMPLETE, "Player is a normal account!", loadingMessage);
@@ -388,7 +405,7 @@ public class RS3Hiscores extends Hiscores<RS3PlayerStats> {
         }
 
         updateLoadingMessage(UPDATE, "Player is an Ironman, checking Hardcore Ironman hiscores", loadingMessage);
-        RS3PlayerStats hardcoreAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.HARDCORE, args);
+        RS3PlayerStats hardcoreAccount = getAccountTypeStats(name, PlayerStats.ACCOUNT.HARDCORE, lookup, args);
 
         if(hardcoreAccount != null) {
             final HCIMStatus hcimStatus = hardcoreAccount.getHcimStatus();
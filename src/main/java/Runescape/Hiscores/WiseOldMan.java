@@ -10,8 +10,9 @@ import org.json.JSONObject;
 
 import javax.annotation.Nullable;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static Network.NetworkResponse.TIMEOUT_CODE;
 import static Runescape.Stats.PlayerStats.ACCOUNT.*;
@@ -20,7 +21,7 @@ import static Runescape.Stats.PlayerStats.ACCOUNT.*;
  * Wise Old Man OSRS tracker API functions
  */
 public class WiseOldMan {
-    private final HashMap<String, Long> lastUpdated;
+    private final ConcurrentHashMap<String, Long> lastUpdated;
     private final TrackerResponse apiDownResponse;
     private static final HashSet<PlayerStats.ACCOUNT> SUPPORTED_ACCOUNT_TYPES = new HashSet<>(
             Arrays.asList(
@@ -41,7 +42,7 @@ public class WiseOldMan {
      * Initialise a map of player name -> last updated
      */
     private WiseOldMan() {
-        this.lastUpdated = new HashMap<>();
+        this.lastUpdated = new ConcurrentHashMap<>();
         this.apiDownResponse = new TrackerResponse("Tracker didn't respond!");
     }
 
@@ -150,17 +151,18 @@ public class WiseOldMan {
         try {
             updateTracker(name, league);
             final String baseUrl = getBaseStatsUrl(name, league);
-            NetworkResponse xpTrackerResponse = new NetworkRequest(baseUrl + "gained", false).get();
 
-            // API down
-            if(xpTrackerResponse.code == TIMEOUT_CODE) {
-                return apiDownResponse;
-            }
+            // Gains & records are independent, fetch them concurrently
+            List<NetworkResponse> responses = NetworkRequest.allOf(
+                    new NetworkRequest(baseUrl + "gained", false).getAsync(),
+                    new NetworkRequest(baseUrl + "records", false).getAsync()
+            ).join();
 
-            NetworkResponse xpRecordsResponse = new NetworkRequest(baseUrl + "records", false).get();
+            NetworkResponse xpTrackerResponse = responses.get(0);
+            NetworkResponse xpRecordsResponse = responses.get(1);
 
             // API down
-            if(xpRecordsResponse.code == TIMEOUT_CODE) {
+            if(xpTrackerResponse.code == TIMEOUT_CODE || xpRecordsResponse.code == TIMEOUT_CODE) {
                 return apiDownResponse;
             }
 
@@ -192,7 +194,14 @@ public class WiseOldMan {
             return;
         }
 
-        this.lastUpdated.put(nameKey, now);
+        // Achievements & XP tracker data may be fetched concurrently, only one of them should update the tracker
+        final boolean claimed = lastUpdated == null
+                ? this.lastUpdated.putIfAbsent(nameKey, now) == null
+                : this.lastUpdated.replace(nameKey, lastUpdated, now);
+
+        if(!claimed) {
+            return;
+        }
 
         new NetworkRequest(
                 getTrackerDomain(league) + PLAYER_DATA_ENTRY + "track",
@@ -0,0 +1,699 @@
+package Runescape.Hiscores;
+
+import Command.Structure.CommandExecutor;
+import Runescape.Stats.PlayerStats;
+import Runescape.Stats.Skill;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static Runescape.Stats.Skill.SKILL_NAME.*;
+
+/**
+ * Local XP/KC tracker for OSRS players.
+ * Tracked players are snapshotted on a schedule (and whenever their stats are looked up), each snapshot holds a value
+ * per hiscores metric (XP for skills, score/KC for activities & bosses).
+ * Snapshots are appended to a delta encoded time series file per player, allowing XP gains & records to be calculated
+ * for any period without requesting a third party tracker.
+ * Scheduled snapshots are only taken once {@link #scheduleSnapshots()} is called.
+ */
+public class XpTracker {
+    public static final String DEFAULT_DIRECTORY = "xp_tracker";
+    public static final long
+            DEFAULT_SNAPSHOT_INTERVAL = 21600000, // 6 hours
+            MIN_SNAPSHOT_INTERVAL = 600000; // 10 minutes
+    private static final String FILE_EXTENSION = ".xp";
+
+    // Skills in the order they appear in the hiscores API, each skill has rank, level, & XP values
+    private static final Skill.SKILL_NAME[] SKILL_ORDER = new Skill.SKILL_NAME[]{
+            OVERALL, ATTACK, DEFENCE, STRENGTH, HITPOINTS, RANGED, PRAYER, MAGIC, COOKING, WOODCUTTING, FLETCHING,
+            FISHING, FIREMAKING, CRAFTING, SMITHING, MINING, HERBLORE, AGILITY, THIEVING, SLAYER, FARMING,
+            RUNECRAFTING, HUNTER, CONSTRUCTION
+    };
+    private static final int SKILL_VALUES = 3, ACTIVITY_VALUES = 2, MAX_METRICS = 1024;
+    private static XpTracker instance = null;
+    private final File directory;
+    private final ConcurrentHashMap<String, TimeSeries> seriesMap;
+    private OSRSHiscores hiscores;
+    private Timer snapshotTimer;
+
+    public enum PERIOD {
+        DAY(86400000L),
+        WEEK(604800000L),
+        MONTH(2592000000L);
+
+        private final long duration;
+
+        /**
+         * Create a tracker period
+         *
+         * @param duration Duration of period in ms
+         */
+        PERIOD(long duration) {
+            this.duration = duration;
+        }
+
+        /**
+         * Get the duration of the period in ms
+         *
+         * @return Period duration
+         */
+        public long getDuration() {
+            return duration;
+        }
+    }
+
+    /**
+     * Create an XP tracker storing the time series of tracked players in the given directory
+     *
+     * @param directory Directory of time series files
+     */
+    XpTracker(File directory) {
+        this.directory = directory;
+        this.seriesMap = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Get an instance of the XP tracker
+     *
+     * @return Instance
+     */
+    public static synchronized XpTracker getInstance() {
+        if(instance == null) {
+            instance = new XpTracker(new File(DEFAULT_DIRECTORY));
+        }
+        return instance;
+    }
+
+    /**
+     * Begin snapshotting the tracked players on the IO pool every {@link #DEFAULT_SNAPSHOT_INTERVAL}.
+     * Nothing is done if the snapshots are already scheduled.
+     */
+    public synchronized void scheduleSnapshots() {
+        if(snapshotTimer != null) {
+            return;
+        }
+        snapshotTimer = new Timer("xp-tracker", true);
+        snapshotTimer.scheduleAtFixedRate(new TimerTask() {
+            @Override
+            public void run() {
+                CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, () -> snapshotTrackedPlayers());
+            }
+        }, DEFAULT_SNAPSHOT_INTERVAL, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Start tracking the given player, the player will be snapshotted with the tracked players.
+     * The time series file is created holding the display name of the player, as the file name is a lossy key.
+     *
+     * @param name Player name
+     */
+    public void track(String name) {
+        final File file = getFile(name);
+        if(file.exists()) {
+            return;
+        }
+        try {
+            if(!directory.exists() && !directory.mkdirs()) {
+                throw new IOException("Unable to create " + directory.getPath());
+            }
+            Files.write(file.toPath(), TimeSeries.encodeHeader(name.trim()), StandardOpenOption.CREATE_NEW);
+        }
+
+        // Tracked concurrently
+        catch(FileAlreadyExistsException e) {
+            return;
+        }
+        catch(IOException e) {
+            System.out.println("Failed to track " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether the given player is tracked
+     *
+     * @param name Player name
+     * @return Player is tracked
+     */
+    public boolean isTracked(String name) {
+        return getFile(name).exists();
+    }
+
+    /**
+     * Record a snapshot of the given hiscores CSV for the player if they are tracked.
+     * The snapshot is skipped if the latest snapshot of the player was recorded too recently.
+     *
+     * @param name     Player name
+     * @param statsCsv Hiscores CSV of player
+     */
+    public void record(String name, HiscoresCsv statsCsv) {
+        if(!isTracked(name)) {
+            return;
+        }
+        try {
+            getSeries(name).append(System.currentTimeMillis(), getMetricValues(statsCsv));
+        }
+        catch(IOException e) {
+            System.out.println("Failed to record snapshot for " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Calculate the gains of the given player over the given period (ending now) from the stored snapshots,
+     * along with the player's record gains over any period of the same length.
+     *
+     * @param name   Player name
+     * @param period Period to calculate gains for
+     * @return Gains or null (player isn't tracked or doesn't have enough snapshots)
+     */
+    @Nullable
+    public Gains getGains(String name, PERIOD period) {
+        if(!isTracked(name)) {
+            return null;
+        }
+        try {
+            return getSeries(name).getGains(period.getDuration(), System.currentTimeMillis());
+        }
+        catch(IOException e) {
+            System.out.println("Failed to read snapshots for " + name + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Get the index of the given skill within the metrics of a snapshot
+     *
+     * @param skill Skill name
+     * @return Metric index or -1 if the skill isn't on the hiscores
+     */
+    public static int getMetricIndex(Skill.SKILL_NAME skill) {
+        for(int i = 0; i < SKILL_ORDER.length; i++) {
+            if(SKILL_ORDER[i] == skill) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Get the skills which are tracked, in the order of their metric index
+     *
+     * @return Tracked skills
+     */
+    public static Skill.SKILL_NAME[] getTrackedSkills() {
+        return SKILL_ORDER.clone();
+    }
+
+    /**
+     * Get a value per hiscores metric from the given CSV, XP for skills and score for activities/bosses
+     *
+     * @param statsCsv Hiscores CSV
+     * @return Metric values
+     */
+    private static long[] getMetricValues(HiscoresCsv statsCsv) {
+        final int skillValues = SKILL_ORDER.length * SKILL_VALUES;
+        final int activities = Math.max(0, (statsCsv.size() - skillValues) / ACTIVITY_VALUES);
+        final long[] values = new long[SKILL_ORDER.length + activities];
+
+        for(int i = 0; i < SKILL_ORDER.length; i++) {
+            values[i] = statsCsv.getLong(i * SKILL_VALUES + 2);
+        }
+        for(int i = 0; i < activities; i++) {
+            values[SKILL_ORDER.length + i] = statsCsv.getLong(skillValues + i * ACTIVITY_VALUES + 1);
+        }
+        return values;
+    }
+
+    /**
+     * Snapshot the stats of each tracked player.
+     * Looking up the stats records the snapshot, players are looked up one at a time as this runs in the background.
+     * The stats are fetched from the hiscores rather than the stats cache, as cached stats record nothing.
+     */
+    private void snapshotTrackedPlayers() {
+        final File[] files = directory.listFiles((dir, filename) -> filename.endsWith(FILE_EXTENSION));
+        if(files == null) {
+            return;
+        }
+
+        synchronized(this) {
+            if(hiscores == null) {
+                hiscores = new OSRSHiscores(this);
+            }
+        }
+
+        for(File file : files) {
+            final String filename = file.getName();
+            final String key = filename.substring(0, filename.length() - FILE_EXTENSION.length());
+            String name = key;
+            try {
+                name = getSeries(key, file).getName();
+                hiscores.fetchHiscoresStatsResponse(name, PlayerStats.ACCOUNT.NORMAL, new HashSet<>());
+            }
+            catch(Exception e) {
+                System.out.println("Failed to snapshot " + name + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Get the time series of the given player, loading it from disk if required
+     *
+     * @param name Player name
+     * @return Player time series
+     * @throws IOException If the series file can't be read
+     */
+    private TimeSeries getSeries(String name) throws IOException {
+        return getSeries(getKey(name), getFile(name));
+    }
+
+    /**
+     * Get the time series of the given key, loading it from the given file if required
+     *
+     * @param key  Player key - from {@link #getKey(String)}
+     * @param file Time series file of the player
+     * @return Player time series
+     * @throws IOException If the series file can't be read
+     */
+    private TimeSeries getSeries(String key, File file) throws IOException {
+        TimeSeries series = seriesMap.get(key);
+        if(series == null) {
+            final TimeSeries loaded = TimeSeries.load(file);
+            series = seriesMap.putIfAbsent(key, loaded);
+            if(series == null) {
+                series = loaded;
+            }
+        }
+        return series;
+    }
+
+    /**
+     * Get the key used to store the given player - e.g "Dave Bob" -> "dave_bob"
+     *
+     * @param name Player name
+     * @return Player key
+     */
+    private static String getKey(String name) {
+        return name.trim().toLowerCase().replace(' ', '_').replaceAll("[^a-z0-9_-]", "");
+    }
+
+    /**
+     * Get the time series file of the given player
+     *
+     * @param name Player name
+     * @return Time series file
+     */
+    private File getFile(String name) {
+        return new File(directory, getKey(name) + FILE_EXTENSION);
+    }
+
+    /**
+     * Gains of a player over a period, along with the player's record gains over any period of the same length.
+     * Values are indexed by metric, see {@link #getMetricIndex(Skill.SKILL_NAME)}.
+     */
+    public static class Gains {
+        private final Date start, end;
+        private final long[] gained, record;
+        private final boolean coversPeriod;
+
+        /**
+         * Create the gains
+         *
+         * @param start        Date of the snapshot the gains are calculated from
+         * @param end          Date of the snapshot the gains are calculated to
+         * @param gained       Gained value per metric
+         * @param record       Record gained value per metric
+         * @param coversPeriod Snapshots cover the entire period
+         */
+        public Gains(Date start, Date end, long[] gained, long[] record, boolean coversPeriod) {
+            this.start = start;
+            this.end = end;
+            this.gained = gained;
+            this.record = record;
+            this.coversPeriod = coversPeriod;
+        }
+
+        /**
+         * Get the date of the snapshot the gains are calculated from
+         *
+         * @return Start date
+         */
+        public Date getStartDate() {
+            return start;
+        }
+
+        /**
+         * Get the date of the snapshot the gains are calculated to
+         *
+         * @return End date
+         */
+        public Date getEndDate() {
+            return end;
+        }
+
+        /**
+         * Get the gained value of the given metric
+         *
+         * @param metric Metric index
+         * @return Gained value (0 if the metric isn't in the snapshots)
+         */
+        public long getGained(int metric) {
+            return metric >= 0 && metric < gained.length ? gained[metric] : 0;
+        }
+
+        /**
+         * Get the record gained value of the given metric
+         *
+         * @param metric Metric index
+         * @return Record gained value (0 if the metric isn't in the snapshots)
+         */
+        public long getRecord(int metric) {
+            return metric >= 0 && metric < record.length ? record[metric] : 0;
+        }
+
+        /**
+         * Check whether the snapshots cover the entire period (the player was tracked before the period began)
+         *
+         * @return Snapshots cover period
+         */
+        public boolean coversPeriod() {
+            return coversPeriod;
+        }
+    }
+
+    /**
+     * Append only time series of player snapshots.
+     * The file begins with a header holding the display name of the player: [magic][name length][UTF-8 name]
+     * Each following record holds the time and metric values of a snapshot as variable length deltas from the
+     * previous snapshot: [time delta][metric count][metric deltas...]
+     * Unchanged values encode to a single byte, so a snapshot is usually a few dozen bytes.
+     */
+    private static class TimeSeries {
+        private static final byte[] MAGIC = "XPT1".getBytes(StandardCharsets.US_ASCII);
+        private static final int MAX_NAME_BYTES = 256;
+        private final File file;
+        private String name;
+        private long[] timestamps;
+        private long[][] values;
+        private int size;
+
+        /**
+         * Create an empty time series
+         *
+         * @param file File to append snapshots to
+         */
+        private TimeSeries(File file) {
+            this.file = file;
+            this.timestamps = new long[16];
+            this.values = new long[16][];
+            this.size = 0;
+        }
+
+        /**
+         * Load the time series from the given file (memory mapped).
+         * A partially written trailing record (e.g from a crash while appending) is truncated.
+         *
+         * @param file Time series file
+         * @return Time series
+         * @throws IOException If the file can't be read
+         */
+        public static TimeSeries load(File file) throws IOException {
+            final TimeSeries series = new TimeSeries(file);
+            try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                final long length = channel.size();
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                try {
+                    series.name = decodeHeader(buffer);
+                }
+                catch(BufferUnderflowException e) {
+                    throw new IOException("Missing header in " + file.getName());
+                }
+
+                long time = 0;
+                long[] previous = new long[0];
+                int validLength = buffer.position();
+
+                try {
+                    while(buffer.hasRemaining()) {
+                        time += decodeZigZag(readVarLong(buffer));
+                        final long metrics = readVarLong(buffer);
+
+                        // Corrupt record
+                        if(metrics > MAX_METRICS) {
+                            throw new BufferUnderflowException();
+                        }
+
+                        final long[] snapshot = new long[(int) metrics];
+                        for(int i = 0; i < snapshot.length; i++) {
+                            final long base = i < previous.length ? previous[i] : 0;
+                            snapshot[i] = base + decodeZigZag(readVarLong(buffer));
+                        }
+                        series.add(time, snapshot);
+                        previous = snapshot;
+                        validLength = buffer.position();
+                    }
+                }
+                catch(BufferUnderflowException e) {
+                    System.out.println("Truncating partial snapshot in " + file.getName());
+                    channel.truncate(validLength);
+                }
+            }
+            return series;
+        }
+
+        /**
+         * Encode the header of a time series file holding the given player display name
+         *
+         * @param name Player display name
+         * @return Header bytes
+         */
+        public static byte[] encodeHeader(String name) {
+            final byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            final ByteArrayOutputStream header = new ByteArrayOutputStream(MAGIC.length + nameBytes.length + 1);
+            header.write(MAGIC, 0, MAGIC.length);
+            writeVarLong(header, nameBytes.length);
+            header.write(nameBytes, 0, nameBytes.length);
+            return header.toByteArray();
+        }
+
+        /**
+         * Read the header of a time series file, leaving the buffer positioned at the first record
+         *
+         * @param buffer Buffer of time series file
+         * @return Player display name
+         * @throws IOException              If the header is invalid
+         * @throws BufferUnderflowException If the buffer ends before the header
+         */
+        private static String decodeHeader(ByteBuffer buffer) throws IOException, BufferUnderflowException {
+            final byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if(!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("Invalid header");
+            }
+            final long nameLength = readVarLong(buffer);
+            if(nameLength > MAX_NAME_BYTES) {
+                throw new IOException("Invalid name length: " + nameLength);
+            }
+            final byte[] nameBytes = new byte[(int) nameLength];
+            buffer.get(nameBytes);
+            return new String(nameBytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Get the display name of the player the series belongs to
+         *
+         * @return Player display name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Add a snapshot to the in memory series
+         *
+         * @param time     Time of snapshot
+         * @param snapshot Metric values of snapshot
+         */
+        private void add(long time, long[] snapshot) {
+            if(size == timestamps.length) {
+                timestamps = Arrays.copyOf(timestamps, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            timestamps[size] = time;
+            values[size] = snapshot;
+            size++;
+        }
+
+        /**
+         * Append a snapshot to the series and file.
+         * The snapshot is skipped if the latest snapshot was recorded within the minimum snapshot interval.
+         *
+         * @param time     Time of snapshot
+         * @param snapshot Metric values of snapshot
+         * @throws IOException If the file can't be written to
+         */
+        public synchronized void append(long time, long[] snapshot) throws IOException {
+            final long previousTime = size == 0 ? 0 : timestamps[size - 1];
+            final long[] previous = size == 0 ? new long[0] : values[size - 1];
+
+            if(size > 0 && time - previousTime < MIN_SNAPSHOT_INTERVAL) {
+                return;
+            }
+
+            final ByteArrayOutputStream record = new ByteArrayOutputStream(snapshot.length + 16);
+            writeVarLong(record, encodeZigZag(time - previousTime));
+            writeVarLong(record, snapshot.length);
+            for(int i = 0; i < snapshot.length; i++) {
+                final long base = i < previous.length ? previous[i] : 0;
+                writeVarLong(record, encodeZigZag(snapshot[i] - base));
+            }
+
+            try(FileOutputStream out = new FileOutputStream(file, true)) {
+                record.writeTo(out);
+            }
+            add(time, snapshot);
+        }
+
+        /**
+         * Calculate the gains over the given period ending at the given time.
+         * The gains are calculated from the latest snapshot at or before the start of the period (or the earliest
+         * snapshot if there is none), to the latest snapshot.
+         * Record gains are the largest gains between any two snapshots no further apart than the period.
+         *
+         * @param period Period duration in ms
+         * @param now    Time the period ends
+         * @return Gains or null if there are less than two snapshots
+         */
+        public synchronized Gains getGains(long period, long now) {
+            if(size < 2) {
+                return null;
+            }
+
+            final int last = size - 1;
+            final long periodStart = now - period;
+            final int base = Math.max(0, upperBound(periodStart) - 1);
+            final int metrics = values[last].length;
+
+            final long[] gained = new long[metrics];
+            for(int m = 0; m < metrics; m++) {
+                gained[m] = Math.max(0, getValue(last, m) - getValue(base, m));
+            }
+
+            final long[] record = new long[metrics];
+            int end = 0;
+            for(int start = 0; start < last; start++) {
+                if(end < start) {
+                    end = start;
+                }
+                while(end < last && timestamps[end + 1] - timestamps[start] <= period) {
+                    end++;
+                }
+                for(int m = 0; m < metrics; m++) {
+                    record[m] = Math.max(record[m], getValue(end, m) - getValue(start, m));
+                }
+            }
+
+            return new Gains(
+                    new Date(timestamps[base]),
+                    new Date(timestamps[last]),
+                    gained,
+                    record,
+                    timestamps[0] <= periodStart
+            );
+        }
+
+        /**
+         * Get the index of the first snapshot after the given time
+         *
+         * @param time Time to search for
+         * @return Index of first snapshot after time (size if there is none)
+         */
+        private int upperBound(long time) {
+            int low = 0, high = size;
+            while(low < high) {
+                final int mid = (low + high) >>> 1;
+                if(timestamps[mid] <= time) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Get the value of a metric in a snapshot, unranked (-1) & missing metrics are treated as 0
+         *
+         * @param snapshot Snapshot index
+         * @param metric   Metric index
+         * @return Metric value
+         */
+        private long getValue(int snapshot, int metric) {
+            final long[] snapshotValues = values[snapshot];
+            return metric < snapshotValues.length ? Math.max(0, snapshotValues[metric]) : 0;
+        }
+
+        /**
+         * Write the given value as a variable length long (7 bits per byte)
+         *
+         * @param out   Stream to write to
+         * @param value Unsigned value to write
+         */
+        private static void writeVarLong(ByteArrayOutputStream out, long value) {
+            while((value & ~0x7FL) != 0) {
+                out.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.write((int) value);
+        }
+
+        /**
+         * Read a variable length long (7 bits per byte)
+         *
+         * @param buffer Buffer to read from
+         * @return Unsigned value
+         * @throws BufferUnderflowException If the buffer ends before the value
+         */
+        private static long readVarLong(ByteBuffer buffer) throws BufferUnderflowException {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while((b & 0x80) != 0);
+            return value;
+        }
+
+        /**
+         * Encode a signed value so that small negative values are small unsigned values
+         *
+         * @param value Signed value
+         * @return Unsigned value
+         */
+        private static long encodeZigZag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+
+        /**
+         * Decode a value encoded with {@link #encodeZigZag(long)}
+         *
+         * @param value Unsigned value
+         * @return Signed value
+         */
+        private static long decodeZigZag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
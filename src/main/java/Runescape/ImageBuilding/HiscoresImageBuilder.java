@@ -7,6 +7,7 @@ import Runescape.Hiscores.HiscoresStatsResponse;
 import Runescape.Stats.PlayerStats;
 import Runescape.Stats.PlayerStats.ACCOUNT;
 import net.dv8tion.jda.api.entities.MessageChannel;
+import org.jetbrains.annotations.Nullable;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
@@ -61,6 +62,16 @@ public abstract class HiscoresImageBuilder<S extends PlayerStats, H extends Hisc
         // Display the loading message
         loadingMessage.showLoading();
 
+        // Don't bother waiting on the hiscores when recent requests have failed
+        if(hiscores.isDown()) {
+            loadingMessage.failLoading(
+                    getHiscoresDownMessage(
+                            hiscores.getHiscoresUrlByRank(accountType == ACCOUNT.LOCATE ? ACCOUNT.NORMAL : accountType, 1)
+                    )
+            );
+            return;
+        }
+
         HiscoresStatsResponse<S> response = hiscores.getHiscoresStatsResponse(nameQuery, accountType, args, loadingMessage);
         S stats = response.getStats();
 
@@ -70,8 +81,9 @@ public abstract class HiscoresImageBuilder<S extends PlayerStats, H extends Hisc
             // Request failed, player may exist but there was an issue checking
             if(response.requestFailed()) {
                 loadingMessage.failLoading(
-                        "I wasn't able to connect to the "
-                                + EmbedHelper.embedURL("hiscores", response.getUrl())
+                        hiscores.isDown()
+                                ? getHiscoresDownMessage(response.getUrl())
+                                : "I wasn't able to connect to the " + EmbedHelper.embedURL("hiscores", response.getUrl())
                 );
                 return;
             }
@@ -85,11 +97,41 @@ public abstract class HiscoresImageBuilder<S extends PlayerStats, H extends Hisc
             return;
         }
 
-        BufferedImage playerImage = buildHiscoresImage(stats, args);
+        final EncodedImageCache.ContentKey contentKey = getImageContentKey(stats, args);
+
+        // Identical content has been rendered before, the cached image is used rather than rendering it again
+        final long uploadLimit = loadingMessage.getUploadLimit();
+        final ImageEncoder.EncodedImage playerImage = contentKey == null
+                ? ImageEncoder.getInstance().encode(buildHiscoresImage(stats, args), uploadLimit)
+                : EncodedImageCache.getInstance().get(contentKey, uploadLimit, () -> buildHiscoresImage(stats, args));
+
         loadingMessage.completeStage();
         loadingMessage.completeLoading(playerImage, EmbedHelper.embedURL("View raw data", stats.getUrl()));
     }
 
+    /**
+     * Get the message to display when the hiscores are down
+     *
+     * @param url URL to embed in the message
+     * @return Hiscores down message
+     */
+    private String getHiscoresDownMessage(String url) {
+        return "The " + EmbedHelper.embedURL("hiscores", url) + " are down right now, try again in a bit!";
+    }
+
+    /**
+     * Get a key of everything displayed in the hiscores image built for the given stats & arguments.
+     * Images with the same key are cached in the {@link EncodedImageCache} and not rendered again.
+     *
+     * @param playerStats Player stats
+     * @param args        Hiscores arguments
+     * @return Content key or null (don't cache the image)
+     */
+    @Nullable
+    protected EncodedImageCache.ContentKey getImageContentKey(S playerStats, HashSet<ARGUMENT> args) {
+        return null;
+    }
+
     /**
      * Build the hiscores image
      *
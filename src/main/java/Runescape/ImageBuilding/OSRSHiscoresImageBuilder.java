@@ -2,8 +2,10 @@ package Runescape.ImageBuilding;
 
 import Bot.FontManager;
 import Bot.ResourceHandler;
+import Command.Structure.CommandExecutor;
 import Command.Structure.EmbedHelper;
 import Command.Structure.EmoteHelper;
+import Command.Structure.EncodedImageCache;
 
 import Command.Structure.ImageLoadingMessage;
 import Command.Structure.PieChart;
@@ -26,6 +28,9 @@ import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 
 import static Command.Commands.Lookup.RunescapeLookupCommand.*;
 import static Runescape.Stats.Skill.SKILL_NAME.*;
@@ -36,8 +41,14 @@ import static Runescape.Stats.Skill.SKILL_NAME.*;
 public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerStats, OSRSHiscores> {
     private final Font trackerFont;
     private final Color redOverlay, greenOverlay, blackOverlay, dark, light, highestXpColour, closestToLevelColour;
-    private final DecimalFormat percentageFormat = new DecimalFormat("0.00%");
-    private final SimpleDateFormat displayFormat = new SimpleDateFormat("dd/MM/yyyy");
+
+    // Formats are not thread safe and sections are built concurrently
+    private final ThreadLocal<DecimalFormat> percentageFormat = ThreadLocal.withInitial(
+            () -> new DecimalFormat("0.00%")
+    );
+    private final ThreadLocal<SimpleDateFormat> displayFormat = ThreadLocal.withInitial(
+            () -> new SimpleDateFormat("dd/MM/yyyy")
+    );
 
     private static final float STANDARD_FONT_SIZE = 65;
 
@@ -193,7 +204,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         final int centreVertical = height / 2;
         final int centreHorizontal = boxWidth / 2;
         final BufferedImage row = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        final Font statsFont = getGameFont().deriveFont(70f);
+        final Font statsFont = getGameFont(70f);
         final Color textColour = Color.YELLOW;
         Graphics g;
 
@@ -265,20 +276,20 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
             g.drawString(
                     kills,
-                    centreHorizontal - (fm.stringWidth(kills) / 2),
+                    centreHorizontal - (getStringWidth(g, kills) / 2),
                     midTextBottom
             );
 
             // Rank title will be different colour so must be drawn as two separate Strings
             final String rankTitle = "Rank: ";
             final String rankValue = bossStats.getFormattedRank(); // 1,234
-            final int rankTitleWidth = fm.stringWidth(rankTitle);
+            final int rankTitleWidth = getStringWidth(g, rankTitle);
 
             /*
              * Calculate where to begin drawing the rank title such that when both Strings are drawn beside
              * each other, the full String is centred.
              */
-            final int x = centreHorizontal - ((rankTitleWidth + fm.stringWidth(rankValue)) / 2);
+            final int x = centreHorizontal - ((rankTitleWidth + getStringWidth(g, rankValue)) / 2);
 
             // Draw rank below kills
             final int y = midTextBottom + fm.getMaxAscent() + gap;
@@ -293,7 +304,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             final String bossName = boss.getShortName();
             g.drawString(
                     bossName,
-                    centreHorizontal - (fm.stringWidth(bossName) / 2),
+                    centreHorizontal - (getStringWidth(g, bossName) / 2),
                     midTextBottom - fm.getMaxAscent() - gap
             );
         }
@@ -421,15 +432,15 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             // "182,598,913/299,791,913 (60.91%)"
             value = Skill.formatNumber(xpProgress)
                     + "/" + Skill.formatNumber(goalXp)
-                    + " (" + percentageFormat.format(progressPercentage) + ")";
+                    + " (" + percentageFormat.get().format(progressPercentage) + ")";
 
-            g.setFont(getGameFont().deriveFont(40f));
+            g.setFont(getGameFont(40f));
         }
 
         // Show total XP
         else {
             value = total.getFormattedXp();
-            g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+            g.setFont(getGameFont(STANDARD_FONT_SIZE));
         }
 
         final FontMetrics fm = g.getFontMetrics();
@@ -437,14 +448,14 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         // Match title alignment with the top number of a skill box
         g.drawString(
                 title,
-                centreX - (fm.stringWidth(title) / 2),
+                centreX - (getStringWidth(g, title) / 2),
                 UPPER_SKILL_TEXT_Y
         );
 
         // Match value alignment with the bottom number of a skill box
         g.drawString(
                 value,
-                centreX - (fm.stringWidth(value) / 2),
+                centreX - (getStringWidth(g, value) / 2),
                 LOWER_SKILL_TEXT_Y
         );
 
@@ -480,7 +491,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
                 : args.contains(ARGUMENT.SKILL_XP) ? copyImage(xpSkillBox) : copyImage(skillBox);
 
         Graphics g = skillImage.getGraphics();
-        g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+        g.setFont(getGameFont(STANDARD_FONT_SIZE));
 
         final boolean virtual = args.contains(ARGUMENT.VIRTUAL);
 
@@ -500,7 +511,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             if(args.contains(ARGUMENT.MAX)) {
                 title = title + " " + level;
                 value = "Maxed: " + stats.getTotalMaxedSkills(virtual) + "/" + stats.getSkills().length;
-                g.setFont(getGameFont().deriveFont(45f));
+                g.setFont(getGameFont(45f));
             }
 
             // Only show total level
@@ -513,7 +524,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             // Match alignment with the top number of a skill box
             g.drawString(
                     title,
-                    centreX - (fm.stringWidth(title) / 2),
+                    centreX - (getStringWidth(g, title) / 2),
                     UPPER_SKILL_TEXT_Y
             );
 
@@ -521,7 +532,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             // Match alignment with the bottom number of a skill box
             g.drawString(
                     value,
-                    (skillImage.getWidth() / 2) - (fm.stringWidth(value) / 2),
+                    (skillImage.getWidth() / 2) - (getStringWidth(g, value) / 2),
                     LOWER_SKILL_TEXT_Y
             );
 
@@ -535,11 +546,11 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             final int centreY = skillImage.getHeight() / 2;
 
             final String xp = skill.isRanked() ? skill.getFormattedXp() : "-";
-            g.drawString(level, centreX - (g.getFontMetrics().stringWidth(level) / 2), centreY);
+            g.drawString(level, centreX - (getStringWidth(g, level) / 2), centreY);
 
-            g.setFont(getGameFont().deriveFont(50f));
+            g.setFont(getGameFont(50f));
             FontMetrics fm = g.getFontMetrics();
-            g.drawString(xp, centreX - (fm.stringWidth(xp) / 2), centreY + fm.getMaxAscent());
+            g.drawString(xp, centreX - (getStringWidth(g, xp) / 2), centreY + fm.getMaxAscent());
 
             final BufferedImage icon = skill.getImage(false);
 
@@ -609,12 +620,12 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
                 // Draw progress percentage
                 g.setColor(Color.WHITE);
-                g.setFont(getGameFont().deriveFont(16f));
+                g.setFont(getGameFont(16f));
 
-                final String progress = percentageFormat.format(levelProgress);
+                final String progress = percentageFormat.get().format(levelProgress);
                 g.drawString(
                         progress,
-                        underlay.x + (underlay.width / 2) - (g.getFontMetrics().stringWidth(progress) / 2),
+                        underlay.x + (underlay.width / 2) - (getStringWidth(g, progress) / 2),
                         underlay.y + (underlay.height / 2) + (g.getFontMetrics().getMaxAscent() / 2)
                 );
             }
@@ -872,7 +883,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             Graphics g = summarySection.getGraphics();
 
             g.setColor(Color.YELLOW);
-            g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+            g.setFont(getGameFont(STANDARD_FONT_SIZE));
             FontMetrics fm = g.getFontMetrics();
 
             final String summary = "Ranked in: "
@@ -885,30 +896,30 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
                     (summarySection.getHeight() / 2) + (fm.getMaxAscent() / 2)
             );
 
-            // Draw title and summary section
-            g = image.getGraphics();
-            g.drawImage(buildTitleSection(playerStats), 0, 0, null);
-            g.drawImage(summarySection, titleContainer.getWidth(), 0, null);
-
-            int x = 0, y = titleContainer.getHeight(), drawn = 0;
-
             final int rowsToBuild = imagesToBuild * MAX_BOSSES;
+            final ArrayList<FutureTask<BufferedImage>> bossSections = new ArrayList<>();
 
-            // Create and append each boss section image
+            // Begin building each boss section image
             for(int firstItem = 0; firstItem < rowsToBuild; firstItem += MAX_BOSSES) {
                 List<BossStats> bossesToDraw = firstItem < bossStats.size()
                         ? bossStats.subList(firstItem, Math.min(bossStats.size(), firstItem + MAX_BOSSES))
                         : new ArrayList<>();
 
                 // Pass index + 1 to show number in top left of each boss row - e.g "1", "2", "3"
-                BufferedImage bossSection = buildBossSection(
-                        bossesToDraw,
-                        args,
-                        true,
-                        firstItem + 1
-                );
+                final int position = firstItem + 1;
+                bossSections.add(buildSection(() -> buildBossSection(bossesToDraw, args, true, position)));
+            }
+
+            // Draw title and summary section
+            g = image.getGraphics();
+            g.drawImage(buildTitleSection(playerStats), 0, 0, null);
+            g.drawImage(summarySection, titleContainer.getWidth(), 0, null);
+
+            int x = 0, y = titleContainer.getHeight(), drawn = 0;
 
-                g.drawImage(bossSection, x, y, null);
+            // Append each boss section image in order
+            for(FutureTask<BufferedImage> bossSection : bossSections) {
+                g.drawImage(getSection(bossSection), x, y, null);
 
                 // Move down a row
                 if((drawn + 1) % mandatoryHorizontalImages == 0) {
@@ -933,47 +944,71 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
                     BufferedImage.TYPE_INT_ARGB
             );
 
+            /*
+             * Sections are independent images, begin building them all (largest first) before compositing them
+             * in the layout order. A section which hasn't been started by the time it is required is built here.
+             */
+            final FutureTask<BufferedImage> skillsTask = buildSection(() -> buildSkillsSection(playerStats, args));
+            final FutureTask<BufferedImage> bossTask = buildSection(
+                    () -> buildBossSection(playerStats.getBossStats(), args, true, 1)
+            );
+            final FutureTask<BufferedImage> clueTask = shouldDisplayClues(playerStats)
+                    ? buildSection(() -> buildClueSection(playerStats.getClues(), args))
+                    : null;
+            final FutureTask<BufferedImage> achievementsTask = shouldDisplayAchievements(playerStats)
+                    ? buildSection(() -> buildAchievementsSections(playerStats))
+                    : null;
+            final FutureTask<BufferedImage> leagueUnlockTask = shouldDisplayLeagueUnlocks(playerStats)
+                    ? buildSection(() -> buildLeagueUnlockSection((OSRSLeaguePlayerStats) playerStats))
+                    : null;
+            final FutureTask<BufferedImage> leagueInfoTask = shouldDisplayLeagueInfo(playerStats)
+                    ? buildSection(() -> buildLeagueInfoSection((OSRSLeaguePlayerStats) playerStats))
+                    : null;
+            final FutureTask<BufferedImage> xpTrackerTask = shouldDisplayXpTracker(playerStats)
+                    ? buildSection(() -> buildXpTrackerSection(playerStats))
+                    : null;
+
             Graphics g = image.getGraphics();
             BufferedImage titleSection = buildTitleSection(playerStats);
             g.drawImage(titleSection, 0, 0, null);
 
-            BufferedImage skillsSection = buildSkillsSection(playerStats, args);
+            BufferedImage skillsSection = getSection(skillsTask);
             g.drawImage(skillsSection, 0, titleSection.getHeight(), null);
 
-            BufferedImage bossSection = buildBossSection(playerStats.getBossStats(), args, true, 1);
+            BufferedImage bossSection = getSection(bossTask);
             g.drawImage(bossSection, skillsSection.getWidth(), titleSection.getHeight(), null);
 
             // When optional sections are displayed vertically, they should be displayed below the base image
             int y = titleSection.getHeight() + skillsSection.getHeight();
 
-            if(shouldDisplayClues(playerStats)) {
-                BufferedImage clueSection = buildClueSection(playerStats.getClues(), args);
+            if(clueTask != null) {
+                BufferedImage clueSection = getSection(clueTask);
                 g.drawImage(clueSection, 0, y, null);
                 y += clueSection.getHeight();
             }
 
-            if(shouldDisplayAchievements(playerStats)) {
-                BufferedImage achievementsSections = buildAchievementsSections(playerStats);
+            if(achievementsTask != null) {
+                BufferedImage achievementsSections = getSection(achievementsTask);
                 g.drawImage(achievementsSections, 0, y, null);
                 y += achievementsSections.getHeight();
             }
 
             // Player unlocked regions/relics
-            if(shouldDisplayLeagueUnlocks(playerStats)) {
-                BufferedImage leagueUnlockSection = buildLeagueUnlockSection((OSRSLeaguePlayerStats) playerStats);
+            if(leagueUnlockTask != null) {
+                BufferedImage leagueUnlockSection = getSection(leagueUnlockTask);
                 g.drawImage(leagueUnlockSection, 0, y, null);
                 y += leagueUnlockSection.getHeight();
             }
 
             // League points/tier
-            if(shouldDisplayLeagueInfo(playerStats)) {
-                BufferedImage leagueInfoSection = buildLeagueInfoSection((OSRSLeaguePlayerStats) playerStats);
+            if(leagueInfoTask != null) {
+                BufferedImage leagueInfoSection = getSection(leagueInfoTask);
                 g.drawImage(leagueInfoSection, 0, y, null);
             }
 
             // Display off to the right of the image
-            if(shouldDisplayXpTracker(playerStats)) {
-                BufferedImage xpTrackerSection = buildXpTrackerSection(playerStats);
+            if(xpTrackerTask != null) {
+                BufferedImage xpTrackerSection = getSection(xpTrackerTask);
                 g.drawImage(xpTrackerSection, titleSection.getWidth(), 0, null);
             }
 
@@ -983,6 +1018,123 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         return image;
     }
 
+    @Override
+    protected EncodedImageCache.ContentKey getImageContentKey(OSRSPlayerStats stats, HashSet<ARGUMENT> args) {
+        final EncodedImageCache.ContentKey key = new EncodedImageCache.ContentKey("osrs-hiscores")
+                .add(stats.getName())
+                .add(stats.getAccountType())
+                .add(stats.isHardcore() && ((OSRSHardcorePlayerStats) stats).isDead());
+
+        // Sort as set iteration order isn't guaranteed
+        args.stream().sorted().forEach(key::add);
+
+        final Skill total = stats.getTotalLevel();
+        key.add(total.getRank())
+                .add(total.getLevel())
+                .add(total.getXp())
+                .add(total.getGainedXp())
+                .add(total.getRecordXp());
+
+        for(Skill skill : stats.getSkills()) {
+            key.add(skill.getName())
+                    .add(skill.getRank())
+                    .add(skill.getLevel())
+                    .add(skill.getXp())
+                    .add(skill.getGainedXp())
+                    .add(skill.getRecordXp());
+        }
+
+        for(Clue clue : stats.getClues()) {
+            key.add(clue.getType()).add(clue.getRank()).add(clue.getCompletions());
+        }
+
+        for(BossStats bossStats : stats.getBossStats()) {
+            key.add(bossStats.getBoss().getId()).add(bossStats.getRank()).add(bossStats.getKills());
+        }
+
+        addAchievements(key, stats.getCompletedAchievements());
+        addAchievements(key, stats.getInProgressAchievements());
+        key.add(stats.getTrackerStartDate()).add(stats.getTrackerEndDate());
+
+        if(stats instanceof OSRSLeaguePlayerStats) {
+            final OSRSLeaguePlayerStats leagueStats = (OSRSLeaguePlayerStats) stats;
+            final LeagueTier leagueTier = leagueStats.getLeagueTier();
+            key.add(leagueTier.getTier()).add(leagueTier.getPoints()).add(leagueTier.getRank());
+
+            for(RelicTier relicTier : leagueStats.getRelicTiers()) {
+                key.add(relicTier.getTier()).add(relicTier.getRelicByIndex(0).getId());
+            }
+
+            for(Region region : leagueStats.getRegions()) {
+                key.add(region.getName());
+            }
+        }
+        return key;
+    }
+
+    /**
+     * Add the given achievements to the content key of a hiscores image
+     *
+     * @param key          Content key
+     * @param achievements Achievements to add
+     */
+    private void addAchievements(EncodedImageCache.ContentKey key, ArrayList<Achievement> achievements) {
+        key.add(achievements.size());
+        for(Achievement achievement : achievements) {
+            key.add(achievement.getName())
+                    .add(achievement.getProgress())
+                    .add(achievement.getThreshold())
+                    .add(achievement.getCompletionDate());
+        }
+    }
+
+    /**
+     * Begin building a section of the hiscores image on the CPU pool.
+     * The section is retrieved with {@link #getSection(FutureTask)}.
+     *
+     * @param section Section to build
+     * @return Task building the section
+     */
+    private FutureTask<BufferedImage> buildSection(Callable<BufferedImage> section) {
+        final FutureTask<BufferedImage> task = new FutureTask<>(section);
+
+        // If the pool rejects the task it will be built when the section is retrieved
+        CommandExecutor.getInstance().execute(CommandExecutor.POOL.CPU, task);
+        return task;
+    }
+
+    /**
+     * Get a section of the hiscores image, waiting for it to be built if required.
+     * If the section has not begun building yet (e.g the CPU pool is busy), it is built on the calling thread.
+     *
+     * @param task Task building the section
+     * @return Section image
+     */
+    private BufferedImage getSection(FutureTask<BufferedImage> task) {
+
+        // Does nothing if the task is already running/complete
+        task.run();
+        try {
+            return task.get();
+        }
+        catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while building hiscores image", e);
+        }
+        catch(ExecutionException e) {
+
+            // Throw what building the section on the calling thread would have thrown
+            final Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     /**
      * Build an image displaying the player's league tier & points.
      * This image uses a similar image to the title section
@@ -993,7 +1145,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
     private BufferedImage buildLeagueInfoSection(OSRSLeaguePlayerStats stats) {
         BufferedImage container = copyImage(leagueInfoContainer);
         Graphics g = container.getGraphics();
-        g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+        g.setFont(getGameFont(STANDARD_FONT_SIZE));
         g.setColor(Color.YELLOW);
         FontMetrics fm = g.getFontMetrics();
 
@@ -1006,7 +1158,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
         // Draw league tier on the left side of the image
         if(leagueTier.hasTier()) {
-            BufferedImage tierIcon = getResourceHandler().getImageResource(leagueTier.getTierImagePath());
+            BufferedImage tierIcon = getResourceHandler().getSharedImageResource(leagueTier.getTierImagePath());
 
             g.drawImage(tierIcon, edgePadding, centreVertical - (tierIcon.getHeight() / 2), null);
             g.drawString(
@@ -1212,19 +1364,22 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
      * Each row consists of a description of the achievement, and a pie chart displaying
      * the progress & optional image.
      *
+     * The achievements are sorted in a copy of the list, as the stats may be cached & shared with other lookups.
+     *
      * @param achievements Achievements to display
      * @param comparator   Comparator for sorting achievements (the first 5 will be displayed after sorting)
      * @param title        Title to display
      * @return Image displaying achievements
      */
     private BufferedImage buildAchievementsSection(ArrayList<Achievement> achievements, Comparator<Achievement> comparator, String title) {
-        achievements.sort(comparator);
+        final ArrayList<Achievement> sorted = new ArrayList<>(achievements);
+        sorted.sort(comparator);
         BufferedImage titleImage = buildAchievementsTitleSection(title);
         BufferedImage achievementsImage = copyImage(achievementsContainer);
         Graphics g = achievementsImage.getGraphics();
 
         final int max = 5;
-        final int rowCount = Math.min(achievements.size(), max);
+        final int rowCount = Math.min(sorted.size(), max);
 
         // Always calculate for max achievements
         final int rowHeight = (achievementsImage.getHeight() - (2 * BORDER)) / max;
@@ -1232,7 +1387,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
         int y = BORDER;
         for(int i = 0; i < rowCount; i++) {
-            Achievement achievement = achievements.get(i);
+            Achievement achievement = sorted.get(i);
             final boolean even = i % 2 == 0;
             g.drawImage(
                     buildAchievementRow(
@@ -1271,7 +1426,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
     private BufferedImage buildAchievementsTitleSection(String title) {
         BufferedImage container = copyImage(halfTitleContainer);
         Graphics g = container.getGraphics();
-        g.setFont(getGameFont().deriveFont(80f));
+        g.setFont(getGameFont(80f));
         g.setColor(Color.YELLOW);
         FontMetrics fm = g.getFontMetrics();
 
@@ -1339,7 +1494,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
         if(achievement.isCompleted()) {
             String date = achievement.hasCompletionDate()
-                    ? displayFormat.format(achievement.getCompletionDate())
+                    ? displayFormat.get().format(achievement.getCompletionDate())
                     : "Unknown";
             summary.add("Date: " + date);
         }
@@ -1414,7 +1569,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
     private BufferedImage buildTitleSection(OSRSPlayerStats stats) {
         final BufferedImage container = copyImage(titleContainer);
         final Graphics g = container.getGraphics();
-        g.setFont(getGameFont().deriveFont(140f));
+        g.setFont(getGameFont(140f));
         g.setColor(Color.YELLOW);
         FontMetrics fm = g.getFontMetrics();
 
@@ -1424,7 +1579,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
         g.drawString(name.toUpperCase(), x, centreVertical + (fm.getMaxAscent() / 2));
 
-        g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+        g.setFont(getGameFont(STANDARD_FONT_SIZE));
         fm = g.getFontMetrics();
 
         // Draw account type image if one is available
@@ -1460,7 +1615,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
 
         // Draw combat level on left side of title section
         final String combat = String.valueOf(stats.getCombatLevel());
-        final BufferedImage combatImage = getResourceHandler().getImageResource(Skill.LARGE_COMBAT_IMAGE_PATH);
+        final BufferedImage combatImage = getResourceHandler().getSharedImageResource(Skill.LARGE_COMBAT_IMAGE_PATH);
         g.drawImage(
                 combatImage,
                 edgePadding,
@@ -1472,7 +1627,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         // Draw rank info on right side of title section
         final Skill totalLevel = stats.getTotalLevel();
         final String rank = "Rank: " + totalLevel.getFormattedRank();
-        final BufferedImage rankImage = getResourceHandler().getImageResource(Skill.RANK_IMAGE_PATH);
+        final BufferedImage rankImage = getResourceHandler().getSharedImageResource(Skill.RANK_IMAGE_PATH);
         final int rankX = container.getWidth() - edgePadding - fm.stringWidth(rank);
 
         g.drawString(rank, rankX, textY);
@@ -1537,7 +1692,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         final BufferedImage background = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
         final Graphics g = background.getGraphics();
 
-        g.setFont(getGameFont().deriveFont(STANDARD_FONT_SIZE));
+        g.setFont(getGameFont(STANDARD_FONT_SIZE));
         g.setColor(Color.YELLOW);
         FontMetrics fm = g.getFontMetrics();
 
@@ -1567,11 +1722,11 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         final String name = clue.getType().getName();
         g.drawString(
                 name,
-                centreHorizontal - (fm.stringWidth(name) / 2),
+                centreHorizontal - (getStringWidth(g, name) / 2),
                 centreTextVertical + (fm.getMaxAscent() / 2)
         );
 
-        g.setFont(getGameFont().deriveFont(50f));
+        g.setFont(getGameFont(50f));
         fm = g.getFontMetrics();
 
         // Centre of the area below the clue image
@@ -1581,20 +1736,20 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         final String completions = clue.hasCompletions() ? clue.getFormattedCompletions() : "-";
         g.drawString(
                 completions,
-                centreHorizontal - (fm.stringWidth(completions) / 2),
+                centreHorizontal - (getStringWidth(g, completions) / 2),
                 centreBottom
         );
 
         // Rank title will be different colour so must be drawn as two separate Strings
         final String rankTitle = "Rank: ";
         final String rankValue = clue.getFormattedRank(); // 1,234
-        final int rankTitleWidth = fm.stringWidth(rankTitle);
+        final int rankTitleWidth = getStringWidth(g, rankTitle);
 
         /*
          * Calculate where to begin drawing the rank title such that when both Strings are drawn beside
          * each other, the full String is centred.
          */
-        final int rankX = centreHorizontal - ((rankTitleWidth + fm.stringWidth(rankValue)) / 2);
+        final int rankX = centreHorizontal - ((rankTitleWidth + getStringWidth(g, rankValue)) / 2);
 
         // Draw rank below the centre line of the area below the clue image
         final int y = centreBottom + fm.getMaxAscent();
@@ -1697,9 +1852,9 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
         Date endDate = stats.getTrackerEndDate();
         final String unknown = "UNKNOWN";
 
-        String trackerPeriod = (startDate == null ? unknown : displayFormat.format(stats.getTrackerStartDate()))
+        String trackerPeriod = (startDate == null ? unknown : displayFormat.get().format(stats.getTrackerStartDate()))
                 + " - "
-                + (endDate == null ? unknown : displayFormat.format(stats.getTrackerEndDate()));
+                + (endDate == null ? unknown : displayFormat.get().format(stats.getTrackerEndDate()));
 
         // x & y aligning with hardcoded text in header
         final int headerX = 793;
@@ -1826,9 +1981,9 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
      */
     private BufferedImage buildRelicSection(ArrayList<RelicTier> relicTiers) {
         BufferedImage relicContainer = copyImage(this.relicContainer);
-        BufferedImage lockedRelic = getResourceHandler().getImageResource(Relic.RES + Relic.LOCKED_RELIC_FILENAME);
+        BufferedImage lockedRelic = getResourceHandler().getSharedImageResource(Relic.RES + Relic.LOCKED_RELIC_FILENAME);
         Graphics g = relicContainer.getGraphics();
-        g.setFont(getGameFont().deriveFont(40f));
+        g.setFont(getGameFont(40f));
         FontMetrics fm = g.getFontMetrics();
 
         int x = 170, ogX = 170, y = 170;
@@ -1841,7 +1996,7 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
             }
             else {
                 Relic relic = relicTiers.get(i).getRelicByIndex(0);
-                relicImage = getResourceHandler().getImageResource(relic.getImagePath());
+                relicImage = getResourceHandler().getSharedImageResource(relic.getImagePath());
                 String name = relic.getName();
                 g.drawString(
                         name,
@@ -1877,12 +2032,12 @@ public class OSRSHiscoresImageBuilder extends HiscoresImageBuilder<OSRSPlayerSta
      * @return Image displaying player regions
      */
     private BufferedImage buildRegionSection(ArrayList<Region> regions) {
-        BufferedImage map = getResourceHandler().getImageResource(Region.RES + Region.BASE_MAP_FILENAME);
+        BufferedImage map = getResourceHandler().getImageResourceCopy(Region.RES + Region.BASE_MAP_FILENAME);
         BufferedImage mapContainer = copyImage(this.mapContainer);
         Graphics g = map.getGraphics();
         for(Region region : regions) {
             g.drawImage(
-                    getResourceHandler().getImageResource(region.getImagePath()),
+                    getResourceHandler().getSharedImageResource(region.getImagePath()),
                     0,
                     0,
                     null
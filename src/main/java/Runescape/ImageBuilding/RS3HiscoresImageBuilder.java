@@ -113,7 +113,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
     private BufferedImage buildClanSection(Clan clan, String name) {
         final BufferedImage clanSection = copyImage(this.clanSection);
         Graphics g = clanSection.getGraphics();
-        g.setFont(getGameFont().deriveFont(40f));
+        g.setFont(getGameFont(40f));
         g.setColor(Color.WHITE);
         g.drawImage(clan.getBanner(), clanSection.getWidth() - clan.getBanner().getWidth(), 0, null);
         g.drawString(clan.getName(), 100, 50);
@@ -123,7 +123,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
         String owner = owners.isEmpty() ? "Unknown" : owners.get(0);
 
         int x = 300;
-        g.setFont(getGameFont().deriveFont(25f));
+        g.setFont(getGameFont(25f));
 
         g.drawString(owner, x, 150);
         g.drawString(clan.getRoleByPlayerName(name).getName(), x, 200);
@@ -141,7 +141,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
     private BufferedImage buildClueSection(Clue[] clues) {
         final BufferedImage clueSection = copyImage(this.clueSection);
         Graphics g = clueSection.getGraphics();
-        g.setFont(getGameFont().deriveFont(40f));
+        g.setFont(getGameFont(40f));
         g.setColor(orange);
         int x = 330;
         int y = 174;
@@ -164,7 +164,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
     private BufferedImage buildSkillSection(RS3PlayerStats playerStats, HashSet<ARGUMENT> args) {
         final BufferedImage skillsSection = copyImage(this.skillsSection);
         Graphics g = skillsSection.getGraphics();
-        g.setFont(getGameFont().deriveFont(55f));
+        g.setFont(getGameFont(55f));
 
         // First skill location
         int x = 170, ogX = x;
@@ -198,7 +198,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
         }
 
         g.setColor(Color.WHITE);
-        BufferedImage rankImage = getResourceHandler().getImageResource(Skill.RANK_IMAGE_PATH);
+        BufferedImage rankImage = getResourceHandler().getImageResourceCopy(Skill.RANK_IMAGE_PATH);
         String rank = "Rank: " + playerStats.getTotalLevel().getFormattedRank();
 
         x = 365;
@@ -248,7 +248,7 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
         g = titleSection.getGraphics();
         g.drawImage(scaledAvatar, 110, 124, null);
 
-        g.setFont(getGameFont().deriveFont(75f));
+        g.setFont(getGameFont(75f));
         FontMetrics fm = g.getFontMetrics();
         g.setColor(orange);
 
@@ -293,12 +293,12 @@ public class RS3HiscoresImageBuilder extends HiscoresImageBuilder<RS3PlayerStats
             }
 
             // Build death section outlining how/when/where they died
-            BufferedImage deathSection = getResourceHandler().getImageResource(
+            BufferedImage deathSection = getResourceHandler().getImageResourceCopy(
                     getResourcePath() + "death_section.png"
             );
 
             g = deathSection.getGraphics();
-            g.setFont(getGameFont().deriveFont(20f));
+            g.setFont(getGameFont(20f));
             fm = g.getFontMetrics();
             g.setColor(Color.WHITE);
 
@@ -290,11 +290,12 @@ public class BossManager {
     }
 
     /**
-     * Get an instance of the BossManager class
+     * Get an instance of the BossManager class.
+     * Synchronized so that concurrent lookups don't each load the boss images.
      *
      * @return Instance
      */
-    public static BossManager getInstance() {
+    public static synchronized BossManager getInstance() {
         if(instance == null) {
             instance = new BossManager();
         }
@@ -76,7 +76,7 @@ public class GrandExchange {
             return;
         }
         JSONObject volumeData = new JSONObject(
-                new NetworkRequest(BASE_URL + "volumes", false).get().body
+                new NetworkRequest(BASE_URL + "volumes", false).useCache().get().body
         );
 
         this.itemTradeVolumes = fetchItemTradeVolumes(volumeData.getJSONObject("data"));
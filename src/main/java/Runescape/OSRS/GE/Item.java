@@ -1,5 +1,6 @@
 package Runescape.OSRS.GE;
 
+import Bot.ResourceHandler;
 import Command.Structure.EmbedHelper;
 import org.apache.commons.codec.binary.Hex;
 
@@ -143,34 +144,45 @@ public class Item {
      * Inventory image/High detail user-submitted image
      */
     public static class ItemImage {
-        private final String inventoryImageUrl, highDetailImageUrl, filename;
-        private BufferedImage inventoryImage;
+        private static final ResourceHandler RESOURCE_HANDLER = new ResourceHandler();
+        private final String inventoryImageUrl, highDetailImageUrl, filename, spritePath;
+        private volatile BufferedImage downloadedImage;
+        private volatile boolean spriteMissing;
 
         /**
-         * Create the item image
+         * Create the item image.
+         * The inventory image is not read until it is required.
          *
-         * @param filename       Item filename
-         * @param id             Item id
-         * @param inventoryImage Inventory image
+         * @param filename Item filename
+         * @param id       Item id
          */
-        public ItemImage(String filename, int id, BufferedImage inventoryImage) {
-            this.inventoryImage = inventoryImage;
+        public ItemImage(String filename, int id) {
             this.filename = filename;
+            this.spritePath = ResourceHandler.OSRS_BASE_PATH + "Sprites/" + filename;
+            this.spriteMissing = false;
             this.inventoryImageUrl = generateImageUrl(filename, id);
             this.highDetailImageUrl = generateImageUrl(filename.replace(".png", "_detail.png"), id);
         }
 
         /**
-         * Get the inventory image if it exists.
-         * If not, download and return the image using the URL
+         * Get the inventory image from the item sprites (decoded via the shared image cache) if it exists.
+         * If not, download and return the image using the URL.
+         * The image is shared and must not be drawn on.
          *
          * @return Inventory image
          */
         public BufferedImage getInventoryImage() {
-            if(inventoryImage == null) {
-                this.inventoryImage = EmbedHelper.downloadImage(inventoryImageUrl);
+            if(!spriteMissing) {
+                final BufferedImage sprite = RESOURCE_HANDLER.getSharedImageResource(spritePath);
+                if(sprite != null) {
+                    return sprite;
+                }
+                spriteMissing = true;
             }
-            return inventoryImage;
+            if(downloadedImage == null) {
+                this.downloadedImage = EmbedHelper.downloadImage(inventoryImageUrl);
+            }
+            return downloadedImage;
         }
 
         /**
@@ -1,38 +1,59 @@
 package Runescape.OSRS.GE;
 
-import Bot.ResourceHandler;
+import Command.Structure.CommandExecutor;
 import Network.NetworkRequest;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Tradeable OSRS item manager
  */
 public class ItemManager {
-    private final ResourceHandler resourceHandler;
-    private HashMap<Integer, Item> items;
-    private long lastUpdate;
+    private static final long REFRESH_INTERVAL = 3600000; // 1 hour
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    // Replaced (never modified) when the items are refreshed
+    private volatile HashMap<Integer, Item> items;
+    private volatile long lastUpdate;
 
     /**
      * Get all tradeable OSRS items
      */
     public ItemManager() {
-        this.resourceHandler = new ResourceHandler();
-        refreshData();
+        this.items = fetchItems();
+        this.lastUpdate = System.currentTimeMillis();
     }
 
     /**
-     * Refresh the item data if an hour has passed
+     * Refresh the item data in the background if an hour has passed.
+     * Lookups continue to use the current item data until the refreshed data replaces it.
      */
     private void refreshData() {
-        long now = System.currentTimeMillis();
-        if(items != null && now - lastUpdate < 3600000) {
+        if(System.currentTimeMillis() - lastUpdate < REFRESH_INTERVAL || !refreshing.compareAndSet(false, true)) {
             return;
         }
-        this.items = fetchItems();
-        this.lastUpdate = now;
+
+        final boolean accepted = CommandExecutor.getInstance().execute(CommandExecutor.POOL.IO, () -> {
+            try {
+                final HashMap<Integer, Item> refreshed = fetchItems();
+
+                // Keep the current items if the request failed, it will be attempted again on the next lookup
+                if(!refreshed.isEmpty() || items.isEmpty()) {
+                    this.items = refreshed;
+                    this.lastUpdate = System.currentTimeMillis();
+                }
+            }
+            finally {
+                refreshing.set(false);
+            }
+        });
+
+        if(!accepted) {
+            refreshing.set(false);
+        }
     }
 
     /**
@@ -44,6 +65,7 @@ public class ItemManager {
      */
     public Item[] getItemsByName(String name) {
         refreshData();
+        final HashMap<Integer, Item> items = this.items;
         Item[] matchingItems = items
                 .values()
                 .stream()
@@ -92,9 +114,14 @@ public class ItemManager {
      */
     private HashMap<Integer, Item> fetchItems() {
         HashMap<Integer, Item> itemMap = new HashMap<>();
-        JSONArray items = new JSONArray(
-                new NetworkRequest(GrandExchange.BASE_URL + "mapping", false).get().body
-        );
+        JSONArray items = new NetworkRequest(GrandExchange.BASE_URL + "mapping", false)
+                .useCache()
+                .getJSONArray();
+
+        // Request failed
+        if(items == null) {
+            return itemMap;
+        }
         for(int i = 0; i < items.length(); i++) {
             JSONObject item = items.getJSONObject(i);
             int id = item.getInt("id");
@@ -111,13 +138,7 @@ public class ItemManager {
                             item.has("highalch") ? item.getInt("highalch") : -1,
                             item.has("lowalch") ? item.getInt("lowalch") : -1,
                             item.has("limit") ? item.getInt("limit") : -1,
-                            new Item.ItemImage(
-                                    filename,
-                                    id,
-                                    resourceHandler.getImageResource(
-                                            ResourceHandler.OSRS_BASE_PATH + "Sprites/" + filename
-                                    )
-                            )
+                            new Item.ItemImage(filename, id)
                     )
             );
         }
@@ -1,5 +1,7 @@
 package Runescape.OSRS.Polling;
 
+import Network.NetworkRequest;
+import Network.NetworkResponse;
 import Runescape.OSRS.Polling.Poll.PollBuilder;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -82,7 +84,12 @@ public class PollManager {
      */
     private Poll completePoll(Poll poll) {
         try {
-            Document doc = Jsoup.connect(poll.getUrl()).get();
+            // Closed polls don't change, revalidate against the cached page rather than downloading it again
+            NetworkResponse response = new NetworkRequest(poll.getUrl(), false).useCache().get();
+            if(response.code != 200) {
+                return null;
+            }
+            Document doc = Jsoup.parse(response.body, poll.getUrl());
             poll = new PollBuilder()
                     .setPollNumber(poll.getNumber())
                     .setTitle(poll.getTitle())
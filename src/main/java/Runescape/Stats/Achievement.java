@@ -135,14 +135,14 @@ public class Achievement {
             case BOSS:
                 return BossManager.getInstance().getBossByName(metric).getIconImage();
             case SKILL:
-                return resourceHandler.getImageResource(Skill.SKILL_NAME.fromName(metric).getImagePath(false));
+                return resourceHandler.getImageResourceCopy(Skill.SKILL_NAME.fromName(metric).getImagePath(false));
             case CLUE:
                 Clue.TYPE clueType = Clue.TYPE.fromTypeName(getClueTypeName(metric));
-                return resourceHandler.getImageResource(
+                return resourceHandler.getImageResourceCopy(
                         ResourceHandler.OSRS_BASE_PATH + clueType.getIconImagePath()
                 );
             case LMS:
-                return resourceHandler.getImageResource(LastManStanding.POINTS_ICON);
+                return resourceHandler.getImageResourceCopy(LastManStanding.POINTS_ICON);
             default:
                 return null;
         }
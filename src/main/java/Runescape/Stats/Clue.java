@@ -156,7 +156,7 @@ public class Clue extends RankedMetric {
      */
     @Nullable
     public BufferedImage getFullImage(String basePath) {
-        return new ResourceHandler().getImageResource(basePath + type.getFullImagePath());
+        return new ResourceHandler().getImageResourceCopy(basePath + type.getFullImagePath());
     }
 
     /**
@@ -167,6 +167,6 @@ public class Clue extends RankedMetric {
      */
     @Nullable
     public BufferedImage getIconImage(String basePath) {
-        return new ResourceHandler().getImageResource(basePath + type.getIconImagePath());
+        return new ResourceHandler().getImageResourceCopy(basePath + type.getIconImagePath());
     }
 }
\ No newline at end of file
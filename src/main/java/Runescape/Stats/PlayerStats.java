@@ -112,7 +112,7 @@ public abstract class PlayerStats {
         public BufferedImage getIcon() {
 
             // E.g "iron.png"
-            return new ResourceHandler().getImageResource(IMAGE_PATH + this.name().toLowerCase() + ".png");
+            return new ResourceHandler().getImageResourceCopy(IMAGE_PATH + this.name().toLowerCase() + ".png");
         }
 
         /**
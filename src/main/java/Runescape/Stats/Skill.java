@@ -1,6 +1,7 @@
 package Runescape.Stats;
 
 import Bot.ResourceHandler;
+import Runescape.Hiscores.HiscoresCsv;
 
 import javax.annotation.Nullable;
 import java.awt.image.BufferedImage;
@@ -140,7 +141,7 @@ public class Skill extends RankedMetric {
      * @param xpAtMaxLevel XP at the max level for the skill - e.g the XP for level 99
      * @param maxXp        Maximum possible XP in skill
      */
-    public Skill(SKILL_NAME name, int rankIndex, String[] csv, long xpAtMaxLevel, long maxXp) {
+    public Skill(SKILL_NAME name, int rankIndex, HiscoresCsv csv, long xpAtMaxLevel, long maxXp) {
         this(
                 name,
                 parseRank(csv, rankIndex),
@@ -158,7 +159,7 @@ public class Skill extends RankedMetric {
      * @param rankIndex Index of skill rank value - other values can be obtained relative to this index
      * @param csv       CSV from API
      */
-    public Skill(SKILL_NAME name, int rankIndex, String[] csv) {
+    public Skill(SKILL_NAME name, int rankIndex, HiscoresCsv csv) {
         this(
                 name,
                 rankIndex,
@@ -175,8 +176,8 @@ public class Skill extends RankedMetric {
      * @param rankIndex Index of skill rank value - other values can be obtained relative to this index
      * @return Skill rank
      */
-    protected static int parseRank(String[] csv, int rankIndex) {
-        return Integer.parseInt(csv[rankIndex]);
+    protected static int parseRank(HiscoresCsv csv, int rankIndex) {
+        return csv.getInt(rankIndex);
     }
 
     /**
@@ -186,8 +187,8 @@ public class Skill extends RankedMetric {
      * @param rankIndex Index of skill rank value - other values can be obtained relative to this index
      * @return Skill level
      */
-    protected static int parseLevel(String[] csv, int rankIndex) {
-        return Integer.parseInt(csv[rankIndex + 1]);
+    protected static int parseLevel(HiscoresCsv csv, int rankIndex) {
+        return csv.getInt(rankIndex + 1);
     }
 
     /**
@@ -197,8 +198,8 @@ public class Skill extends RankedMetric {
      * @param rankIndex Index of skill rank value - other values can be obtained relative to this index
      * @return Skill XP
      */
-    protected static long parseXp(String[] csv, int rankIndex) {
-        return Long.parseLong(csv[rankIndex + 2]);
+    protected static long parseXp(HiscoresCsv csv, int rankIndex) {
+        return csv.getLong(rankIndex + 2);
     }
 
     /**
@@ -265,7 +266,7 @@ public class Skill extends RankedMetric {
      */
     @Nullable
     public BufferedImage getImage(boolean large) {
-        return new ResourceHandler().getImageResource(name.getImagePath(large));
+        return new ResourceHandler().getImageResourceCopy(name.getImagePath(large));
     }
 
     /**
@@ -1,5 +1,7 @@
 package Runescape.Stats;
 
+import Runescape.Hiscores.HiscoresCsv;
+
 /**
  * Total level skill
  */
@@ -33,7 +35,7 @@ public class TotalLevel extends Skill {
      * @param skills    Player skills to calculate total level values from
      * @return Total level
      */
-    public static TotalLevel fromSkills(int rankIndex, String[] csv, Skill[] skills) {
+    public static TotalLevel fromSkills(int rankIndex, HiscoresCsv csv, Skill[] skills) {
         int virtualLevel = 0, maxTotalLevel = 0;
         long xpAtMaxLevel = 0, maxXp = 0;
 
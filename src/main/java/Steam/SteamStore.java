@@ -1,12 +1,14 @@
 package Steam;
 
 import Network.NetworkRequest;
+import Network.NetworkResponse;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -54,8 +56,9 @@ public class SteamStore {
         if(now - lastFetched < 3600000) {
             return;
         }
-        fetchAppIdentifiers();
-        lastFetched = now;
+        if(fetchAppIdentifiers()) {
+            lastFetched = now;
+        }
     }
 
     /**
@@ -89,14 +92,22 @@ public class SteamStore {
 
     /**
      * Fetch the list of all apps on the Steam store. The information provided for each
-     * app is the unique application id and name. Add any unseen applications to the map of id -> name
+     * app is the unique application id and name. Add any unseen applications to the map of id -> name.
+     * The app list is several megabytes, so it is parsed as it is streamed rather than read in to a String first.
+     *
+     * @return App list was fetched
      */
-    private void fetchAppIdentifiers() {
-        String json = new NetworkRequest(
+    private boolean fetchAppIdentifiers() {
+        JSONObject appListResponse = new NetworkRequest(
                 STEAM_API_BASE_URL + "ISteamApps/GetAppList/v0002/?format=json", false
-        ).get().body;
+        ).useCache().getJSONObject();
+
+        // Request failed
+        if(appListResponse == null) {
+            return false;
+        }
 
-        JSONArray appList = new JSONObject(json).getJSONObject("applist").getJSONArray("apps");
+        JSONArray appList = appListResponse.getJSONObject("applist").getJSONArray("apps");
         for(int i = 0; i < appList.length(); i++) {
             JSONObject application = appList.getJSONObject(i);
             int id = application.getInt("appid");
@@ -105,6 +116,7 @@ public class SteamStore {
             }
             appIdentifiers.put(id, new AppInfo(id, application.getString("name")));
         }
+        return true;
     }
 
     /**
@@ -115,16 +127,21 @@ public class SteamStore {
      */
     public Application fetchApplicationDetails(AppInfo appInfo) {
         try {
-            String detailsJSON = new NetworkRequest(
-                    "https://store.steampowered.com/api/appdetails?appids="
-                            + appInfo.getId() + "&currency=NZD",
-                    false
-            ).get().body;
-
-            String metricsJSON = new NetworkRequest(
-                    steamSpyBaseUrl + "appdetails&appid=" + appInfo.getId(),
-                    false
-            ).get().body;
+            // Details & metrics are independent, fetch them concurrently
+            List<NetworkResponse> responses = NetworkRequest.allOf(
+                    new NetworkRequest(
+                            "https://store.steampowered.com/api/appdetails?appids="
+                                    + appInfo.getId() + "&currency=NZD",
+                            false
+                    ).getAsync(),
+                    new NetworkRequest(
+                            steamSpyBaseUrl + "appdetails&appid=" + appInfo.getId(),
+                            false
+                    ).getAsync()
+            ).join();
+
+            String detailsJSON = responses.get(0).body;
+            String metricsJSON = responses.get(1).body;
 
             JSONObject details = new JSONObject(detailsJSON)
                     .getJSONObject(String.valueOf(appInfo.getId()))
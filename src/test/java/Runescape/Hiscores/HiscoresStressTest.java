@@ -0,0 +1,495 @@
+package Runescape.Hiscores;
+
+import Network.HostGuard;
+import Runescape.OSRS.Boss.BossManager;
+import Runescape.OSRS.Boss.BossStats;
+import Runescape.Stats.OSRSPlayerStats;
+import Runescape.Stats.PlayerStats;
+import Runescape.Stats.RS3PlayerStats;
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.Assert.*;
+
+/**
+ * Make hundreds of concurrent hiscores lookups against a local stub of the hiscores, checking that each lookup
+ * receives the stats (or the not found/failed status) of its own player, and that each lookup makes exactly the
+ * requests it requires.
+ * Hiscores instances are shared by every lookup, so any state of a lookup held on the instance shows up here as
+ * stats or failures belonging to another lookup.
+ * The stats cache is disabled so that every lookup is made against the stub.
+ */
+public class HiscoresStressTest {
+    private static final String
+            NAME_PREFIX = "stress",
+            RS3_STATS_PATH = "/m=" + RS3Hiscores.MVALUE + "/index_lite.ws";
+    private static final int
+            PLAYERS = 100,
+            LOOKUPS = 400,
+            LOOKUPS_PER_PLAYER = LOOKUPS / PLAYERS,
+            THREADS = 50,
+            TIMEOUT_SECONDS = 120;
+
+    // Account types of the OSRS players, the located account type of a player is one of these
+    private static final PlayerStats.ACCOUNT[] OSRS_ACCOUNT_TYPES = new PlayerStats.ACCOUNT[]{
+            PlayerStats.ACCOUNT.NORMAL,
+            PlayerStats.ACCOUNT.IRON,
+            PlayerStats.ACCOUNT.HARDCORE,
+            PlayerStats.ACCOUNT.ULTIMATE
+    };
+
+    @Rule
+    public final TemporaryFolder xpTrackerDirectory = new TemporaryFolder();
+
+    private MockWebServer server;
+    private StubHiscores stub;
+    private String baseUrl;
+
+    /**
+     * Start the stub hiscores
+     *
+     * @throws IOException If the stub fails to start
+     */
+    @Before
+    public void setUp() throws IOException {
+        stub = new StubHiscores();
+        server = new MockWebServer();
+        server.setDispatcher(stub);
+        server.start();
+
+        final HttpUrl url = server.url("/");
+        baseUrl = url.toString();
+
+        // The stub fails some players on purpose, the breaker must not open and fail the lookups of the others
+        HostGuard.getInstance().setCircuitBreaker(url.host(), Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Stop the stub hiscores
+     *
+     * @throws IOException If the stub fails to stop
+     */
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * Each RS3 player is looked up several times at once, a mix of existing, missing, & failing players.
+     * Each lookup makes a single request to the hiscores API.
+     *
+     * @throws Exception If a lookup throws or doesn't complete in time
+     */
+    @Test
+    public void rs3ConcurrentLookupsReceiveTheirOwnStats() throws Exception {
+        final RS3Hiscores hiscores = new RS3Hiscores();
+        hiscores.setBaseUrl(baseUrl);
+        hiscores.setStatsCacheTtl(0, 0);
+
+        final List<HiscoresStatsResponse<RS3PlayerStats>> responses = lookUp(
+                lookup -> hiscores.getHiscoresStatsResponse(
+                        getName(lookup % PLAYERS),
+                        PlayerStats.ACCOUNT.NORMAL,
+                        new HashSet<>()
+                )
+        );
+
+        for(int i = 0; i < LOOKUPS; i++) {
+            assertLookup(i % PLAYERS, PlayerStats.ACCOUNT.NORMAL, responses.get(i));
+        }
+
+        for(int player = 0; player < PLAYERS; player++) {
+            assertEquals(
+                    getName(player) + " stats requests",
+                    LOOKUPS_PER_PLAYER,
+                    stub.getRequestCount(RS3_STATS_PATH, player)
+            );
+        }
+
+        assertEquals(0, hiscores.getStatsCacheHits());
+        assertEquals(LOOKUPS, hiscores.getStatsCacheMisses());
+    }
+
+    /**
+     * Each OSRS player is looked up several times at once, a mix of existing, missing, & failing players of each
+     * account type. Half of the lookups of a player locate the account type (requesting each account type's hiscores
+     * concurrently), the other half look up the player's account type directly.
+     * Hardcore ironmen are also checked for a death on the hardcore ironman ranking page.
+     *
+     * @throws Exception If a lookup throws or doesn't complete in time
+     */
+    @Test
+    public void osrsConcurrentLookupsReceiveTheirOwnStats() throws Exception {
+        final OSRSHiscores hiscores = new OSRSHiscores(new XpTracker(xpTrackerDirectory.getRoot()));
+        hiscores.setBaseUrl(baseUrl);
+        hiscores.setStatsCacheTtl(0, 0);
+
+        final List<HiscoresStatsResponse<OSRSPlayerStats>> responses = lookUp(
+                lookup -> hiscores.getHiscoresStatsResponse(
+                        getName(lookup % PLAYERS),
+                        isLocateLookup(lookup) ? PlayerStats.ACCOUNT.LOCATE : getAccountType(lookup % PLAYERS),
+                        new HashSet<>()
+                )
+        );
+
+        for(int i = 0; i < LOOKUPS; i++) {
+            final int player = i % PLAYERS;
+            assertLookup(player, getAccountType(player), responses.get(i));
+        }
+
+        // Half of the lookups of each player are located
+        final int located = LOOKUPS_PER_PLAYER / 2, direct = LOOKUPS_PER_PLAYER - located;
+
+        for(int player = 0; player < PLAYERS; player++) {
+            final PlayerStats.ACCOUNT playerAccountType = getAccountType(player);
+            final boolean exists = !isMissing(player) && !isFailing(player);
+
+            for(PlayerStats.ACCOUNT accountType : OSRS_ACCOUNT_TYPES) {
+                final String path = getOsrsStatsPath(accountType);
+                final int requests = stub.getRequestCount(path, player);
+                final int expected = (accountType == playerAccountType ? direct : 0)
+                        + (isRequiredToLocate(accountType, playerAccountType, exists) ? located : 0);
+
+                // Requests not required to locate the player are cancelled, they may be made before the cancellation
+                if(isRequiredToLocate(accountType, playerAccountType, exists)) {
+                    assertEquals(getName(player) + " " + path + " requests", expected, requests);
+                }
+                else {
+                    assertTrue(
+                            getName(player) + " " + path + " requests: " + requests,
+                            requests >= expected && requests <= expected + located
+                    );
+                }
+            }
+
+            // Checked once for each lookup which parses the hardcore ironman stats
+            assertEquals(
+                    getName(player) + " hardcore ironman ranking page requests",
+                    playerAccountType == PlayerStats.ACCOUNT.HARDCORE && exists ? LOOKUPS_PER_PLAYER : 0,
+                    stub.getRequestCount(getOsrsHardcoreRankingPath(), player)
+            );
+        }
+
+        assertEquals(0, hiscores.getStatsCacheHits());
+        assertEquals(LOOKUPS, hiscores.getStatsCacheMisses());
+    }
+
+    /**
+     * Make each of the lookups at once & wait for them to complete
+     *
+     * @param lookupFunction Function to make the lookup of the given number
+     * @param <S>            PlayerStats type
+     * @return Responses in the order of lookup number
+     * @throws Exception If a lookup throws or doesn't complete in time
+     */
+    private <S extends PlayerStats> List<HiscoresStatsResponse<S>> lookUp(IntFunction<HiscoresStatsResponse<S>> lookupFunction) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<HiscoresStatsResponse<S>>> lookups = new ArrayList<>();
+
+        try {
+            for(int i = 0; i < LOOKUPS; i++) {
+                final int lookup = i;
+                lookups.add(executor.submit(() -> {
+                    start.await();
+                    return lookupFunction.apply(lookup);
+                }));
+            }
+
+            // Release every lookup at once
+            start.countDown();
+
+            final List<HiscoresStatsResponse<S>> responses = new ArrayList<>();
+            for(Future<HiscoresStatsResponse<S>> lookup : lookups) {
+                responses.add(lookup.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            return responses;
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Check that the given lookup response is the expected response for the given player
+     *
+     * @param player      Player number
+     * @param accountType Expected account type of the player's stats
+     * @param response    Lookup response
+     */
+    private void assertLookup(int player, PlayerStats.ACCOUNT accountType, HiscoresStatsResponse<? extends PlayerStats> response) {
+        final String name = getName(player);
+        assertEquals(name, response.getName());
+
+        if(isFailing(player)) {
+            assertNull(name + " should have no stats", response.getStats());
+            assertTrue(name + " should have failed", response.requestFailed());
+            return;
+        }
+
+        assertFalse(name + " should not have failed", response.requestFailed());
+
+        if(isMissing(player)) {
+            assertNull(name + " should not exist", response.getStats());
+            return;
+        }
+
+        final PlayerStats stats = response.getStats();
+        assertNotNull(name + " should exist", stats);
+        assertEquals(name, stats.getName());
+        assertEquals(accountType, stats.getAccountType());
+        assertEquals(getTotalXp(player), stats.getTotalXp());
+    }
+
+    /**
+     * Check whether the hiscores of the given account type must be checked to locate a player.
+     * The normal & ironman hiscores are always checked, the hardcore ironman hiscores are checked for any ironman,
+     * and the ultimate ironman hiscores are checked for an ironman who isn't a hardcore ironman.
+     *
+     * @param accountType       Account type of hiscores
+     * @param playerAccountType Account type of the player
+     * @param exists            Player exists on the normal hiscores
+     * @return Hiscores are required to locate the player
+     */
+    private static boolean isRequiredToLocate(PlayerStats.ACCOUNT accountType, PlayerStats.ACCOUNT playerAccountType, boolean exists) {
+        switch(accountType) {
+            case NORMAL:
+                return true;
+            case IRON:
+                return exists;
+            case HARDCORE:
+                return exists && playerAccountType != PlayerStats.ACCOUNT.NORMAL;
+            case ULTIMATE:
+                return exists
+                        && (playerAccountType == PlayerStats.ACCOUNT.IRON
+                        || playerAccountType == PlayerStats.ACCOUNT.ULTIMATE);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Check if the given lookup should locate the account type of the player
+     *
+     * @param lookup Lookup number
+     * @return Lookup locates the player
+     */
+    private static boolean isLocateLookup(int lookup) {
+        return (lookup / PLAYERS) % 2 == 0;
+    }
+
+    /**
+     * Get the name of the given player
+     *
+     * @param player Player number
+     * @return Player name - e.g "stress12"
+     */
+    private static String getName(int player) {
+        return NAME_PREFIX + player;
+    }
+
+    /**
+     * Get the OSRS account type of the given player
+     *
+     * @param player Player number
+     * @return Account type
+     */
+    private static PlayerStats.ACCOUNT getAccountType(int player) {
+        return OSRS_ACCOUNT_TYPES[player % OSRS_ACCOUNT_TYPES.length];
+    }
+
+    /**
+     * Check if the given player doesn't exist on the stub hiscores (404)
+     *
+     * @param player Player number
+     * @return Player doesn't exist
+     */
+    private static boolean isMissing(int player) {
+        return player % 10 == 9;
+    }
+
+    /**
+     * Check if the stub hiscores fail to respond for the given player (504)
+     *
+     * @param player Player number
+     * @return Request for player fails
+     */
+    private static boolean isFailing(int player) {
+        return player % 25 == 0;
+    }
+
+    /**
+     * Get the total XP the stub hiscores responds with for the given player, unique to each player.
+     * The XP is the same on the hiscores of each account type the player appears on, so the player is located as
+     * their own account type.
+     *
+     * @param player Player number
+     * @return Total XP
+     */
+    private static long getTotalXp(int player) {
+        return 1000000L + player * 1000L;
+    }
+
+    /**
+     * Get the path to the OSRS hiscores API of the given account type
+     *
+     * @param accountType Account type
+     * @return API path - e.g "/m=hiscore_oldschool_ironman/index_lite.ws"
+     */
+    private static String getOsrsStatsPath(PlayerStats.ACCOUNT accountType) {
+        return "/m=" + OSRSHiscores.MVALUE + accountType.getUrlSuffix() + "/index_lite.ws";
+    }
+
+    /**
+     * Get the path to the OSRS hardcore ironman ranking page
+     *
+     * @return Ranking page path - e.g "/m=hiscore_oldschool_hardcore_ironman/overall"
+     */
+    private static String getOsrsHardcoreRankingPath() {
+        return "/m=" + OSRSHiscores.MVALUE + PlayerStats.ACCOUNT.HARDCORE.getUrlSuffix()
+                + "/" + OSRSHiscores.RANKING_PAGE;
+    }
+
+    /**
+     * Stub of the RS3 & OSRS hiscores, responding with the stats CSV of the requested player on the hiscores API of
+     * each account type the player appears on, and with a ranking page holding only the requested player on the
+     * OSRS hardcore ironman hiscores.
+     * The requests for each path are counted per player.
+     */
+    private static class StubHiscores extends Dispatcher {
+        private static final int
+                RS3_SKILLS = 28,
+                RS3_ACTIVITIES = 40,
+                OSRS_SKILLS = 24,
+                OSRS_ACTIVITIES = (BossStats.BOSS_START_INDEX - OSRS_SKILLS * 3) / 2
+                        + BossManager.getIdsInHiscoresOrder().length;
+        private final ConcurrentHashMap<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            final HttpUrl url = request.getRequestUrl();
+            final String path = url.encodedPath();
+            final boolean rankingPage = path.equals(getOsrsHardcoreRankingPath());
+            final String name = url.queryParameter(rankingPage ? "user" : "player");
+
+            if(name == null || !name.startsWith(NAME_PREFIX)) {
+                return new MockResponse().setResponseCode(404);
+            }
+
+            final int player = Integer.parseInt(name.substring(NAME_PREFIX.length()));
+            requestCounts.computeIfAbsent(getKey(path, player), key -> new AtomicInteger()).incrementAndGet();
+
+            if(isFailing(player)) {
+                return new MockResponse().setResponseCode(504);
+            }
+
+            if(isMissing(player)) {
+                return new MockResponse().setResponseCode(404);
+            }
+
+            if(rankingPage) {
+                return new MockResponse()
+                        .setResponseCode(200)
+                        .setHeader("Content-Type", "text/html")
+                        .setBody(buildRankingPage(player));
+            }
+
+            if(path.equals(RS3_STATS_PATH)) {
+                return new MockResponse().setResponseCode(200).setBody(buildCsv(player, RS3_SKILLS, RS3_ACTIVITIES));
+            }
+
+            for(PlayerStats.ACCOUNT accountType : OSRS_ACCOUNT_TYPES) {
+                if(!path.equals(getOsrsStatsPath(accountType))) {
+                    continue;
+                }
+
+                // Ironmen appear on the normal & ironman hiscores along with the hiscores of their own account type
+                final PlayerStats.ACCOUNT playerAccountType = getAccountType(player);
+                if(accountType == PlayerStats.ACCOUNT.NORMAL
+                        || accountType == playerAccountType
+                        || accountType == PlayerStats.ACCOUNT.IRON && playerAccountType != PlayerStats.ACCOUNT.NORMAL) {
+                    return new MockResponse()
+                            .setResponseCode(200)
+                            .setBody(buildCsv(player, OSRS_SKILLS, OSRS_ACTIVITIES));
+                }
+            }
+            return new MockResponse().setResponseCode(404);
+        }
+
+        /**
+         * Get the number of requests received for the given path & player
+         *
+         * @param path   Request path - e.g {@link #RS3_STATS_PATH}
+         * @param player Player number
+         * @return Number of requests
+         */
+        public int getRequestCount(String path, int player) {
+            final AtomicInteger count = requestCounts.get(getKey(path, player));
+            return count == null ? 0 : count.get();
+        }
+
+        /**
+         * Get the key to count the requests of the given path & player under
+         *
+         * @param path   Request path
+         * @param player Player number
+         * @return Request count key
+         */
+        private static String getKey(String path, int player) {
+            return path + "|" + player;
+        }
+
+        /**
+         * Build the hiscores CSV of the given player.
+         * The overall line holds the unique total XP, followed by the skill & activity lines.
+         *
+         * @param player     Player number
+         * @param skills     Number of skill lines (excluding overall)
+         * @param activities Number of activity lines
+         * @return Hiscores CSV
+         */
+        private static String buildCsv(int player, int skills, int activities) {
+            final StringBuilder csv = new StringBuilder()
+                    .append(player + 1).append(",2000,").append(getTotalXp(player)).append("\n");
+
+            for(int i = 0; i < skills; i++) {
+                csv.append(i + 1).append(",99,13034431\n");
+            }
+            for(int i = 0; i < activities; i++) {
+                csv.append("-1,-1\n");
+            }
+            return csv.toString();
+        }
+
+        /**
+         * Build the hardcore ironman ranking page holding the given player, who hasn't died
+         *
+         * @param player Player number
+         * @return Ranking page HTML
+         */
+        private static String buildRankingPage(int player) {
+            return "<html><body><table><tbody>"
+                    + "<tr class=\"personal-hiscores__row\">"
+                    + "<td class=\"right\">" + (player + 1) + "</td>"
+                    + "<td class=\"left\">" + getName(player) + "</td>"
+                    + "</tr>"
+                    + "</tbody></table></body></html>";
+        }
+    }
+}